@@ -0,0 +1,256 @@
+package benchmarks;
+
+import heap.QueueFactory;
+import model.Paciente;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Benchmarks de todas las colas que entrega {@code QueueFactory.getQueue}.
+ * Mide agregar, atender y ver pacientes en una cola de tamaño estable, la carga completa
+ * (uno a uno y en bloque) y el vaciado de la cola.
+ *
+ * <p>Los pacientes siguen una distribución realista de códigos de emergencia (pocos casos A,
+ * la mayoría C y D) y llegan en orden de tiempo con un desorden configurable: una fracción
+ * {@code desorden} de los pacientes tiene una hora de llegada atrasada hasta {@code desfase}
+ * segundos. La semilla es fija para que los resultados sean reproducibles.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 2, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+public class ColasBenchmark {
+    /**
+     * Operaciones por invocación de la carga de trabajo mixta.
+     */
+    private static final int RAFAGA = 16;
+
+    /**
+     * Semilla de los datos generados.
+     */
+    private static final long SEMILLA = 8L;
+
+    /**
+     * Códigos de emergencia y su frecuencia acumulada (en porcentaje).
+     */
+    private static final String[] CODIGOS = {"A", "B", "C", "D", "E"};
+    private static final int[] FRECUENCIA_ACUMULADA = {5, 20, 50, 80, 100};
+
+    /**
+     * El tipo de cola, tal como se pasa a {@code QueueFactory.getQueue}.
+     */
+    @Param({"priorityqueue", "vectorheap", "dheap", "dheap:8", "bucket", "primitiveheap", "indexedheap", "aging", "pairingheap", "concurrent", "sharded:4"})
+    public String cola;
+
+    /**
+     * La cantidad de pacientes en la cola.
+     */
+    @Param({"1000", "10000", "100000", "1000000", "10000000"})
+    public int tamano;
+
+    /**
+     * Fracción de pacientes que llegan fuera de orden.
+     */
+    @Param({"0.1"})
+    public double desorden;
+
+    /**
+     * Atraso máximo, en segundos, de los pacientes que llegan fuera de orden.
+     */
+    @Param({"300"})
+    public int desfase;
+
+    /**
+     * Pacientes con los que se llena la cola.
+     */
+    private List<Paciente> pacientes;
+
+    /**
+     * Pacientes adicionales que se agregan durante la medición, en orden circular.
+     * Su cantidad es una potencia de dos.
+     */
+    private Paciente[] llegadas;
+
+    /**
+     * Posición de la siguiente llegada.
+     */
+    private int siguiente;
+
+    /**
+     * La cola medida.
+     */
+    private Queue<Paciente> colaLlena;
+
+    /**
+     * Genera los pacientes.
+     */
+    @Setup(Level.Trial)
+    public void prepararDatos() {
+        SplittableRandom aleatorio = new SplittableRandom(SEMILLA);
+        LocalDateTime inicio = LocalDateTime.of(2024, 1, 1, 0, 0);
+        int cantidadDeLlegadas = Math.max(RAFAGA, Integer.highestOneBit(Math.min(tamano, 1 << 16)));
+        pacientes = new ArrayList<>(tamano);
+        for (int i = 0; i < tamano; i++) {
+            pacientes.add(generarPaciente(aleatorio, inicio, i));
+        }
+        llegadas = new Paciente[cantidadDeLlegadas];
+        for (int i = 0; i < cantidadDeLlegadas; i++) {
+            llegadas[i] = generarPaciente(aleatorio, inicio, tamano + i);
+        }
+    }
+
+    /**
+     * Llena la cola antes de cada iteración.
+     */
+    @Setup(Level.Iteration)
+    public void llenarCola() {
+        colaLlena = QueueFactory.getQueue(cola);
+        colaLlena.addAll(pacientes);
+        siguiente = 0;
+    }
+
+    /**
+     * Crea un paciente con un código según la distribución realista y una hora de llegada
+     * que avanza un segundo por paciente, con desorden.
+     *
+     * @param aleatorio El generador de números aleatorios.
+     * @param inicio    La hora de llegada del primer paciente.
+     * @param numero    El número del paciente.
+     * @return El paciente creado.
+     */
+    private Paciente generarPaciente(SplittableRandom aleatorio, LocalDateTime inicio, int numero) {
+        int porcentaje = aleatorio.nextInt(100);
+        int codigo = 0;
+        while (porcentaje >= FRECUENCIA_ACUMULADA[codigo]) {
+            codigo++;
+        }
+        long segundos = numero;
+        if (aleatorio.nextDouble() < desorden) {
+            segundos -= aleatorio.nextInt(desfase + 1);
+        }
+        return new Paciente("Paciente " + numero, "Síntoma " + (numero % 50),
+                CODIGOS[codigo], inicio.plusSeconds(segundos).plusNanos(aleatorio.nextInt(1_000_000_000)));
+    }
+
+    /**
+     * Devuelve el siguiente paciente a agregar durante la medición.
+     *
+     * @return El paciente.
+     */
+    private Paciente siguienteLlegada() {
+        Paciente paciente = llegadas[siguiente];
+        siguiente = (siguiente + 1) & (llegadas.length - 1);
+        return paciente;
+    }
+
+    /**
+     * Agrega un paciente y atiende al de mayor prioridad, con la cola en tamaño estable.
+     *
+     * @return El paciente atendido.
+     */
+    @Benchmark
+    public Paciente agregarYAtender() {
+        colaLlena.add(siguienteLlegada());
+        return colaLlena.remove();
+    }
+
+    /**
+     * Consulta el paciente con mayor prioridad.
+     *
+     * @return El paciente con mayor prioridad.
+     */
+    @Benchmark
+    public Paciente ver() {
+        return colaLlena.peek();
+    }
+
+    /**
+     * Carga de trabajo mixta: una ráfaga de llegadas seguida de la misma cantidad de atenciones.
+     *
+     * @param sumidero Consume los pacientes atendidos.
+     */
+    @Benchmark
+    @OperationsPerInvocation(2 * RAFAGA)
+    public void rafagaMixta(Blackhole sumidero) {
+        for (int i = 0; i < RAFAGA; i++) {
+            colaLlena.add(siguienteLlegada());
+        }
+        for (int i = 0; i < RAFAGA; i++) {
+            sumidero.consume(colaLlena.remove());
+        }
+    }
+
+    /**
+     * Llena una cola vacía agregando los pacientes uno a uno.
+     *
+     * @return La cola llena.
+     */
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    @Warmup(iterations = 5, batchSize = 1)
+    @Measurement(iterations = 10, batchSize = 1)
+    public Queue<Paciente> cargarUnoAUno() {
+        Queue<Paciente> nueva = QueueFactory.getQueue(cola);
+        for (Paciente paciente : pacientes) {
+            nueva.add(paciente);
+        }
+        return nueva;
+    }
+
+    /**
+     * Llena una cola vacía con {@code addAll}.
+     *
+     * @return La cola llena.
+     */
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    @Warmup(iterations = 5, batchSize = 1)
+    @Measurement(iterations = 10, batchSize = 1)
+    public Queue<Paciente> cargarEnBloque() {
+        Queue<Paciente> nueva = QueueFactory.getQueue(cola);
+        nueva.addAll(pacientes);
+        return nueva;
+    }
+
+    /**
+     * Atiende a todos los pacientes de la cola llena, en orden de prioridad.
+     * La cola se vuelve a llenar antes de cada iteración.
+     *
+     * @param sumidero Consume los pacientes atendidos.
+     */
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    @Warmup(iterations = 5, batchSize = 1)
+    @Measurement(iterations = 10, batchSize = 1)
+    public void vaciar(Blackhole sumidero) {
+        Paciente paciente;
+        while ((paciente = colaLlena.poll()) != null) {
+            sumidero.consume(paciente);
+        }
+    }
+}
@@ -0,0 +1,299 @@
+package app;
+
+import io.FechaIso;
+import model.Paciente;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.net.SocketException;
+import java.nio.charset.StandardCharsets;
+import java.time.DateTimeException;
+import java.time.LocalDateTime;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Modo servidor del sistema de atención: expone la cola de un {@link SistemaDeAtencion} en un
+ * puerto TCP local con un protocolo de texto de una línea por comando y una línea por respuesta.
+ *
+ * <p>Comandos:
+ * <ul>
+ *   <li>{@code ADD nombre,descripción,código[,fecha/hora]}: agrega un paciente; si no se indica la
+ *       fecha/hora se usa la actual. Responde {@code OK}.</li>
+ *   <li>{@code NEXT}: atiende al paciente con mayor prioridad. Responde {@code OK} seguido de la ficha
+ *       del paciente ({@code nombre,descripción,código,fecha/hora}) o {@code EMPTY}.</li>
+ *   <li>{@code PEEK}: igual que {@code NEXT}, sin atender al paciente.</li>
+ *   <li>{@code SIZE}: responde {@code OK} seguido de la cantidad de pacientes en espera.</li>
+ *   <li>{@code STATS}: responde {@code OK} seguido de pares {@code clave=valor} con los contadores del servidor.</li>
+ * </ul>
+ * Los errores se responden con {@code ERR} seguido de un mensaje.
+ *
+ * <p>Cada conexión se atiende en su propio hilo y admite comandos encadenados: el cliente puede
+ * enviar varios comandos sin esperar las respuestas, que llegan en el mismo orden. Las respuestas se
+ * envían al socket solo cuando no quedan comandos leídos pendientes, para agrupar varias en una
+ * sola escritura. Los comandos de todas las conexiones se ejecutan de a uno sobre el sistema.
+ */
+public class ServidorDeAtencion implements Closeable {
+    /**
+     * Puerto utilizado cuando no se indica otro.
+     */
+    public static final int PUERTO_POR_DEFECTO = 7070;
+
+    /**
+     * El sistema cuya cola se expone. Todas las operaciones se sincronizan sobre él.
+     */
+    private final SistemaDeAtencion sistema;
+
+    /**
+     * Socket que acepta conexiones en la interfaz local.
+     */
+    private final ServerSocket servidor;
+
+    /**
+     * Hilos que atienden las conexiones, uno por conexión.
+     */
+    private final ExecutorService hilos;
+
+    /**
+     * Conexiones abiertas, para cerrarlas al detener el servidor.
+     */
+    private final Set<Socket> abiertas = ConcurrentHashMap.newKeySet();
+
+    /**
+     * Contadores expuestos por el comando {@code STATS}.
+     */
+    private final AtomicInteger conexiones = new AtomicInteger();
+    private final LongAdder comandos = new LongAdder();
+    private final LongAdder altas = new LongAdder();
+    private final LongAdder atenciones = new LongAdder();
+    private final LongAdder errores = new LongAdder();
+
+    /**
+     * Crea el servidor y lo asocia a un puerto de la interfaz local. No acepta conexiones hasta
+     * que se llama a {@link #iniciar()} o {@link #atender()}.
+     *
+     * @param sistema El sistema cuya cola se expone.
+     * @param puerto  El puerto TCP; con 0 se elige uno libre.
+     * @throws IOException Si no se puede abrir el puerto.
+     */
+    public ServidorDeAtencion(SistemaDeAtencion sistema, int puerto) throws IOException {
+        this.sistema = sistema;
+        this.servidor = new ServerSocket(puerto, 128, InetAddress.getLoopbackAddress());
+        AtomicInteger numero = new AtomicInteger();
+        this.hilos = Executors.newCachedThreadPool(tarea -> {
+            Thread hilo = new Thread(tarea, "conexion-" + numero.incrementAndGet());
+            hilo.setDaemon(true);
+            return hilo;
+        });
+    }
+
+    /**
+     * Obtiene el puerto en el que escucha el servidor.
+     *
+     * @return El número de puerto.
+     */
+    public int getPuerto() {
+        return servidor.getLocalPort();
+    }
+
+    /**
+     * Empieza a aceptar conexiones en un hilo aparte y regresa de inmediato.
+     */
+    public void iniciar() {
+        Thread aceptador = new Thread(this::atender, "servidor-de-atencion");
+        aceptador.setDaemon(true);
+        aceptador.start();
+    }
+
+    /**
+     * Acepta conexiones hasta que el servidor se cierra. Cada conexión se atiende en su propio hilo.
+     */
+    public void atender() {
+        while (!servidor.isClosed()) {
+            try {
+                Socket conexion = servidor.accept();
+                conexion.setTcpNoDelay(true);
+                abiertas.add(conexion);
+                hilos.execute(() -> atenderConexion(conexion));
+            } catch (IOException e) {
+                if (!servidor.isClosed()) {
+                    System.out.println("Error al aceptar una conexión: " + e.getMessage());
+                }
+            }
+        }
+    }
+
+    /**
+     * Lee los comandos de una conexión y escribe sus respuestas hasta que el cliente la cierra.
+     *
+     * @param conexion La conexión.
+     */
+    private void atenderConexion(Socket conexion) {
+        conexiones.incrementAndGet();
+        try (conexion;
+             BufferedReader lector = new BufferedReader(new InputStreamReader(conexion.getInputStream(), StandardCharsets.UTF_8));
+             BufferedWriter escritor = new BufferedWriter(new OutputStreamWriter(conexion.getOutputStream(), StandardCharsets.UTF_8))) {
+            String linea;
+            while ((linea = lector.readLine()) != null) {
+                escritor.write(ejecutar(linea));
+                escritor.write('\n');
+                if (!lector.ready()) {
+                    escritor.flush();
+                }
+            }
+        } catch (SocketException e) {
+            // La conexión se cerró desde el otro extremo o al detener el servidor.
+        } catch (IOException e) {
+            System.out.println("Error en la conexión: " + e.getMessage());
+        } finally {
+            abiertas.remove(conexion);
+            conexiones.decrementAndGet();
+        }
+    }
+
+    /**
+     * Ejecuta un comando y devuelve la respuesta, sin el salto de línea. Un error de la cola se
+     * responde con {@code ERR} en lugar de cerrar la conexión, para no desordenar las respuestas
+     * de los comandos encadenados.
+     *
+     * @param linea La línea con el comando.
+     * @return La respuesta.
+     */
+    String ejecutar(String linea) {
+        comandos.increment();
+        int espacio = linea.indexOf(' ');
+        String comando = (espacio < 0 ? linea : linea.substring(0, espacio)).trim().toUpperCase();
+        String argumento = espacio < 0 ? "" : linea.substring(espacio + 1);
+        try {
+            return ejecutar(comando, argumento);
+        } catch (RuntimeException e) {
+            errores.increment();
+            return "ERR " + e.getMessage();
+        }
+    }
+
+    /**
+     * Ejecuta un comando ya separado de su argumento.
+     *
+     * @param comando   El nombre del comando, en mayúsculas.
+     * @param argumento El resto de la línea.
+     * @return La respuesta.
+     */
+    private String ejecutar(String comando, String argumento) {
+        switch (comando) {
+            case "ADD" -> {
+                Paciente paciente = leerPaciente(argumento);
+                if (paciente == null) {
+                    errores.increment();
+                    return "ERR Formato: ADD nombre,descripción,código[,fecha/hora] con código de A a E";
+                }
+                synchronized (sistema) {
+                    sistema.agregarPaciente(paciente);
+                }
+                altas.increment();
+                return "OK";
+            }
+            case "NEXT" -> {
+                Paciente paciente;
+                synchronized (sistema) {
+                    paciente = sistema.atenderPaciente();
+                }
+                if (paciente == null) {
+                    return "EMPTY";
+                }
+                atenciones.increment();
+                return "OK " + escribirPaciente(paciente);
+            }
+            case "PEEK" -> {
+                Paciente paciente;
+                synchronized (sistema) {
+                    paciente = sistema.verSiguientePaciente();
+                }
+                return paciente == null ? "EMPTY" : "OK " + escribirPaciente(paciente);
+            }
+            case "SIZE" -> {
+                synchronized (sistema) {
+                    return "OK " + sistema.cantidadDePacientes();
+                }
+            }
+            case "STATS" -> {
+                int enEspera;
+                synchronized (sistema) {
+                    enEspera = sistema.cantidadDePacientes();
+                }
+                return "OK enEspera=" + enEspera + " conexiones=" + conexiones.get() + " comandos=" + comandos.sum()
+                        + " altas=" + altas.sum() + " atenciones=" + atenciones.sum() + " errores=" + errores.sum();
+            }
+            default -> {
+                errores.increment();
+                return "ERR Comando no soportado: " + comando;
+            }
+        }
+    }
+
+    /**
+     * Interpreta la ficha de un paciente del comando {@code ADD}.
+     *
+     * @param ficha El texto {@code nombre,descripción,código[,fecha/hora]}.
+     * @return El paciente, o {@code null} si la ficha no es válida.
+     */
+    private static Paciente leerPaciente(String ficha) {
+        String[] datos = ficha.split(",");
+        if (datos.length != 3 && datos.length != 4) {
+            return null;
+        }
+        String codigoDeEmergencia = datos[2].trim().toUpperCase();
+        if (!codigoDeEmergencia.matches("[A-E]")) {
+            return null;
+        }
+        LocalDateTime currentDateTime;
+        try {
+            currentDateTime = datos.length == 4 ? FechaIso.leer(datos[3]) : LocalDateTime.now();
+        } catch (DateTimeException e) {
+            return null;
+        }
+        return new Paciente(datos[0].trim(), datos[1].trim(), codigoDeEmergencia, currentDateTime);
+    }
+
+    /**
+     * Escribe la ficha de un paciente en el mismo formato que el archivo de fichas.
+     *
+     * @param paciente El paciente.
+     * @return El texto {@code nombre,descripción,código,fecha/hora}.
+     */
+    private static String escribirPaciente(Paciente paciente) {
+        StringBuilder ficha = new StringBuilder(96).append(paciente.getNombreDelPaciente()).append(',')
+                .append(paciente.getDescripcionDelSintoma()).append(',')
+                .append(paciente.getCodigoDeEmergencia()).append(',');
+        return FechaIso.escribir(paciente.getCurrentDateTime(), ficha).toString();
+    }
+
+    /**
+     * Deja de aceptar conexiones y cierra las conexiones abiertas.
+     *
+     * @throws IOException Si ocurre un error al cerrar el socket del servidor.
+     */
+    @Override
+    public void close() throws IOException {
+        servidor.close();
+        for (Socket conexion : abiertas) {
+            try {
+                conexion.close();
+            } catch (IOException e) {
+                // La conexión ya estaba cerrada.
+            }
+        }
+        hilos.shutdown();
+    }
+}
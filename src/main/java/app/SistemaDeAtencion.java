@@ -0,0 +1,736 @@
+package app;
+
+import heap.AgingQueue;
+import heap.ContadoresDeHeap;
+import heap.QueueFactory;
+import heap.VectorHeap;
+import io.CargadorDeFichas;
+import io.DiarioDePacientes;
+import io.EscritorDeFichas;
+import io.GuardadoEnSegundoPlano;
+import io.InstantaneaBinaria;
+import io.ReporteDeCarga;
+import metrics.Histograma;
+import metrics.Metricas;
+import model.Paciente;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Queue;
+import java.util.Scanner;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Clase principal que gestiona el sistema de atención de pacientes.
+ * Permite cargar, guardar y gestionar pacientes en una cola de prioridad.
+ */
+public class SistemaDeAtencion {
+    /**
+     * Cantidad de operaciones registradas en el diario antes de compactarlo.
+     */
+    private static final int OPERACIONES_POR_COMPACTACION = 10_000;
+
+    /**
+     * Milisegundos máximos entre una operación y su sincronización con el disco en modo diario.
+     */
+    private static final long INTERVALO_DE_SINCRONIZACION = 50;
+
+    /**
+     * Milisegundos máximos entre una operación y el inicio del guardado que la incluye en segundo plano.
+     */
+    private static final long INTERVALO_DE_GUARDADO = 200;
+
+    /**
+     * Latencia, en nanosegundos, de agregar, atender y ver pacientes, incluida la persistencia.
+     */
+    private static final Histograma LATENCIA_DE_AGREGAR = Metricas.global().histograma("sistema.agregar.ns");
+    private static final Histograma LATENCIA_DE_ATENDER = Metricas.global().histograma("sistema.atender.ns");
+    private static final Histograma LATENCIA_DE_VER = Metricas.global().histograma("sistema.ver.ns");
+
+    /**
+     * Duración, en nanosegundos, de cargar y guardar las fichas en el formato configurado.
+     */
+    private static final Histograma DURACION_DE_CARGA = Metricas.global().histograma("sistema.cargar.ns");
+    private static final Histograma DURACION_DE_GUARDADO = Metricas.global().histograma("sistema.guardar.ns");
+
+    /**
+     * Bytes escritos al guardar las fichas.
+     */
+    private static final LongAdder BYTES_ESCRITOS = Metricas.global().contador("sistema.guardar.bytes");
+
+    /**
+     * Líneas aceptadas y rechazadas, por motivo, al cargar las fichas.
+     */
+    private static final LongAdder LINEAS_ACEPTADAS = Metricas.global().contador("sistema.cargar.aceptadas");
+    private static final LongAdder RECHAZADAS_POR_FORMATO = Metricas.global().contador("sistema.cargar.rechazadas.formato");
+    private static final LongAdder RECHAZADAS_POR_FECHA = Metricas.global().contador("sistema.cargar.rechazadas.fecha");
+
+    private final Queue<Paciente> pacientes;
+
+    /**
+     * Diario de operaciones; es {@code null} si el sistema guarda el archivo completo tras cada operación.
+     */
+    private DiarioDePacientes diario;
+
+    /**
+     * Guardado en segundo plano; es {@code null} si las fichas se guardan tras cada operación.
+     */
+    private GuardadoEnSegundoPlano guardado;
+
+    /**
+     * Escritor de las fichas en CSV, que reutiliza su búfer entre guardados.
+     */
+    private final EscritorDeFichas escritor = new EscritorDeFichas();
+
+    /**
+     * Operaciones registradas en el diario desde la última compactación.
+     */
+    private int operacionesSinCompactar;
+
+    /**
+     * Indica si las fichas se guardan y cargan en formato binario ("pacientes.bin") en lugar de CSV.
+     */
+    private boolean instantaneaBinaria;
+
+    /**
+     * Constructor que inicializa el sistema con una cola de prioridad específica.
+     *
+     * @param cola El tipo de cola a utilizar: "priorityqueue" o "vectorheap".
+     */
+    public SistemaDeAtencion(String cola) {
+        this.pacientes = QueueFactory.getQueue(cola);
+    }
+
+    /**
+     * Registra en las métricas globales el tamaño de la cola y, si la cola es un {@code VectorHeap},
+     * sus contadores de operaciones; si es una {@code AgingQueue}, las esperas por código.
+     * Los nombres de los medidores son globales, así que solo lo llama {@link #main(String[])}
+     * para el sistema del proceso; otras instancias, como las de las pruebas, no los reemplazan.
+     */
+    private void registrarMedidores() {
+        Metricas metricas = Metricas.global();
+        metricas.medidor("sistema.enEspera", pacientes::size);
+        if (pacientes instanceof VectorHeap<Paciente> heap) {
+            ContadoresDeHeap contadores = heap.getContadores();
+            metricas.medidor("heap.agregados", contadores::getAgregados);
+            metricas.medidor("heap.eliminados", contadores::getEliminados);
+            metricas.medidor("heap.consultas", contadores::getConsultas);
+            metricas.medidor("heap.comparaciones", contadores::getComparaciones);
+            metricas.medidor("heap.reordenamientos", contadores::getReordenamientos);
+            metricas.medidor("heap.niveles", contadores::getNiveles);
+            metricas.medidor("heap.profundidadMaxima", contadores::getProfundidadMaxima);
+        }
+        if (pacientes instanceof AgingQueue envejecimiento) {
+            envejecimiento.getEsperas().publicar(metricas, "esperas");
+        }
+    }
+
+    /**
+     * Carga las fichas de pacientes desde un archivo llamado "pacientes.txt".
+     * Si el archivo no existe, lo crea vacío.
+     * Los datos deben estar en el formato: nombre, descripción, código de emergencia, fecha/hora.
+     * El archivo se lee con {@link CargadorDeFichas}, que lo procesa en paralelo, y las fichas leídas
+     * se agregan a la cola en un solo lote para que el heap se construya en tiempo lineal.
+     * Las líneas rechazadas se agregan al archivo "pacientes.rechazadas" y se cuentan en las métricas.
+     */
+    public void cargarFichaDePacientes() {
+        File archivo = new File("pacientes.txt");
+        try {
+            if (!archivo.exists()) {
+                System.out.println("No existe el archivo de las fichas, creando uno.");
+                archivo.createNewFile();
+            }
+            ReporteDeCarga reporte = new ReporteDeCarga(Path.of("pacientes.rechazadas"), ReporteDeCarga.MUESTRAS_POR_DEFECTO);
+            pacientes.addAll(CargadorDeFichas.cargar(archivo.toPath(), reporte));
+            LINEAS_ACEPTADAS.add(reporte.getAceptadas());
+            RECHAZADAS_POR_FORMATO.add(reporte.getRechazadasPorFormato());
+            RECHAZADAS_POR_FECHA.add(reporte.getRechazadasPorFecha());
+            if (reporte.getRechazadas() > 0) {
+                System.out.println("Se rechazaron " + reporte.getRechazadas() + " líneas; se agregaron a "
+                        + reporte.getCuarentena() + ".");
+            }
+        } catch (IOException e) {
+            System.out.println("Error al cargar el archivo: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Guarda las fichas de pacientes en un archivo llamado "pacientes.txt".
+     * Los datos se guardan en el formato: nombre, descripción, código de emergencia, fecha/hora.
+     * El archivo se escribe por partes y reemplaza al anterior de forma atómica.
+     */
+    public void guardarFichasDePacientes() {
+        escribirFichasDePacientes(pacientes);
+    }
+
+    /**
+     * Escribe las fichas de los pacientes indicados en el archivo "pacientes.txt" con {@link EscritorDeFichas}.
+     *
+     * @param pacientes Los pacientes a guardar.
+     */
+    private void escribirFichasDePacientes(Collection<Paciente> pacientes) {
+        try {
+            BYTES_ESCRITOS.add(escritor.guardar(Path.of("pacientes.txt"), pacientes));
+        } catch (IOException e) {
+            System.out.println("Error al guardar el archivo: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Guarda la cola en el archivo binario "pacientes.bin" (ver {@link InstantaneaBinaria}).
+     */
+    public void guardarInstantaneaBinaria() {
+        escribirInstantaneaBinaria(pacientes);
+    }
+
+    /**
+     * Escribe los pacientes indicados en el archivo binario "pacientes.bin".
+     *
+     * @param pacientes Los pacientes a guardar.
+     */
+    private static void escribirInstantaneaBinaria(Collection<Paciente> pacientes) {
+        try {
+            BYTES_ESCRITOS.add(InstantaneaBinaria.guardar(Path.of("pacientes.bin"), pacientes));
+        } catch (IOException e) {
+            System.out.println("Error al guardar la instantánea: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Carga la cola desde el archivo binario "pacientes.bin", si existe.
+     */
+    public void cargarInstantaneaBinaria() {
+        Path archivo = Path.of("pacientes.bin");
+        if (!archivo.toFile().exists()) {
+            System.out.println("No existe la instantánea binaria de las fichas.");
+            return;
+        }
+        try {
+            pacientes.addAll(InstantaneaBinaria.cargar(archivo));
+        } catch (IOException e) {
+            System.out.println("Error al cargar la instantánea: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Indica que las fichas se guardan y cargan en formato binario en lugar de CSV.
+     */
+    public void usarInstantaneaBinaria() {
+        instantaneaBinaria = true;
+    }
+
+    /**
+     * Carga las fichas en el formato configurado.
+     */
+    public void cargarFichas() {
+        long inicio = System.nanoTime();
+        try {
+            if (instantaneaBinaria) {
+                cargarInstantaneaBinaria();
+            } else {
+                cargarFichaDePacientes();
+            }
+        } finally {
+            DURACION_DE_CARGA.registrar(System.nanoTime() - inicio);
+        }
+    }
+
+    /**
+     * Guarda las fichas en el formato configurado.
+     */
+    private void guardarFichas() {
+        escribirFichas(pacientes);
+    }
+
+    /**
+     * Escribe los pacientes indicados en el formato configurado.
+     *
+     * @param pacientes Los pacientes a guardar.
+     */
+    private void escribirFichas(Collection<Paciente> pacientes) {
+        long inicio = System.nanoTime();
+        try {
+            if (instantaneaBinaria) {
+                escribirInstantaneaBinaria(pacientes);
+            } else {
+                escribirFichasDePacientes(pacientes);
+            }
+        } finally {
+            DURACION_DE_GUARDADO.registrar(System.nanoTime() - inicio);
+        }
+    }
+
+    /**
+     * Activa el guardado en segundo plano: las operaciones ya no escriben el archivo de fichas,
+     * sino que anotan el cambio y un hilo aparte guarda la cola como máximo una vez por intervalo
+     * (ver {@link GuardadoEnSegundoPlano}). No tiene efecto en modo diario.
+     */
+    public void activarGuardadoEnSegundoPlano() {
+        if (diario == null && guardado == null) {
+            guardado = new GuardadoEnSegundoPlano(pacientes, this::escribirFichas, INTERVALO_DE_GUARDADO);
+            Metricas.global().medidor("sistema.guardado.escrituras", guardado::getEscrituras);
+            Metricas.global().medidor("sistema.guardado.cambios", guardado::getCambiosEscritos);
+        }
+    }
+
+    /**
+     * Activa el modo diario: en lugar de reescribir "pacientes.txt" tras cada operación, las operaciones
+     * se agregan a "pacientes.log" y el diario se compacta cada cierta cantidad de operaciones.
+     * Reconstruye la cola a partir del diario; si el diario no es autocontenido, primero carga las fichas.
+     */
+    public void activarDiario() {
+        try {
+            diario = new DiarioDePacientes(Path.of("pacientes.log"), INTERVALO_DE_SINCRONIZACION);
+            if (!diario.esAutocontenido()) {
+                cargarFichas();
+            }
+            diario.reproducir(pacientes);
+        } catch (IOException e) {
+            System.out.println("Error al abrir el diario: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Agrega un paciente a la cola y persiste la operación.
+     *
+     * @param nuevoPaciente El paciente a agregar.
+     * @return {@code true} si el paciente fue agregado.
+     */
+    public boolean agregarPaciente(Paciente nuevoPaciente) {
+        long inicio = System.nanoTime();
+        try {
+            boolean agregado = pacientes.add(nuevoPaciente);
+            if (guardado != null) {
+                guardado.registrarAlta(nuevoPaciente);
+                return agregado;
+            }
+            if (diario == null) {
+                guardarFichas();
+                return agregado;
+            }
+            try {
+                diario.registrarAlta(nuevoPaciente);
+                despuesDeRegistrar(1);
+            } catch (IOException e) {
+                System.out.println("Error al escribir en el diario: " + e.getMessage());
+            }
+            return agregado;
+        } finally {
+            LATENCIA_DE_AGREGAR.registrar(System.nanoTime() - inicio);
+        }
+    }
+
+    /**
+     * Atiende (elimina de la cola) al paciente con mayor prioridad y persiste la operación.
+     *
+     * @return El paciente atendido, o {@code null} si no hay pacientes.
+     */
+    public Paciente atenderPaciente() {
+        long inicio = System.nanoTime();
+        try {
+            Paciente pacienteAtendido = pacientes.poll();
+            if (guardado != null) {
+                if (pacienteAtendido != null) {
+                    guardado.registrarAtencion(pacienteAtendido);
+                }
+                return pacienteAtendido;
+            }
+            if (diario == null) {
+                guardarFichas();
+                return pacienteAtendido;
+            }
+            if (pacienteAtendido != null) {
+                try {
+                    diario.registrarAtencion(pacienteAtendido);
+                    despuesDeRegistrar(1);
+                } catch (IOException e) {
+                    System.out.println("Error al escribir en el diario: " + e.getMessage());
+                }
+            }
+            return pacienteAtendido;
+        } finally {
+            LATENCIA_DE_ATENDER.registrar(System.nanoTime() - inicio);
+        }
+    }
+
+    /**
+     * Agrega un lote de pacientes a la cola y persiste la operación una sola vez.
+     * Si la cola es un {@code VectorHeap}, el lote se agrega con {@code agregarLote}.
+     *
+     * @param nuevosPacientes Los pacientes a agregar.
+     * @return La cantidad de pacientes agregados.
+     */
+    public int agregarPacientes(Collection<Paciente> nuevosPacientes) {
+        int agregados;
+        if (pacientes instanceof VectorHeap<Paciente> heap) {
+            agregados = heap.agregarLote(nuevosPacientes);
+        } else {
+            int antes = pacientes.size();
+            pacientes.addAll(nuevosPacientes);
+            agregados = pacientes.size() - antes;
+        }
+        if (guardado != null) {
+            for (Paciente paciente : nuevosPacientes) {
+                guardado.registrarAlta(paciente);
+            }
+            return agregados;
+        }
+        if (diario == null) {
+            guardarFichas();
+            return agregados;
+        }
+        try {
+            // Se escriben todos los registros antes de compactar: la cola ya contiene el lote completo,
+            // así que una compactación a mitad del lote dejaría registros repetidos después de la base.
+            for (Paciente paciente : nuevosPacientes) {
+                diario.registrarAlta(paciente);
+            }
+            despuesDeRegistrar(nuevosPacientes.size());
+        } catch (IOException e) {
+            System.out.println("Error al escribir en el diario: " + e.getMessage());
+        }
+        return agregados;
+    }
+
+    /**
+     * Atiende a los {@code cantidad} pacientes con mayor prioridad y persiste la operación una sola vez.
+     * Si la cola es un {@code VectorHeap}, los pacientes se extraen con {@code atenderLote}.
+     *
+     * @param cantidad La cantidad de pacientes a atender.
+     * @return Los pacientes atendidos, en orden de prioridad; pueden ser menos si la cola se vacía.
+     * @throws IllegalArgumentException Si la cantidad es negativa.
+     */
+    public List<Paciente> atenderPacientes(int cantidad) {
+        List<Paciente> atendidos;
+        if (pacientes instanceof VectorHeap<Paciente> heap) {
+            atendidos = heap.atenderLote(cantidad);
+        } else {
+            if (cantidad < 0) {
+                throw new IllegalArgumentException("La cantidad debe ser mayor o igual a 0");
+            }
+            atendidos = new ArrayList<>();
+            Paciente paciente;
+            while (atendidos.size() < cantidad && (paciente = pacientes.poll()) != null) {
+                atendidos.add(paciente);
+            }
+        }
+        if (guardado != null) {
+            for (Paciente paciente : atendidos) {
+                guardado.registrarAtencion(paciente);
+            }
+            return atendidos;
+        }
+        if (diario == null) {
+            guardarFichas();
+            return atendidos;
+        }
+        try {
+            for (Paciente paciente : atendidos) {
+                diario.registrarAtencion(paciente);
+            }
+            despuesDeRegistrar(atendidos.size());
+        } catch (IOException e) {
+            System.out.println("Error al escribir en el diario: " + e.getMessage());
+        }
+        return atendidos;
+    }
+
+    /**
+     * Devuelve el paciente con mayor prioridad sin atenderlo.
+     *
+     * @return El siguiente paciente a atender, o {@code null} si no hay pacientes.
+     */
+    public Paciente verSiguientePaciente() {
+        long inicio = System.nanoTime();
+        try {
+            return pacientes.peek();
+        } finally {
+            LATENCIA_DE_VER.registrar(System.nanoTime() - inicio);
+        }
+    }
+
+    /**
+     * Devuelve los {@code cantidad} pacientes con mayor prioridad, en orden, sin atenderlos.
+     * Si la cola es un {@code VectorHeap}, se recorren con {@code verPrimeros} sin tocar el heap;
+     * con otras colas se ordena una copia.
+     *
+     * @param cantidad La cantidad de pacientes.
+     * @return Los pacientes en orden de prioridad; pueden ser menos si la cola tiene menos.
+     * @throws IllegalArgumentException Si la cantidad es negativa.
+     */
+    public List<Paciente> verPrimerosPacientes(int cantidad) {
+        if (pacientes instanceof VectorHeap<Paciente> heap) {
+            return heap.verPrimeros(cantidad);
+        }
+        if (cantidad < 0) {
+            throw new IllegalArgumentException("La cantidad debe ser mayor o igual a 0");
+        }
+        List<Paciente> copia = new ArrayList<>(pacientes);
+        copia.sort(null);
+        return new ArrayList<>(copia.subList(0, Math.min(cantidad, copia.size())));
+    }
+
+    /**
+     * Devuelve la cantidad de pacientes en espera.
+     *
+     * @return El número de pacientes en la cola.
+     */
+    public int cantidadDePacientes() {
+        return pacientes.size();
+    }
+
+    /**
+     * Compacta el diario cuando acumula suficientes operaciones. Debe llamarse después de escribir
+     * todos los registros de las operaciones ya aplicadas a la cola.
+     *
+     * @param operaciones La cantidad de operaciones recién registradas.
+     * @throws IOException Si ocurre un error al compactar.
+     */
+    private void despuesDeRegistrar(int operaciones) throws IOException {
+        operacionesSinCompactar += operaciones;
+        if (operacionesSinCompactar >= OPERACIONES_POR_COMPACTACION) {
+            diario.compactar(pacientes);
+            operacionesSinCompactar = 0;
+        }
+    }
+
+    /**
+     * Cierra el sistema. Con el guardado en segundo plano escribe los cambios pendientes y detiene el hilo;
+     * en modo diario compacta el diario, actualiza el archivo de fichas y cierra el diario.
+     */
+    public void cerrar() {
+        if (guardado != null) {
+            try {
+                guardado.close();
+            } catch (IOException e) {
+                System.out.println("Error al guardar las fichas: " + e.getMessage());
+            }
+            guardado = null;
+        }
+        if (diario == null) {
+            return;
+        }
+        try {
+            diario.compactar(pacientes);
+            guardarFichas();
+            diario.close();
+        } catch (IOException e) {
+            System.out.println("Error al cerrar el diario: " + e.getMessage());
+        }
+        diario = null;
+    }
+
+    /**
+     * Aplica las opciones de persistencia y carga las fichas o el diario.
+     *
+     * @param sistema  El sistema a configurar.
+     * @param opciones Los argumentos de línea de comandos.
+     */
+    private static void configurar(SistemaDeAtencion sistema, List<String> opciones) {
+        if (opciones.contains("--binario")) {
+            sistema.usarInstantaneaBinaria();
+        }
+        if (opciones.contains("--diario")) {
+            sistema.activarDiario();
+        } else {
+            sistema.cargarFichas();
+            if (!opciones.contains("--sincrono")) {
+                sistema.activarGuardadoEnSegundoPlano();
+            }
+        }
+    }
+
+    /**
+     * Obtiene el valor de una opción de la forma "--nombre=valor".
+     *
+     * @param opciones   Los argumentos de línea de comandos.
+     * @param nombre     El nombre de la opción, con los guiones.
+     * @param porDefecto El valor si la opción no está.
+     * @return El valor de la opción.
+     */
+    private static String leerOpcion(List<String> opciones, String nombre, String porDefecto) {
+        for (String opcion : opciones) {
+            if (opcion.startsWith(nombre + "=")) {
+                return opcion.substring(nombre.length() + 1);
+            }
+        }
+        return porDefecto;
+    }
+
+    /**
+     * Ejecuta el sistema en modo servidor hasta que el proceso termina. Al terminar se cierra
+     * el servidor y se persiste la cola con {@link #cerrar()}.
+     *
+     * @param opciones Los argumentos de línea de comandos.
+     */
+    private static void ejecutarServidor(List<String> opciones) {
+        SistemaDeAtencion sistema;
+        int puerto;
+        try {
+            sistema = new SistemaDeAtencion(leerOpcion(opciones, "--cola", "vectorheap"));
+            puerto = Integer.parseInt(leerOpcion(opciones, "--puerto", String.valueOf(ServidorDeAtencion.PUERTO_POR_DEFECTO)));
+        } catch (IllegalArgumentException e) {
+            System.out.println("Opción no válida: " + e.getMessage());
+            return;
+        }
+        configurar(sistema, opciones);
+        sistema.registrarMedidores();
+        try {
+            ServidorDeAtencion servidor = new ServidorDeAtencion(sistema, puerto);
+            Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+                try {
+                    servidor.close();
+                } catch (IOException e) {
+                    System.out.println("Error al cerrar el servidor: " + e.getMessage());
+                }
+                synchronized (sistema) {
+                    sistema.cerrar();
+                }
+            }));
+            System.out.println("Servidor escuchando en el puerto " + servidor.getPuerto());
+            servidor.atender();
+        } catch (IOException e) {
+            System.out.println("Error al iniciar el servidor: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Método principal que ejecuta el sistema de atención de pacientes.
+     * Permite al usuario interactuar con el sistema mediante un menú.
+     *
+     * @param args Argumentos de línea de comandos. Con "--diario" las operaciones se registran
+     *             en un diario en lugar de reescribir el archivo de fichas; con "--binario" las fichas
+     *             se guardan en "pacientes.bin" en lugar de "pacientes.txt"; con "--sincrono" se
+     *             guardan tras cada operación en lugar de en segundo plano. Con "--servidor" no se
+     *             muestra el menú y la cola se atiende por red (ver {@link ServidorDeAtencion});
+     *             en ese modo "--cola=tipo" elige la cola y "--puerto=n" el puerto.
+     */
+    public static void main(String[] args) {
+        Metricas.publicarEnJmx();
+        List<String> opciones = Arrays.asList(args);
+        if (opciones.contains("--servidor")) {
+            ejecutarServidor(opciones);
+            return;
+        }
+        try (Scanner scanner = new Scanner(System.in)) {
+            System.out.println("Ingrese el número de cola a usar:");
+            System.out.println("1. PriorityQueue");
+            System.out.println("2. VectorHeap");
+            int col = scanner.nextInt();
+            scanner.nextLine();
+            if (col < 1 || col > 2) {
+                System.out.println("Opción no válida. Saliendo del programa.");
+                return;
+            }
+            String cola = col == 1 ? "priorityqueue" : "vectorheap";
+            SistemaDeAtencion sistema = new SistemaDeAtencion(cola);
+            configurar(sistema, opciones);
+            sistema.registrarMedidores();
+            // Con el guardado en segundo plano, salir sin la opción 4 (Ctrl-C, fin de la entrada o
+            // una entrada no numérica) perdería los últimos cambios si no se cierra el sistema.
+            Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+                synchronized (sistema) {
+                    sistema.cerrar();
+                }
+            }));
+            try {
+                atenderMenu(scanner, sistema);
+            } finally {
+                synchronized (sistema) {
+                    sistema.cerrar();
+                }
+            }
+        }
+    }
+
+    /**
+     * Muestra el menú y atiende las opciones del usuario hasta que elige salir. Cada operación
+     * se hace con el sistema bloqueado, igual que en el servidor, para no cruzarse con el cierre.
+     *
+     * @param scanner El lector de la entrada estándar.
+     * @param sistema El sistema de atención.
+     */
+    private static void atenderMenu(Scanner scanner, SistemaDeAtencion sistema) {
+        boolean continuar = true;
+        int opcion;
+
+        while (continuar) {
+            System.out.println("Bienvenido al sistema de atención de pacientes. Seleccione una opción:");
+            System.out.println("1. Agregar nuevo paciente");
+            System.out.println("2. Atender paciente con más prioridad");
+            System.out.println("3. Ver siguiente paciente a atender");
+            System.out.println("4. Salir");
+            System.out.println("5. Ver métricas");
+
+            try {
+                opcion = scanner.nextInt();
+                scanner.nextLine();
+
+                if (opcion < 1 || opcion > 5) {
+                    System.out.println("Opción no válida. Intente de nuevo.");
+                    continue;
+                }
+            } catch (NumberFormatException e) {
+                System.out.println("Entrada no válida. Por favor, ingrese un número.");
+                continue;
+            }
+            switch (opcion) {
+                case 1 -> {
+                    System.out.println("Ingrese el nombre del paciente:");
+                    String nombreDelPaciente = scanner.nextLine();
+                    System.out.println("Ingrese la descripción del síntoma:");
+                    String descripcionDelSintoma = scanner.nextLine();
+                    System.out.println("Ingrese el código de emergencia, de A a E:");
+                    try {
+                        String codigoDeEmergencia = scanner.nextLine().toUpperCase();
+                        if (!codigoDeEmergencia.matches("[A-E]")) {
+                            System.out.println("Código de emergencia no válido. Debe ser de A a E.");
+                            continue;
+                        }
+                        LocalDateTime currentDateTime = LocalDateTime.now();
+                        Paciente nuevoPaciente = new Paciente(nombreDelPaciente, descripcionDelSintoma, codigoDeEmergencia, currentDateTime);
+                        synchronized (sistema) {
+                            System.out.println(sistema.agregarPaciente(nuevoPaciente));
+                        }
+                    } catch (Exception e) {
+                        System.out.println("Error al agregar el paciente: " + e.getMessage());
+                    }
+                }
+                case 2 -> {
+                    Paciente pacienteEliminado;
+                    synchronized (sistema) {
+                        pacienteEliminado = sistema.atenderPaciente();
+                    }
+                    if (pacienteEliminado != null) {
+                        System.out.println("Paciente eliminado: " + pacienteEliminado);
+                    } else {
+                        System.out.println("No hay pacientes en la lista.");
+                    }
+                }
+                case 3 -> {
+                    Paciente pacienteConMasPrioridad;
+                    synchronized (sistema) {
+                        pacienteConMasPrioridad = sistema.verSiguientePaciente();
+                    }
+                    if (pacienteConMasPrioridad != null) {
+                        System.out.println(pacienteConMasPrioridad);
+                    } else {
+                        System.out.println("No hay pacientes en la lista.");
+                    }
+                }
+                case 4 -> {
+                    continuar = false;
+                    System.out.println("Saliendo del sistema. Hasta luego.");
+                }
+                case 5 -> System.out.print(Metricas.global().volcar());
+                default -> System.out.println("Opción no válida. Intente de nuevo.");
+            }
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,258 @@
+package heap;
+
+import metrics.EsperasPorCodigo;
+import model.CodigoDeEmergencia;
+import model.Paciente;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.AbstractQueue;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * Cola de pacientes con envejecimiento: la prioridad efectiva de un paciente sube un código
+ * por cada {@code paso} de tiempo que lleva esperando, para que los pacientes de códigos bajos
+ * no esperen indefinidamente mientras sigan llegando pacientes más urgentes.
+ *
+ * <p>Los pacientes se guardan en una cubeta por código de emergencia, ordenada por fecha/hora de
+ * registro. Dentro de una cubeta el primero es siempre el que más ha esperado, así que para elegir
+ * al siguiente paciente basta con comparar las cabezas: nunca se recorre ni se reordena la
+ * cola completa. El nivel efectivo de una cabeza es su código menos los pasos que lleva esperando
+ * (sin bajar de A); gana el menor nivel efectivo y, a igual nivel, el código original más urgente.
+ * Los pacientes con un código fuera de la A a la E van a una última cubeta, un nivel por debajo de E,
+ * que envejece igual que las demás.
+ *
+ * <p>La espera de cada paciente atendido con un código de la A a la E se registra en un
+ * {@link EsperasPorCodigo}.
+ */
+public class AgingQueue extends AbstractQueue<Paciente> {
+    /**
+     * Tiempo de espera por defecto que sube la prioridad en un código.
+     */
+    public static final Duration PASO_POR_DEFECTO = Duration.ofMinutes(30);
+
+    /**
+     * Cantidad de códigos de emergencia soportados.
+     */
+    private static final int CANTIDAD_DE_CODIGOS = CodigoDeEmergencia.values().length;
+
+    /**
+     * Cantidad de cubetas: una por código y la de los códigos no soportados.
+     */
+    private static final int CANTIDAD_DE_CUBETAS = CANTIDAD_DE_CODIGOS + 1;
+
+    /**
+     * Cubetas de pacientes, una por código de emergencia de la A a la E, seguidas de la de los
+     * códigos no soportados.
+     */
+    private final VectorHeap<Paciente>[] cubetas;
+
+    /**
+     * Segundos de espera que suben la prioridad en un código.
+     */
+    private final long pasoEnSegundos;
+
+    /**
+     * Reloj con el que se mide la espera.
+     */
+    private final Clock reloj;
+
+    /**
+     * Seguimiento de las esperas de los pacientes atendidos.
+     */
+    private final EsperasPorCodigo esperas = new EsperasPorCodigo();
+
+    /**
+     * Constructor que inicializa la cola vacía con el paso por defecto y el reloj del sistema.
+     */
+    public AgingQueue() {
+        this(PASO_POR_DEFECTO, Clock.systemDefaultZone());
+    }
+
+    /**
+     * Constructor que inicializa la cola vacía.
+     *
+     * @param paso  El tiempo de espera que sube la prioridad en un código. Debe ser de al menos un segundo.
+     * @param reloj El reloj con el que se mide la espera; debe usar la misma zona que las fechas de registro.
+     * @throws IllegalArgumentException Si el paso es menor que un segundo.
+     */
+    @SuppressWarnings("unchecked")
+    public AgingQueue(Duration paso, Clock reloj) {
+        if (paso.getSeconds() < 1) {
+            throw new IllegalArgumentException("El paso debe ser de al menos un segundo");
+        }
+        this.pasoEnSegundos = paso.getSeconds();
+        this.reloj = reloj;
+        this.cubetas = (VectorHeap<Paciente>[]) new VectorHeap<?>[CANTIDAD_DE_CUBETAS];
+        for (int i = 0; i < CANTIDAD_DE_CUBETAS; i++) {
+            cubetas[i] = new VectorHeap<>();
+        }
+    }
+
+    /**
+     * Obtiene el seguimiento de las esperas de los pacientes atendidos.
+     *
+     * @return Las esperas por código de emergencia.
+     */
+    public EsperasPorCodigo getEsperas() {
+        return esperas;
+    }
+
+    /**
+     * Agrega un paciente a la cubeta de su código de emergencia.
+     *
+     * @param nuevoPaciente El paciente a agregar.
+     * @return {@code true} siempre.
+     */
+    @Override
+    public boolean offer(Paciente nuevoPaciente) {
+        cubetas[nivel(nuevoPaciente)].add(nuevoPaciente);
+        return true;
+    }
+
+    /**
+     * Elimina y devuelve el paciente con mayor prioridad efectiva, y registra su espera.
+     *
+     * @return El paciente atendido, o {@code null} si la cola está vacía.
+     */
+    @Override
+    public Paciente poll() {
+        LocalDateTime ahora = LocalDateTime.now(reloj);
+        int cubeta = elegirCubeta(ahora);
+        if (cubeta < 0) {
+            return null;
+        }
+        Paciente paciente = cubetas[cubeta].remove();
+        if (cubeta < CANTIDAD_DE_CODIGOS) {
+            esperas.registrar(cubeta, Math.max(0, ChronoUnit.MILLIS.between(paciente.getCurrentDateTime(), ahora)));
+        }
+        return paciente;
+    }
+
+    /**
+     * Elimina y devuelve el paciente con mayor prioridad efectiva.
+     * Al igual que {@code VectorHeap}, devuelve {@code null} si la cola está vacía.
+     *
+     * @return El paciente atendido, o {@code null} si la cola está vacía.
+     */
+    @Override
+    public Paciente remove() {
+        return poll();
+    }
+
+    /**
+     * Elimina una instancia del paciente indicado de la cubeta de su código, sin registrar su espera.
+     *
+     * @param o El paciente a eliminar.
+     * @return {@code true} si el paciente fue eliminado.
+     */
+    @Override
+    public boolean remove(Object o) {
+        if (!(o instanceof Paciente paciente)) {
+            return false;
+        }
+        return cubetas[nivel(paciente)].remove(o);
+    }
+
+    /**
+     * Devuelve el paciente con mayor prioridad efectiva sin eliminarlo.
+     *
+     * @return El siguiente paciente, o {@code null} si la cola está vacía.
+     */
+    @Override
+    public Paciente peek() {
+        int cubeta = elegirCubeta(LocalDateTime.now(reloj));
+        return cubeta < 0 ? null : cubetas[cubeta].peek();
+    }
+
+    /**
+     * Devuelve la cantidad de pacientes en la cola.
+     *
+     * @return El número de pacientes.
+     */
+    @Override
+    public int size() {
+        int total = 0;
+        for (VectorHeap<Paciente> cubeta : cubetas) {
+            total += cubeta.size();
+        }
+        return total;
+    }
+
+    /**
+     * Elimina todos los pacientes de la cola.
+     */
+    @Override
+    public void clear() {
+        for (VectorHeap<Paciente> cubeta : cubetas) {
+            cubeta.clear();
+        }
+    }
+
+    /**
+     * Devuelve un iterador sobre los pacientes, cubeta por cubeta, sin un orden de prioridad.
+     *
+     * @return Un iterador sobre los pacientes.
+     */
+    @Override
+    public Iterator<Paciente> iterator() {
+        return new Iterator<Paciente>() {
+            private int cubeta;
+            private Iterator<Paciente> actual = cubetas[0].iterator();
+
+            @Override
+            public boolean hasNext() {
+                while (!actual.hasNext() && cubeta < CANTIDAD_DE_CUBETAS - 1) {
+                    actual = cubetas[++cubeta].iterator();
+                }
+                return actual.hasNext();
+            }
+
+            @Override
+            public Paciente next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                return actual.next();
+            }
+        };
+    }
+
+    /**
+     * Elige la cubeta cuya cabeza tiene la mayor prioridad efectiva en el instante indicado.
+     *
+     * @param ahora El instante actual.
+     * @return El índice de la cubeta, o -1 si la cola está vacía.
+     */
+    private int elegirCubeta(LocalDateTime ahora) {
+        int mejor = -1;
+        long mejorNivel = Long.MAX_VALUE;
+        for (int i = 0; i < CANTIDAD_DE_CUBETAS; i++) {
+            Paciente cabeza = cubetas[i].peek();
+            if (cabeza == null) {
+                continue;
+            }
+            long pasos = ChronoUnit.SECONDS.between(cabeza.getCurrentDateTime(), ahora) / pasoEnSegundos;
+            long nivel = Math.max(0, i - Math.max(0, pasos));
+            if (nivel < mejorNivel) {
+                mejor = i;
+                mejorNivel = nivel;
+            }
+        }
+        return mejor;
+    }
+
+    /**
+     * Obtiene el índice de la cubeta que corresponde al código de emergencia de un paciente.
+     *
+     * @param paciente El paciente.
+     * @return El índice de la cubeta; la última si el código no es una letra de la A a la E.
+     */
+    private static int nivel(Paciente paciente) {
+        CodigoDeEmergencia codigo = paciente.getCodigo();
+        return codigo == null ? CANTIDAD_DE_CODIGOS : codigo.ordinal();
+    }
+}
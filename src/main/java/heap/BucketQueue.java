@@ -0,0 +1,379 @@
+package heap;
+
+import model.CodigoDeEmergencia;
+import model.Paciente;
+
+import java.util.AbstractQueue;
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * Cola de prioridad especializada para los cinco códigos de emergencia (A a E).
+ * Mantiene una cubeta por código; cada cubeta es un búfer circular en orden de llegada,
+ * por lo que agregar, eliminar y consultar el siguiente paciente cuestan O(1).
+ * Si un paciente llega con una fecha/hora anterior a la del último de su cubeta
+ * (por ejemplo, al cargar un archivo desordenado), se guarda en un pequeño heap
+ * de respaldo de esa cubeta y se compara con la cabeza del búfer al atender.
+ * Los pacientes con un código fuera de la A a la E van a un {@link VectorHeap} aparte, cuya cabeza
+ * se compara con la de la primera cubeta no vacía al consultar o atender.
+ * El orden resultante es el mismo que el de {@link Paciente#compareTo(Paciente)}.
+ */
+public class BucketQueue extends AbstractQueue<Paciente> {
+    /**
+     * Cantidad de códigos de emergencia soportados.
+     */
+    private static final int CANTIDAD_DE_CODIGOS = 5;
+
+    /**
+     * Cubetas de pacientes, una por código de emergencia, de la A a la E.
+     */
+    private final Cubeta[] cubetas = new Cubeta[CANTIDAD_DE_CODIGOS];
+
+    /**
+     * Pacientes con un código fuera de la A a la E; es {@code null} hasta que llega el primero.
+     */
+    private VectorHeap<Paciente> sinCodigo;
+
+    /**
+     * Cantidad total de pacientes en la cola.
+     */
+    private int tamano;
+
+    /**
+     * Cantidad de modificaciones estructurales, utilizada por el iterador.
+     */
+    private int modificaciones;
+
+    /**
+     * Constructor que inicializa la cola vacía.
+     */
+    public BucketQueue() {
+        for (int i = 0; i < CANTIDAD_DE_CODIGOS; i++) {
+            cubetas[i] = new Cubeta();
+        }
+    }
+
+    /**
+     * Agrega un paciente a la cubeta de su código de emergencia, o al heap aparte si el código
+     * no es de la A a la E.
+     *
+     * @param nuevoPaciente El paciente a agregar.
+     * @return {@code true} siempre.
+     */
+    @Override
+    public boolean offer(Paciente nuevoPaciente) {
+        if (nuevoPaciente == null) {
+            throw new NullPointerException();
+        }
+        CodigoDeEmergencia codigo = nuevoPaciente.getCodigo();
+        if (codigo != null) {
+            cubetas[codigo.ordinal()].agregar(nuevoPaciente);
+        } else {
+            if (sinCodigo == null) {
+                sinCodigo = new VectorHeap<>();
+            }
+            sinCodigo.add(nuevoPaciente);
+        }
+        tamano++;
+        modificaciones++;
+        return true;
+    }
+
+    /**
+     * Elimina y devuelve el paciente con mayor prioridad.
+     *
+     * @return El paciente con mayor prioridad, o {@code null} si la cola está vacía.
+     */
+    @Override
+    public Paciente poll() {
+        Cubeta cubeta = primeraCubeta();
+        if (atiendeSinCodigo(cubeta)) {
+            tamano--;
+            modificaciones++;
+            return sinCodigo.remove();
+        }
+        if (cubeta == null) {
+            return null;
+        }
+        tamano--;
+        modificaciones++;
+        return cubeta.eliminar();
+    }
+
+    /**
+     * Elimina y devuelve el paciente con mayor prioridad.
+     * Al igual que {@code VectorHeap}, devuelve {@code null} si la cola está vacía.
+     *
+     * @return El paciente con mayor prioridad, o {@code null} si la cola está vacía.
+     */
+    @Override
+    public Paciente remove() {
+        return poll();
+    }
+
+    /**
+     * Elimina una instancia del paciente indicado de la cubeta de su código, o del heap aparte.
+     *
+     * @param o El paciente a eliminar.
+     * @return {@code true} si el paciente fue eliminado.
+     */
+    @Override
+    public boolean remove(Object o) {
+        if (!(o instanceof Paciente paciente)) {
+            return false;
+        }
+        boolean eliminado = paciente.getCodigo() != null
+                ? cubetas[paciente.getCodigo().ordinal()].eliminar(o)
+                : sinCodigo != null && sinCodigo.remove(o);
+        if (!eliminado) {
+            return false;
+        }
+        tamano--;
+        modificaciones++;
+        return true;
+    }
+
+    /**
+     * Devuelve el paciente con mayor prioridad sin eliminarlo.
+     *
+     * @return El paciente con mayor prioridad, o {@code null} si la cola está vacía.
+     */
+    @Override
+    public Paciente peek() {
+        Cubeta cubeta = primeraCubeta();
+        if (atiendeSinCodigo(cubeta)) {
+            return sinCodigo.peek();
+        }
+        return cubeta == null ? null : cubeta.ver();
+    }
+
+    /**
+     * Busca la cubeta del código más urgente que tiene pacientes.
+     *
+     * @return La primera cubeta no vacía, o {@code null} si todas están vacías.
+     */
+    private Cubeta primeraCubeta() {
+        for (Cubeta cubeta : cubetas) {
+            if (cubeta.cantidad() > 0) {
+                return cubeta;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Indica si el siguiente paciente es el primero de los que tienen un código fuera de la A a la E.
+     *
+     * @param cubeta La primera cubeta no vacía, o {@code null} si todas están vacías.
+     * @return {@code true} si hay pacientes sin código y el primero va antes que la cabeza de la cubeta.
+     */
+    private boolean atiendeSinCodigo(Cubeta cubeta) {
+        if (sinCodigo == null || sinCodigo.isEmpty()) {
+            return false;
+        }
+        return cubeta == null || sinCodigo.peek().compareTo(cubeta.ver()) < 0;
+    }
+
+    /**
+     * Devuelve la cantidad de pacientes en la cola.
+     *
+     * @return El número de pacientes.
+     */
+    @Override
+    public int size() {
+        return tamano;
+    }
+
+    /**
+     * Elimina todos los pacientes de la cola.
+     */
+    @Override
+    public void clear() {
+        for (Cubeta cubeta : cubetas) {
+            cubeta.vaciar();
+        }
+        sinCodigo = null;
+        tamano = 0;
+        modificaciones++;
+    }
+
+    /**
+     * Devuelve un iterador sobre los pacientes, cubeta por cubeta. Dentro de cada cubeta
+     * los pacientes del búfer circular aparecen en orden de llegada y luego los del heap de respaldo;
+     * al final aparecen los pacientes con un código fuera de la A a la E.
+     *
+     * @return Un iterador sobre los pacientes de la cola.
+     */
+    @Override
+    public Iterator<Paciente> iterator() {
+        return new Iterator<Paciente>() {
+            private final int modificacionesEsperadas = modificaciones;
+            private int cubeta;
+            private int posicion;
+            private Iterator<Paciente> desordenados;
+            private Iterator<Paciente> restantes;
+
+            @Override
+            public boolean hasNext() {
+                while (cubeta < CANTIDAD_DE_CODIGOS) {
+                    Cubeta actual = cubetas[cubeta];
+                    if (posicion < actual.enAnillo) {
+                        return true;
+                    }
+                    if (desordenados == null && actual.desordenados != null) {
+                        desordenados = actual.desordenados.iterator();
+                    }
+                    if (desordenados != null && desordenados.hasNext()) {
+                        return true;
+                    }
+                    cubeta++;
+                    posicion = 0;
+                    desordenados = null;
+                }
+                if (restantes == null && sinCodigo != null) {
+                    restantes = sinCodigo.iterator();
+                }
+                return restantes != null && restantes.hasNext();
+            }
+
+            @Override
+            public Paciente next() {
+                if (modificacionesEsperadas != modificaciones) {
+                    throw new ConcurrentModificationException();
+                }
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                if (cubeta == CANTIDAD_DE_CODIGOS) {
+                    return restantes.next();
+                }
+                Cubeta actual = cubetas[cubeta];
+                if (posicion < actual.enAnillo) {
+                    return actual.anillo[actual.indice(posicion++)];
+                }
+                return desordenados.next();
+            }
+        };
+    }
+
+    /**
+     * Cubeta de pacientes con el mismo código de emergencia.
+     * Los pacientes que llegan en orden van a un búfer circular; los que llegan
+     * con una fecha/hora anterior al último del búfer van a un heap de respaldo.
+     */
+    private static final class Cubeta {
+        private Paciente[] anillo = new Paciente[16];
+        private int cabeza;
+        private int enAnillo;
+        private VectorHeap<Paciente> desordenados;
+
+        /**
+         * Devuelve la cantidad de pacientes en la cubeta.
+         *
+         * @return El número de pacientes en el búfer y en el heap de respaldo.
+         */
+        int cantidad() {
+            return enAnillo + (desordenados == null ? 0 : desordenados.size());
+        }
+
+        /**
+         * Agrega un paciente al final del búfer, o al heap de respaldo si llegó fuera de orden.
+         *
+         * @param paciente El paciente a agregar.
+         */
+        void agregar(Paciente paciente) {
+            if (enAnillo > 0 && paciente.compareTo(anillo[indice(enAnillo - 1)]) < 0) {
+                if (desordenados == null) {
+                    desordenados = new VectorHeap<>();
+                }
+                desordenados.add(paciente);
+                return;
+            }
+            if (enAnillo == anillo.length) {
+                Paciente[] nuevoAnillo = new Paciente[anillo.length * 2];
+                for (int i = 0; i < enAnillo; i++) {
+                    nuevoAnillo[i] = anillo[indice(i)];
+                }
+                anillo = nuevoAnillo;
+                cabeza = 0;
+            }
+            anillo[indice(enAnillo++)] = paciente;
+        }
+
+        /**
+         * Devuelve el paciente más antiguo de la cubeta sin eliminarlo.
+         *
+         * @return El paciente más antiguo; la cubeta no debe estar vacía.
+         */
+        Paciente ver() {
+            Paciente primeroDelAnillo = enAnillo > 0 ? anillo[cabeza] : null;
+            Paciente primeroDesordenado = desordenados == null ? null : desordenados.peek();
+            if (primeroDesordenado == null) {
+                return primeroDelAnillo;
+            }
+            if (primeroDelAnillo == null || primeroDesordenado.compareTo(primeroDelAnillo) < 0) {
+                return primeroDesordenado;
+            }
+            return primeroDelAnillo;
+        }
+
+        /**
+         * Elimina y devuelve el paciente más antiguo de la cubeta.
+         *
+         * @return El paciente más antiguo; la cubeta no debe estar vacía.
+         */
+        Paciente eliminar() {
+            Paciente siguiente = ver();
+            if (enAnillo > 0 && siguiente == anillo[cabeza]) {
+                anillo[cabeza] = null;
+                cabeza = (cabeza + 1) & (anillo.length - 1);
+                enAnillo--;
+            } else {
+                desordenados.poll();
+            }
+            return siguiente;
+        }
+
+        /**
+         * Elimina una instancia de un paciente de la cubeta, del búfer o del heap de respaldo.
+         * Los pacientes del búfer que estaban detrás se corren un lugar para conservar el orden de llegada.
+         *
+         * @param o El paciente a eliminar.
+         * @return {@code true} si el paciente fue eliminado.
+         */
+        boolean eliminar(Object o) {
+            for (int i = 0; i < enAnillo; i++) {
+                if (o.equals(anillo[indice(i)])) {
+                    for (int j = i; j < enAnillo - 1; j++) {
+                        anillo[indice(j)] = anillo[indice(j + 1)];
+                    }
+                    anillo[indice(--enAnillo)] = null;
+                    return true;
+                }
+            }
+            return desordenados != null && desordenados.remove(o);
+        }
+
+        /**
+         * Elimina todos los pacientes de la cubeta.
+         */
+        void vaciar() {
+            Arrays.fill(anillo, null);
+            cabeza = 0;
+            enAnillo = 0;
+            desordenados = null;
+        }
+
+        /**
+         * Convierte una posición relativa a la cabeza en un índice del búfer circular.
+         *
+         * @param posicion La posición relativa.
+         * @return El índice en el arreglo.
+         */
+        private int indice(int posicion) {
+            return (cabeza + posicion) & (anillo.length - 1);
+        }
+    }
+}
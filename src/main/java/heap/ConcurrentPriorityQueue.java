@@ -0,0 +1,208 @@
+package heap;
+
+import java.util.AbstractQueue;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Cola de prioridad segura para hilos, sin un candado global, basada en una skip list
+ * ({@code ConcurrentSkipListSet}). Varios hilos pueden agregar y atender elementos a la vez:
+ * las inserciones solo sincronizan con compare-and-set los nodos vecinos del punto de inserción,
+ * por lo que escalan con la cantidad de núcleos; las eliminaciones compiten solo por la cabeza.
+ *
+ * <p>Garantías de orden:
+ * <ul>
+ *   <li>{@code poll}/{@code remove} son linealizables: cada llamada devuelve un elemento que era
+ *       el mínimo de la cola en algún instante durante la llamada, y dos hilos nunca obtienen
+ *       el mismo elemento. Un elemento agregado por otro hilo mientras la llamada está en curso
+ *       puede no ser visto todavía.</li>
+ *   <li>Elementos iguales según {@code compareTo} se conservan todos, pero no se garantiza
+ *       el orden de llegada entre ellos.</li>
+ *   <li>{@code size} y el iterador son débilmente consistentes: reflejan el estado de la cola
+ *       en algún momento desde su creación y nunca lanzan {@code ConcurrentModificationException}.</li>
+ * </ul>
+ *
+ * @param <E> El tipo de elementos que se almacenarán en la cola. Debe implementar {@code Comparable}.
+ */
+public class ConcurrentPriorityQueue<E extends Comparable<E>> extends AbstractQueue<E> {
+    /**
+     * Próximo identificador de contador; cada hilo toma uno la primera vez que agrega un elemento.
+     * No se usa {@code Thread.getId()} porque la JDK puede reutilizarlo cuando un hilo termina.
+     */
+    private static final AtomicLong SIGUIENTE_CONTADOR = new AtomicLong();
+
+    /**
+     * Contador local de cada hilo, utilizado para distinguir elementos iguales sin un contador compartido.
+     */
+    private static final ThreadLocal<Contador> CONTADOR_DEL_HILO = ThreadLocal.withInitial(Contador::new);
+
+    /**
+     * Elementos de la cola, envueltos para admitir duplicados.
+     */
+    private final ConcurrentSkipListSet<Entrada<E>> entradas = new ConcurrentSkipListSet<>();
+
+    /**
+     * Cantidad aproximada de elementos en la cola.
+     */
+    private final LongAdder tamano = new LongAdder();
+
+    /**
+     * Agrega un elemento a la cola.
+     *
+     * @param nuevoElemento El elemento a agregar.
+     * @return {@code true} siempre.
+     */
+    @Override
+    public boolean offer(E nuevoElemento) {
+        if (nuevoElemento == null) {
+            throw new NullPointerException();
+        }
+        Contador contador = CONTADOR_DEL_HILO.get();
+        entradas.add(new Entrada<>(nuevoElemento, contador.identificador, contador.secuencia++));
+        tamano.increment();
+        return true;
+    }
+
+    /**
+     * Elimina y devuelve el elemento con mayor prioridad.
+     *
+     * @return El elemento con mayor prioridad, o {@code null} si la cola está vacía.
+     */
+    @Override
+    public E poll() {
+        Entrada<E> entrada = entradas.pollFirst();
+        if (entrada == null) {
+            return null;
+        }
+        tamano.decrement();
+        return entrada.elemento;
+    }
+
+    /**
+     * Elimina y devuelve el elemento con mayor prioridad.
+     * Al igual que {@code VectorHeap}, devuelve {@code null} si la cola está vacía.
+     *
+     * @return El elemento con mayor prioridad, o {@code null} si la cola está vacía.
+     */
+    @Override
+    public E remove() {
+        return poll();
+    }
+
+    /**
+     * Elimina una instancia del elemento indicado, si está presente en la cola.
+     * Recorre la cola desde la cabeza, así que cuesta O(n).
+     *
+     * @param o El elemento a eliminar.
+     * @return {@code true} si el elemento fue eliminado.
+     */
+    @Override
+    public boolean remove(Object o) {
+        if (o == null) {
+            return false;
+        }
+        for (Entrada<E> entrada : entradas) {
+            if (o.equals(entrada.elemento) && entradas.remove(entrada)) {
+                tamano.decrement();
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Devuelve el elemento con mayor prioridad sin eliminarlo.
+     *
+     * @return El elemento con mayor prioridad, o {@code null} si la cola está vacía.
+     */
+    @Override
+    public E peek() {
+        try {
+            return entradas.first().elemento;
+        } catch (NoSuchElementException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Devuelve la cantidad de elementos en la cola. El valor es débilmente consistente.
+     *
+     * @return El número aproximado de elementos.
+     */
+    @Override
+    public int size() {
+        long valor = tamano.sum();
+        return valor < 0 ? 0 : (int) Math.min(valor, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Indica si la cola está vacía.
+     *
+     * @return {@code true} si no hay elementos.
+     */
+    @Override
+    public boolean isEmpty() {
+        return entradas.isEmpty();
+    }
+
+    /**
+     * Devuelve un iterador débilmente consistente, en orden de prioridad.
+     *
+     * @return Un iterador sobre los elementos de la cola.
+     */
+    @Override
+    public Iterator<E> iterator() {
+        Iterator<Entrada<E>> iterador = entradas.iterator();
+        return new Iterator<E>() {
+            @Override
+            public boolean hasNext() {
+                return iterador.hasNext();
+            }
+
+            @Override
+            public E next() {
+                return iterador.next().elemento;
+            }
+        };
+    }
+
+    /**
+     * Contador de un hilo: un identificador único entre todos los hilos y la secuencia de sus elementos.
+     * Como cada par (identificador, secuencia) es único, {@code entradas.add} nunca descarta un elemento.
+     */
+    private static final class Contador {
+        private final long identificador = SIGUIENTE_CONTADOR.getAndIncrement();
+        private long secuencia;
+    }
+
+    /**
+     * Elemento de la cola junto con el contador del hilo que lo agregó y un número de secuencia de ese hilo,
+     * para que dos elementos iguales sean entradas distintas en la skip list.
+     *
+     * @param <E> El tipo del elemento.
+     */
+    private static final class Entrada<E extends Comparable<E>> implements Comparable<Entrada<E>> {
+        private final E elemento;
+        private final long hilo;
+        private final long secuencia;
+
+        Entrada(E elemento, long hilo, long secuencia) {
+            this.elemento = elemento;
+            this.hilo = hilo;
+            this.secuencia = secuencia;
+        }
+
+        @Override
+        public int compareTo(Entrada<E> otra) {
+            int comparacion = elemento.compareTo(otra.elemento);
+            if (comparacion != 0) {
+                return comparacion;
+            }
+            comparacion = Long.compare(hilo, otra.hilo);
+            return comparacion != 0 ? comparacion : Long.compare(secuencia, otra.secuencia);
+        }
+    }
+}
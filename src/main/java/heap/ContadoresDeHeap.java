@@ -0,0 +1,165 @@
+package heap;
+
+import java.util.Arrays;
+
+/**
+ * Contadores de las operaciones de un heap: cuántos elementos se agregaron, eliminaron y consultaron,
+ * cuántas comparaciones se hicieron y cuántos niveles recorrió cada reordenamiento.
+ * Los contadores son campos {@code long} simples que el heap incrementa sin sincronización,
+ * igual que el resto de su estado; se pueden leer desde otro hilo, pero el valor puede estar atrasado.
+ */
+public final class ContadoresDeHeap {
+    long agregados;
+    long eliminados;
+    long consultas;
+    long comparaciones;
+    long reordenamientos;
+    long niveles;
+
+    /**
+     * Cantidad de reordenamientos que recorrieron {@code i} niveles.
+     */
+    final long[] profundidades = new long[64];
+
+    /**
+     * Indica si los reordenamientos se están agrupando en uno solo.
+     */
+    private boolean agrupando;
+
+    /**
+     * Mayor cantidad de niveles recorrida por un reordenamiento del grupo actual.
+     */
+    private int nivelesDelGrupo;
+
+    /**
+     * Registra un reordenamiento (subir o bajar un elemento). Dentro de un grupo solo se suman
+     * las comparaciones; el reordenamiento se cuenta al terminar el grupo.
+     *
+     * @param comparacionesHechas Las comparaciones que hizo.
+     * @param nivelesRecorridos   Los niveles que recorrió el elemento.
+     */
+    void registrarReordenamiento(int comparacionesHechas, int nivelesRecorridos) {
+        comparaciones += comparacionesHechas;
+        if (agrupando) {
+            nivelesDelGrupo = Math.max(nivelesDelGrupo, nivelesRecorridos);
+            return;
+        }
+        contarReordenamiento(nivelesRecorridos);
+    }
+
+    /**
+     * Empieza a agrupar los reordenamientos de una operación que reordena todo el heap, como
+     * heapificar, para contarlos como uno solo.
+     */
+    void iniciarGrupo() {
+        agrupando = true;
+        nivelesDelGrupo = 0;
+    }
+
+    /**
+     * Termina el grupo y lo cuenta como un reordenamiento que recorrió tantos niveles como el
+     * más profundo de sus elementos.
+     */
+    void terminarGrupo() {
+        agrupando = false;
+        contarReordenamiento(nivelesDelGrupo);
+    }
+
+    /**
+     * Cuenta un reordenamiento y su profundidad.
+     *
+     * @param nivelesRecorridos Los niveles que recorrió.
+     */
+    private void contarReordenamiento(int nivelesRecorridos) {
+        reordenamientos++;
+        niveles += nivelesRecorridos;
+        profundidades[Math.min(nivelesRecorridos, profundidades.length - 1)]++;
+    }
+
+    /**
+     * Obtiene la cantidad de elementos agregados.
+     *
+     * @return Los elementos agregados.
+     */
+    public long getAgregados() {
+        return agregados;
+    }
+
+    /**
+     * Obtiene la cantidad de elementos eliminados.
+     *
+     * @return Los elementos eliminados.
+     */
+    public long getEliminados() {
+        return eliminados;
+    }
+
+    /**
+     * Obtiene la cantidad de consultas del elemento con mayor prioridad.
+     *
+     * @return Las consultas.
+     */
+    public long getConsultas() {
+        return consultas;
+    }
+
+    /**
+     * Obtiene la cantidad de comparaciones entre elementos.
+     *
+     * @return Las comparaciones.
+     */
+    public long getComparaciones() {
+        return comparaciones;
+    }
+
+    /**
+     * Obtiene la cantidad de reordenamientos (subir o bajar un elemento).
+     *
+     * @return Los reordenamientos.
+     */
+    public long getReordenamientos() {
+        return reordenamientos;
+    }
+
+    /**
+     * Obtiene el total de niveles recorridos por todos los reordenamientos.
+     *
+     * @return Los niveles recorridos.
+     */
+    public long getNiveles() {
+        return niveles;
+    }
+
+    /**
+     * Obtiene la mayor cantidad de niveles recorrida por un reordenamiento.
+     *
+     * @return La profundidad máxima, o 0 si no hubo reordenamientos.
+     */
+    public int getProfundidadMaxima() {
+        for (int i = profundidades.length - 1; i > 0; i--) {
+            if (profundidades[i] != 0) {
+                return i;
+            }
+        }
+        return 0;
+    }
+
+    /**
+     * Obtiene la distribución de la cantidad de niveles recorridos por reordenamiento.
+     *
+     * @return Una copia del arreglo: la posición {@code i} tiene los reordenamientos que recorrieron {@code i} niveles.
+     */
+    public long[] getProfundidades() {
+        return Arrays.copyOf(profundidades, profundidades.length);
+    }
+
+    /**
+     * Calcula el promedio de comparaciones por operación de agregar o eliminar.
+     *
+     * @return Las comparaciones por operación, o 0 si no hubo operaciones.
+     */
+    public double getComparacionesPorOperacion() {
+        long operaciones = agregados + eliminados;
+        return operaciones == 0 ? 0 : (double) comparaciones / operaciones;
+    }
+}
@@ -0,0 +1,158 @@
+package heap;
+
+import java.util.Collection;
+
+/**
+ * Implementación de un heap mínimo d-ario: cada nodo tiene hasta {@code aridad} hijos.
+ * Con aridades de 4 u 8 el árbol es menos profundo que el binario de {@code VectorHeap},
+ * por lo que las inserciones recorren menos niveles y los hijos de un nodo quedan contiguos en memoria.
+ * Reutiliza el almacenamiento y las operaciones de cola de {@code VectorHeap}; solo cambia
+ * la forma en que se suben y bajan los elementos.
+ *
+ * @param <T> El tipo de elementos que se almacenarán en el heap. Debe implementar {@code Comparable}.
+ */
+public class DHeap<T extends Comparable<T>> extends VectorHeap<T> {
+    /**
+     * Aridad utilizada cuando no se indica otra.
+     */
+    public static final int ARIDAD_POR_DEFECTO = 4;
+
+    /**
+     * Cantidad máxima de hijos de cada nodo.
+     */
+    private final int aridad;
+
+    /**
+     * Constructor que inicializa el heap vacío con la aridad por defecto.
+     */
+    public DHeap() {
+        this(ARIDAD_POR_DEFECTO);
+    }
+
+    /**
+     * Constructor que inicializa el heap vacío con la aridad indicada.
+     *
+     * @param aridad La cantidad de hijos de cada nodo. Debe ser al menos 2.
+     * @throws IllegalArgumentException Si la aridad es menor que 2.
+     */
+    public DHeap(int aridad) {
+        if (aridad < 2) {
+            throw new IllegalArgumentException("La aridad debe ser al menos 2");
+        }
+        this.aridad = aridad;
+    }
+
+    /**
+     * Constructor que construye el heap a partir de una colección en tiempo lineal.
+     *
+     * @param aridad    La cantidad de hijos de cada nodo. Debe ser al menos 2.
+     * @param elementos Los elementos iniciales del heap.
+     * @throws IllegalArgumentException Si la aridad es menor que 2.
+     */
+    public DHeap(int aridad, Collection<? extends T> elementos) {
+        this(aridad);
+        addAll(elementos);
+    }
+
+    /**
+     * Obtiene la aridad del heap.
+     *
+     * @return La cantidad de hijos de cada nodo.
+     */
+    public int getAridad() {
+        return aridad;
+    }
+
+    /**
+     * Devuelve la cantidad máxima de hijos de cada nodo.
+     *
+     * @return La aridad del heap.
+     */
+    @Override
+    protected int hijosPorNodo() {
+        return aridad;
+    }
+
+    /**
+     * Sube un elemento desde la posición indicada hasta su lugar.
+     *
+     * @param posicion La posición del hueco inicial.
+     * @param elemento El elemento que se debe colocar.
+     */
+    @Override
+    protected void subir(int posicion, T elemento) {
+        Object[] arreglo = pacientes;
+        int comparaciones = 0;
+        int niveles = 0;
+        while (posicion > 0) {
+            int indicePadre = (posicion - 1) / aridad;
+            @SuppressWarnings("unchecked")
+            T elementoPadre = (T) arreglo[indicePadre];
+            comparaciones++;
+            if (elemento.compareTo(elementoPadre) >= 0) {
+                break;
+            }
+            arreglo[posicion] = elementoPadre;
+            posicion = indicePadre;
+            niveles++;
+        }
+        arreglo[posicion] = elemento;
+        contadores.registrarReordenamiento(comparaciones, niveles);
+    }
+
+    /**
+     * Baja un elemento desde la posición indicada hasta su lugar, eligiendo en cada nivel
+     * el menor de los hasta {@code aridad} hijos.
+     *
+     * @param posicion La posición del hueco inicial.
+     * @param elemento El elemento que se debe colocar.
+     */
+    @Override
+    protected void bajar(int posicion, T elemento) {
+        Object[] arreglo = pacientes;
+        int n = tamano;
+        int comparaciones = 0;
+        int niveles = 0;
+        while (true) {
+            int primerHijo = posicion * aridad + 1;
+            if (primerHijo >= n) {
+                break;
+            }
+            int ultimoHijo = Math.min(primerHijo + aridad, n);
+            int hijoMenor = primerHijo;
+            @SuppressWarnings("unchecked")
+            T elementoHijo = (T) arreglo[primerHijo];
+            for (int hijo = primerHijo + 1; hijo < ultimoHijo; hijo++) {
+                @SuppressWarnings("unchecked")
+                T candidato = (T) arreglo[hijo];
+                comparaciones++;
+                if (candidato.compareTo(elementoHijo) < 0) {
+                    hijoMenor = hijo;
+                    elementoHijo = candidato;
+                }
+            }
+            comparaciones++;
+            if (elemento.compareTo(elementoHijo) <= 0) {
+                break;
+            }
+            arreglo[posicion] = elementoHijo;
+            posicion = hijoMenor;
+            niveles++;
+        }
+        arreglo[posicion] = elemento;
+        contadores.registrarReordenamiento(comparaciones, niveles);
+    }
+
+    /**
+     * Restablece la propiedad del heap sobre todo el arreglo en tiempo lineal.
+     */
+    @Override
+    protected void heapificar() {
+        if (tamano < 2) {
+            return;
+        }
+        for (int i = (tamano - 2) / aridad; i >= 0; i--) {
+            bajar(i, elemento(i));
+        }
+    }
+}
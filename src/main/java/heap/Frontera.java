@@ -0,0 +1,121 @@
+package heap;
+
+import java.util.Arrays;
+
+/**
+ * Recorrido en orden de prioridad de un {@code VectorHeap} que no modifica el heap.
+ * Guarda en un heap auxiliar de índices la frontera del recorrido: los nodos cuyos padres ya
+ * fueron visitados. Cada paso visita el menor nodo de la frontera y agrega sus hijos, por lo que
+ * obtener los primeros {@code k} elementos cuesta O(k log k) sin importar el tamaño del heap.
+ * El heap no debe modificarse mientras se usa la frontera.
+ *
+ * @param <T> El tipo de elementos del heap.
+ */
+final class Frontera<T extends Comparable<T>> {
+    /**
+     * El heap recorrido.
+     */
+    private final VectorHeap<T> heap;
+
+    /**
+     * Cantidad de hijos de cada nodo del heap recorrido.
+     */
+    private final int hijosPorNodo;
+
+    /**
+     * Índices del heap recorrido, en orden de heap según sus elementos.
+     */
+    private int[] indices = new int[16];
+
+    /**
+     * Cantidad de índices en la frontera.
+     */
+    private int tamano;
+
+    /**
+     * Crea una frontera que empieza en la raíz del heap.
+     *
+     * @param heap El heap a recorrer.
+     */
+    Frontera(VectorHeap<T> heap) {
+        this.heap = heap;
+        this.hijosPorNodo = heap.hijosPorNodo();
+        if (heap.tamano > 0) {
+            agregar(0);
+        }
+    }
+
+    /**
+     * Indica si quedan nodos por visitar.
+     *
+     * @return {@code true} si ya se visitaron todos los nodos del heap.
+     */
+    boolean isEmpty() {
+        return tamano == 0;
+    }
+
+    /**
+     * Visita el siguiente nodo en orden de prioridad y agrega sus hijos a la frontera.
+     *
+     * @return La posición en el heap del nodo visitado.
+     */
+    int siguiente() {
+        int visitado = indices[0];
+        int ultimo = indices[--tamano];
+        if (tamano > 0) {
+            bajar(ultimo);
+        }
+        int primerHijo = visitado * hijosPorNodo + 1;
+        int finDeHijos = (int) Math.min((long) primerHijo + hijosPorNodo, heap.tamano);
+        for (int hijo = primerHijo; hijo < finDeHijos; hijo++) {
+            agregar(hijo);
+        }
+        return visitado;
+    }
+
+    /**
+     * Agrega un índice a la frontera.
+     *
+     * @param indice La posición en el heap.
+     */
+    private void agregar(int indice) {
+        if (tamano == indices.length) {
+            indices = Arrays.copyOf(indices, indices.length * 2);
+        }
+        T elemento = heap.elemento(indice);
+        int posicion = tamano++;
+        while (posicion > 0) {
+            int padre = (posicion - 1) >>> 1;
+            if (elemento.compareTo(heap.elemento(indices[padre])) >= 0) {
+                break;
+            }
+            indices[posicion] = indices[padre];
+            posicion = padre;
+        }
+        indices[posicion] = indice;
+    }
+
+    /**
+     * Coloca un índice desde la raíz de la frontera hasta su lugar.
+     *
+     * @param indice La posición en el heap.
+     */
+    private void bajar(int indice) {
+        T elemento = heap.elemento(indice);
+        int posicion = 0;
+        int mitad = tamano >>> 1;
+        while (posicion < mitad) {
+            int hijo = 2 * posicion + 1;
+            int derecho = hijo + 1;
+            if (derecho < tamano && heap.elemento(indices[derecho]).compareTo(heap.elemento(indices[hijo])) < 0) {
+                hijo = derecho;
+            }
+            if (elemento.compareTo(heap.elemento(indices[hijo])) <= 0) {
+                break;
+            }
+            indices[posicion] = indices[hijo];
+            posicion = hijo;
+        }
+        indices[posicion] = indice;
+    }
+}
@@ -0,0 +1,541 @@
+package heap;
+
+import model.Paciente;
+
+import java.util.AbstractQueue;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+/**
+ * Heap mínimo de pacientes con manejadores, que permite cambiar la prioridad de un paciente
+ * o cancelarlo en O(log n) sin reconstruir la cola.
+ * Cada paciente agregado ocupa una posición fija (su registro) y el heap ordena solo los números
+ * de registro; un segundo arreglo guarda la posición en el heap de cada registro.
+ * El manejador de un paciente combina el número de registro con una generación, de modo que un
+ * manejador de un paciente que ya salió de la cola nunca afecta al paciente que reutiliza su registro.
+ * Los registros con el mismo nombre de paciente se enlazan en una lista, con su primero y su último,
+ * para buscarlos por nombre y agregar al final en O(1) aunque muchos pacientes compartan un nombre
+ * (por ejemplo "N/N"). Además, cada paciente agregado recibe un identificador numérico que no se
+ * reutiliza, para buscarlo o cancelarlo por ese número.
+ */
+public class IndexedHeap extends AbstractQueue<Paciente> {
+    /**
+     * Valor devuelto cuando no existe un manejador.
+     */
+    public static final long SIN_MANEJADOR = -1L;
+
+    /**
+     * Capacidad inicial de los arreglos.
+     */
+    private static final int CAPACIDAD_INICIAL = 16;
+
+    /**
+     * Valor de posición o de enlace que indica que no hay ninguno.
+     */
+    private static final int NINGUNO = -1;
+
+    /**
+     * Números de registro en orden de heap.
+     */
+    private int[] monticulo = new int[CAPACIDAD_INICIAL];
+
+    /**
+     * Posición en {@code monticulo} de cada registro, o {@link #NINGUNO} si el registro está libre.
+     */
+    private int[] posiciones = new int[CAPACIDAD_INICIAL];
+
+    /**
+     * Paciente de cada registro.
+     */
+    private Paciente[] registros = new Paciente[CAPACIDAD_INICIAL];
+
+    /**
+     * Generación de cada registro; aumenta cada vez que el registro se libera.
+     */
+    private int[] generaciones = new int[CAPACIDAD_INICIAL];
+
+    /**
+     * Registro anterior y siguiente con el mismo nombre de paciente.
+     */
+    private int[] anteriorConNombre = new int[CAPACIDAD_INICIAL];
+    private int[] siguienteConNombre = new int[CAPACIDAD_INICIAL];
+
+    /**
+     * Primer y último registro de cada nombre de paciente.
+     */
+    private final HashMap<String, ListaDeNombre> listasPorNombre = new HashMap<>();
+
+    /**
+     * Identificador de cada registro.
+     */
+    private long[] identificadores = new long[CAPACIDAD_INICIAL];
+
+    /**
+     * Registro de cada identificador de un paciente que está en la cola.
+     */
+    private final HashMap<Long, Integer> registroPorIdentificador = new HashMap<>();
+
+    /**
+     * Próximo identificador a entregar; empieza en 1 y nunca se reutiliza.
+     */
+    private long siguienteIdentificador = 1;
+
+    /**
+     * Pila de registros libres.
+     */
+    private int[] libres = new int[CAPACIDAD_INICIAL];
+
+    /**
+     * Cantidad de registros en la pila de libres.
+     */
+    private int cantidadDeLibres;
+
+    /**
+     * Primer registro que nunca se ha usado.
+     */
+    private int siguienteRegistro;
+
+    /**
+     * Cantidad de pacientes en el heap.
+     */
+    private int tamano;
+
+    /**
+     * Cantidad de modificaciones estructurales, utilizada por el iterador.
+     */
+    private int modificaciones;
+
+    /**
+     * Agrega un paciente y devuelve su manejador.
+     *
+     * @param nuevoPaciente El paciente a agregar.
+     * @return El manejador del paciente.
+     */
+    public long registrar(Paciente nuevoPaciente) {
+        if (nuevoPaciente == null) {
+            throw new NullPointerException();
+        }
+        int registro = reservarRegistro(nuevoPaciente);
+        enlazarNombre(registro);
+        identificadores[registro] = siguienteIdentificador;
+        registroPorIdentificador.put(siguienteIdentificador++, registro);
+        modificaciones++;
+        subir(tamano++, registro);
+        return manejador(registro);
+    }
+
+    /**
+     * Agrega un paciente al heap.
+     *
+     * @param nuevoPaciente El paciente a agregar.
+     * @return {@code true} siempre.
+     */
+    @Override
+    public boolean offer(Paciente nuevoPaciente) {
+        registrar(nuevoPaciente);
+        return true;
+    }
+
+    /**
+     * Devuelve el paciente de un manejador.
+     *
+     * @param manejador El manejador del paciente.
+     * @return El paciente, o {@code null} si el manejador ya no es válido.
+     */
+    public Paciente obtener(long manejador) {
+        int registro = registroValido(manejador);
+        return registro == NINGUNO ? null : registros[registro];
+    }
+
+    /**
+     * Cambia el código de emergencia de un paciente que está en la cola, conservando su nombre,
+     * síntoma y fecha/hora de registro, y lo reubica en O(log n). El manejador sigue siendo válido.
+     *
+     * @param manejador   El manejador del paciente.
+     * @param nuevoCodigo El nuevo código de emergencia.
+     * @return El paciente con el nuevo código, o {@code null} si el manejador ya no es válido.
+     */
+    public Paciente cambiarPrioridad(long manejador, String nuevoCodigo) {
+        int registro = registroValido(manejador);
+        if (registro == NINGUNO) {
+            return null;
+        }
+        Paciente anterior = registros[registro];
+        Paciente actualizado = new Paciente(anterior.getNombreDelPaciente(), anterior.getDescripcionDelSintoma(),
+                nuevoCodigo, anterior.getCurrentDateTime());
+        registros[registro] = actualizado;
+        modificaciones++;
+        int posicion = posiciones[registro];
+        if (actualizado.compareTo(anterior) < 0) {
+            subir(posicion, registro);
+        } else {
+            bajar(posicion, registro);
+        }
+        return actualizado;
+    }
+
+    /**
+     * Elimina de la cola a un paciente en O(log n). El manejador deja de ser válido.
+     *
+     * @param manejador El manejador del paciente.
+     * @return El paciente eliminado, o {@code null} si el manejador ya no es válido.
+     */
+    public Paciente cancelar(long manejador) {
+        int registro = registroValido(manejador);
+        return registro == NINGUNO ? null : eliminarEn(posiciones[registro]);
+    }
+
+    /**
+     * Obtiene el identificador numérico de un paciente.
+     *
+     * @param manejador El manejador del paciente.
+     * @return El identificador, o {@link #SIN_MANEJADOR} si el manejador ya no es válido.
+     */
+    public long getIdentificador(long manejador) {
+        int registro = registroValido(manejador);
+        return registro == NINGUNO ? SIN_MANEJADOR : identificadores[registro];
+    }
+
+    /**
+     * Busca al paciente con el identificador indicado.
+     *
+     * @param identificador El identificador del paciente.
+     * @return El manejador del paciente, o {@link #SIN_MANEJADOR} si ya no está en la cola.
+     */
+    public long buscarPorIdentificador(long identificador) {
+        Integer registro = registroPorIdentificador.get(identificador);
+        return registro == null ? SIN_MANEJADOR : manejador(registro);
+    }
+
+    /**
+     * Elimina de la cola al paciente con el identificador indicado en O(log n).
+     *
+     * @param identificador El identificador del paciente.
+     * @return El paciente eliminado, o {@code null} si ya no está en la cola.
+     */
+    public Paciente cancelarPorIdentificador(long identificador) {
+        return cancelar(buscarPorIdentificador(identificador));
+    }
+
+    /**
+     * Busca al paciente con el nombre indicado que lleva más tiempo registrado en la cola.
+     *
+     * @param nombreDelPaciente El nombre del paciente.
+     * @return El manejador del paciente, o {@link #SIN_MANEJADOR} si no hay ninguno con ese nombre.
+     */
+    public long buscar(String nombreDelPaciente) {
+        ListaDeNombre lista = listasPorNombre.get(nombreDelPaciente);
+        return lista == null ? SIN_MANEJADOR : manejador(lista.primero);
+    }
+
+    /**
+     * Busca a todos los pacientes con el nombre indicado, en el orden en que fueron agregados.
+     *
+     * @param nombreDelPaciente El nombre del paciente.
+     * @return Los manejadores de los pacientes; la lista está vacía si no hay ninguno.
+     */
+    public List<Long> buscarTodos(String nombreDelPaciente) {
+        List<Long> encontrados = new ArrayList<>();
+        ListaDeNombre lista = listasPorNombre.get(nombreDelPaciente);
+        for (int r = lista == null ? NINGUNO : lista.primero; r != NINGUNO; r = siguienteConNombre[r]) {
+            encontrados.add(manejador(r));
+        }
+        return encontrados;
+    }
+
+    /**
+     * Elimina y devuelve el paciente con mayor prioridad.
+     *
+     * @return El paciente con mayor prioridad, o {@code null} si el heap está vacío.
+     */
+    @Override
+    public Paciente poll() {
+        return tamano == 0 ? null : eliminarEn(0);
+    }
+
+    /**
+     * Elimina y devuelve el paciente con mayor prioridad.
+     * Al igual que {@code VectorHeap}, devuelve {@code null} si el heap está vacío.
+     *
+     * @return El paciente con mayor prioridad, o {@code null} si el heap está vacío.
+     */
+    @Override
+    public Paciente remove() {
+        return poll();
+    }
+
+    /**
+     * Devuelve el paciente con mayor prioridad sin eliminarlo.
+     *
+     * @return El paciente con mayor prioridad, o {@code null} si el heap está vacío.
+     */
+    @Override
+    public Paciente peek() {
+        return tamano == 0 ? null : registros[monticulo[0]];
+    }
+
+    /**
+     * Elimina una instancia del paciente indicado, si está en el heap.
+     *
+     * @param o El paciente a eliminar.
+     * @return {@code true} si el paciente fue eliminado.
+     */
+    @Override
+    public boolean remove(Object o) {
+        if (!(o instanceof Paciente paciente)) {
+            return false;
+        }
+        ListaDeNombre lista = listasPorNombre.get(paciente.getNombreDelPaciente());
+        for (int r = lista == null ? NINGUNO : lista.primero; r != NINGUNO; r = siguienteConNombre[r]) {
+            if (paciente.equals(registros[r])) {
+                eliminarEn(posiciones[r]);
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Devuelve la cantidad de pacientes en el heap.
+     *
+     * @return El número de pacientes.
+     */
+    @Override
+    public int size() {
+        return tamano;
+    }
+
+    /**
+     * Elimina todos los pacientes del heap. Los manejadores entregados dejan de ser válidos.
+     */
+    @Override
+    public void clear() {
+        while (tamano > 0) {
+            eliminarEn(tamano - 1);
+        }
+    }
+
+    /**
+     * Devuelve un iterador sobre los pacientes en el orden en que están almacenados en el heap.
+     *
+     * @return Un iterador sobre los pacientes.
+     */
+    @Override
+    public Iterator<Paciente> iterator() {
+        return new Iterator<Paciente>() {
+            private final int modificacionesEsperadas = modificaciones;
+            private int cursor;
+
+            @Override
+            public boolean hasNext() {
+                return cursor < tamano;
+            }
+
+            @Override
+            public Paciente next() {
+                if (modificacionesEsperadas != modificaciones) {
+                    throw new ConcurrentModificationException();
+                }
+                if (cursor >= tamano) {
+                    throw new NoSuchElementException();
+                }
+                return registros[monticulo[cursor++]];
+            }
+        };
+    }
+
+    /**
+     * Construye el manejador de un registro con su generación actual.
+     *
+     * @param registro El número de registro.
+     * @return El manejador.
+     */
+    private long manejador(int registro) {
+        return ((long) generaciones[registro] << 32) | registro;
+    }
+
+    /**
+     * Obtiene el registro de un manejador, si el manejador sigue siendo válido.
+     *
+     * @param manejador El manejador.
+     * @return El número de registro, o {@link #NINGUNO} si el manejador no es válido.
+     */
+    private int registroValido(long manejador) {
+        if (manejador < 0) {
+            return NINGUNO;
+        }
+        int registro = (int) manejador;
+        if (registro >= siguienteRegistro || posiciones[registro] == NINGUNO
+                || generaciones[registro] != (int) (manejador >>> 32)) {
+            return NINGUNO;
+        }
+        return registro;
+    }
+
+    /**
+     * Reserva un registro para un paciente, reutilizando uno libre si lo hay.
+     *
+     * @param paciente El paciente a guardar.
+     * @return El número de registro.
+     */
+    private int reservarRegistro(Paciente paciente) {
+        int registro;
+        if (cantidadDeLibres > 0) {
+            registro = libres[--cantidadDeLibres];
+        } else {
+            if (siguienteRegistro == registros.length) {
+                int capacidad = registros.length * 2;
+                monticulo = Arrays.copyOf(monticulo, capacidad);
+                posiciones = Arrays.copyOf(posiciones, capacidad);
+                registros = Arrays.copyOf(registros, capacidad);
+                generaciones = Arrays.copyOf(generaciones, capacidad);
+                identificadores = Arrays.copyOf(identificadores, capacidad);
+                anteriorConNombre = Arrays.copyOf(anteriorConNombre, capacidad);
+                siguienteConNombre = Arrays.copyOf(siguienteConNombre, capacidad);
+                libres = Arrays.copyOf(libres, capacidad);
+            }
+            registro = siguienteRegistro++;
+        }
+        registros[registro] = paciente;
+        return registro;
+    }
+
+    /**
+     * Agrega un registro al final de la lista de su nombre de paciente en O(1).
+     *
+     * @param registro El número de registro.
+     */
+    private void enlazarNombre(int registro) {
+        siguienteConNombre[registro] = NINGUNO;
+        String nombreDelPaciente = registros[registro].getNombreDelPaciente();
+        ListaDeNombre lista = listasPorNombre.get(nombreDelPaciente);
+        if (lista == null) {
+            anteriorConNombre[registro] = NINGUNO;
+            listasPorNombre.put(nombreDelPaciente, new ListaDeNombre(registro));
+            return;
+        }
+        siguienteConNombre[lista.ultimo] = registro;
+        anteriorConNombre[registro] = lista.ultimo;
+        lista.ultimo = registro;
+    }
+
+    /**
+     * Quita un registro de la lista de su nombre de paciente.
+     *
+     * @param registro El número de registro.
+     */
+    private void desenlazarNombre(int registro) {
+        int anterior = anteriorConNombre[registro];
+        int siguiente = siguienteConNombre[registro];
+        if (anterior == NINGUNO && siguiente == NINGUNO) {
+            listasPorNombre.remove(registros[registro].getNombreDelPaciente());
+            return;
+        }
+        ListaDeNombre lista = listasPorNombre.get(registros[registro].getNombreDelPaciente());
+        if (siguiente != NINGUNO) {
+            anteriorConNombre[siguiente] = anterior;
+        } else {
+            lista.ultimo = anterior;
+        }
+        if (anterior != NINGUNO) {
+            siguienteConNombre[anterior] = siguiente;
+        } else {
+            lista.primero = siguiente;
+        }
+    }
+
+    /**
+     * Elimina el paciente de una posición del heap, libera su registro y restablece la propiedad del heap.
+     *
+     * @param posicion La posición en el heap.
+     * @return El paciente eliminado.
+     */
+    private Paciente eliminarEn(int posicion) {
+        int registro = monticulo[posicion];
+        Paciente paciente = registros[registro];
+        desenlazarNombre(registro);
+        registroPorIdentificador.remove(identificadores[registro]);
+        registros[registro] = null;
+        posiciones[registro] = NINGUNO;
+        generaciones[registro]++;
+        libres[cantidadDeLibres++] = registro;
+        modificaciones++;
+        int ultimo = --tamano;
+        if (posicion != ultimo) {
+            int movido = monticulo[ultimo];
+            bajar(posicion, movido);
+            if (monticulo[posicion] == movido) {
+                subir(posicion, movido);
+            }
+        }
+        return paciente;
+    }
+
+    /**
+     * Sube un registro desde la posición indicada hasta su lugar.
+     *
+     * @param posicion La posición del hueco inicial.
+     * @param registro El registro que se debe colocar.
+     */
+    private void subir(int posicion, int registro) {
+        Paciente paciente = registros[registro];
+        while (posicion > 0) {
+            int padre = (posicion - 1) >>> 1;
+            int registroPadre = monticulo[padre];
+            if (paciente.compareTo(registros[registroPadre]) >= 0) {
+                break;
+            }
+            monticulo[posicion] = registroPadre;
+            posiciones[registroPadre] = posicion;
+            posicion = padre;
+        }
+        monticulo[posicion] = registro;
+        posiciones[registro] = posicion;
+    }
+
+    /**
+     * Baja un registro desde la posición indicada hasta su lugar.
+     *
+     * @param posicion La posición del hueco inicial.
+     * @param registro El registro que se debe colocar.
+     */
+    private void bajar(int posicion, int registro) {
+        Paciente paciente = registros[registro];
+        int n = tamano;
+        int mitad = n >>> 1;
+        while (posicion < mitad) {
+            int hijo = 2 * posicion + 1;
+            int derecho = hijo + 1;
+            if (derecho < n && registros[monticulo[derecho]].compareTo(registros[monticulo[hijo]]) < 0) {
+                hijo = derecho;
+            }
+            int registroHijo = monticulo[hijo];
+            if (paciente.compareTo(registros[registroHijo]) <= 0) {
+                break;
+            }
+            monticulo[posicion] = registroHijo;
+            posiciones[registroHijo] = posicion;
+            posicion = hijo;
+        }
+        monticulo[posicion] = registro;
+        posiciones[registro] = posicion;
+    }
+
+    /**
+     * Primer y último registro de la lista de un nombre de paciente.
+     */
+    private static final class ListaDeNombre {
+        private int primero;
+        private int ultimo;
+
+        private ListaDeNombre(int registro) {
+            this.primero = registro;
+            this.ultimo = registro;
+        }
+    }
+}
@@ -0,0 +1,306 @@
+package heap;
+
+import java.util.AbstractQueue;
+import java.util.ArrayDeque;
+import java.util.ConcurrentModificationException;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * Cola de prioridad fusionable implementada como un pairing heap: un árbol de nodos en el que
+ * cada nodo es menor o igual que sus hijos, guardado como hijo izquierdo y hermano derecho.
+ *
+ * <p>Agregar un elemento y fusionar dos colas cuestan O(1): solo se enlazan las raíces. Eliminar
+ * el mínimo cuesta O(log n) amortizado: los hijos de la raíz se enlazan de a pares de izquierda a
+ * derecha y los pares se enlazan de derecha a izquierda. Ambas pasadas son iterativas, por lo que
+ * no hay recursión aunque la cola tenga millones de elementos. Permite, por ejemplo, unir las listas
+ * de espera de dos sedes sin volver a insertar cada paciente.
+ *
+ * <p>El iterador recorre los elementos sin un orden de prioridad y no admite {@code remove}.
+ *
+ * @param <E> El tipo de elementos que se almacenarán en la cola. Debe implementar {@code Comparable}.
+ */
+public class PairingHeap<E extends Comparable<E>> extends AbstractQueue<E> {
+    /**
+     * Raíz del árbol; es {@code null} si la cola está vacía.
+     */
+    private Nodo<E> raiz;
+
+    /**
+     * Cantidad de elementos en la cola.
+     */
+    private int tamano;
+
+    /**
+     * Cantidad de modificaciones estructurales, utilizada por el iterador.
+     */
+    private int modificaciones;
+
+    /**
+     * Agrega un elemento a la cola.
+     *
+     * @param nuevoElemento El elemento a agregar.
+     * @return {@code true} siempre.
+     */
+    @Override
+    public boolean offer(E nuevoElemento) {
+        if (nuevoElemento == null) {
+            throw new NullPointerException();
+        }
+        Nodo<E> nodo = new Nodo<>(nuevoElemento);
+        raiz = raiz == null ? nodo : enlazar(raiz, nodo);
+        tamano++;
+        modificaciones++;
+        return true;
+    }
+
+    /**
+     * Mueve todos los elementos de otra cola a esta en tiempo constante. La otra cola queda vacía.
+     *
+     * @param otra La cola a fusionar con esta.
+     * @throws IllegalArgumentException Si la otra cola es esta misma.
+     */
+    public void fusionar(PairingHeap<E> otra) {
+        if (otra == this) {
+            throw new IllegalArgumentException("No se puede fusionar una cola consigo misma");
+        }
+        if (otra.raiz == null) {
+            return;
+        }
+        raiz = raiz == null ? otra.raiz : enlazar(raiz, otra.raiz);
+        tamano += otra.tamano;
+        modificaciones++;
+        otra.raiz = null;
+        otra.tamano = 0;
+        otra.modificaciones++;
+    }
+
+    /**
+     * Elimina y devuelve el elemento con mayor prioridad.
+     *
+     * @return El elemento con mayor prioridad, o {@code null} si la cola está vacía.
+     */
+    @Override
+    public E poll() {
+        if (raiz == null) {
+            return null;
+        }
+        E minimo = raiz.elemento;
+        raiz = combinarHijos(raiz.hijo);
+        tamano--;
+        modificaciones++;
+        return minimo;
+    }
+
+    /**
+     * Elimina y devuelve el elemento con mayor prioridad.
+     * Al igual que {@code VectorHeap}, devuelve {@code null} si la cola está vacía.
+     *
+     * @return El elemento con mayor prioridad, o {@code null} si la cola está vacía.
+     */
+    @Override
+    public E remove() {
+        return poll();
+    }
+
+    /**
+     * Elimina una instancia del elemento indicado, si está presente en la cola. El nodo se busca
+     * recorriendo el árbol, así que cuesta O(n); sus hijos se combinan y ocupan su lugar.
+     *
+     * @param o El elemento a eliminar.
+     * @return {@code true} si el elemento fue eliminado.
+     */
+    @Override
+    public boolean remove(Object o) {
+        if (o == null || raiz == null) {
+            return false;
+        }
+        if (o.equals(raiz.elemento)) {
+            poll();
+            return true;
+        }
+        Deque<Nodo<E>> pendientes = new ArrayDeque<>();
+        pendientes.push(raiz);
+        while (!pendientes.isEmpty()) {
+            Nodo<E> nodo = pendientes.pop();
+            if (nodo.hijo != null) {
+                if (o.equals(nodo.hijo.elemento)) {
+                    nodo.hijo = quitar(nodo.hijo);
+                    return eliminado();
+                }
+                pendientes.push(nodo.hijo);
+            }
+            if (nodo.hermano != null) {
+                if (o.equals(nodo.hermano.elemento)) {
+                    nodo.hermano = quitar(nodo.hermano);
+                    return eliminado();
+                }
+                pendientes.push(nodo.hermano);
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Actualiza el tamaño después de eliminar un nodo que no era la raíz.
+     *
+     * @return {@code true} siempre.
+     */
+    private boolean eliminado() {
+        tamano--;
+        modificaciones++;
+        return true;
+    }
+
+    /**
+     * Quita un nodo de su lista de hermanos: sus hijos combinados ocupan su lugar, seguidos de sus
+     * hermanos. Los hijos no son menores que el nodo, así que se conserva el orden del heap.
+     *
+     * @param nodo El nodo a quitar.
+     * @return El nodo que ocupa su lugar, o {@code null} si no queda ninguno.
+     */
+    private static <E extends Comparable<E>> Nodo<E> quitar(Nodo<E> nodo) {
+        Nodo<E> hijos = combinarHijos(nodo.hijo);
+        if (hijos == null) {
+            return nodo.hermano;
+        }
+        hijos.hermano = nodo.hermano;
+        return hijos;
+    }
+
+    /**
+     * Devuelve el elemento con mayor prioridad sin eliminarlo.
+     *
+     * @return El elemento con mayor prioridad, o {@code null} si la cola está vacía.
+     */
+    @Override
+    public E peek() {
+        return raiz == null ? null : raiz.elemento;
+    }
+
+    /**
+     * Devuelve la cantidad de elementos en la cola.
+     *
+     * @return El número de elementos.
+     */
+    @Override
+    public int size() {
+        return tamano;
+    }
+
+    /**
+     * Elimina todos los elementos de la cola.
+     */
+    @Override
+    public void clear() {
+        raiz = null;
+        tamano = 0;
+        modificaciones++;
+    }
+
+    /**
+     * Devuelve un iterador sobre los elementos, sin un orden de prioridad.
+     *
+     * @return Un iterador sobre los elementos.
+     */
+    @Override
+    public Iterator<E> iterator() {
+        return new Iterator<E>() {
+            private final int modificacionesEsperadas = modificaciones;
+            private final Deque<Nodo<E>> pendientes = new ArrayDeque<>();
+            private Nodo<E> siguiente = raiz;
+
+            @Override
+            public boolean hasNext() {
+                return siguiente != null;
+            }
+
+            @Override
+            public E next() {
+                if (modificacionesEsperadas != modificaciones) {
+                    throw new ConcurrentModificationException();
+                }
+                if (siguiente == null) {
+                    throw new NoSuchElementException();
+                }
+                Nodo<E> actual = siguiente;
+                if (actual.hermano != null) {
+                    pendientes.push(actual.hermano);
+                }
+                siguiente = actual.hijo != null ? actual.hijo : pendientes.poll();
+                return actual.elemento;
+            }
+        };
+    }
+
+    /**
+     * Enlaza dos árboles: la raíz mayor pasa a ser el primer hijo de la menor.
+     * A igual prioridad queda como raíz {@code a}.
+     *
+     * @param a La raíz del primer árbol, sin hermanos.
+     * @param b La raíz del segundo árbol, sin hermanos.
+     * @return La raíz del árbol resultante.
+     */
+    private static <E extends Comparable<E>> Nodo<E> enlazar(Nodo<E> a, Nodo<E> b) {
+        if (b.elemento.compareTo(a.elemento) < 0) {
+            Nodo<E> temporal = a;
+            a = b;
+            b = temporal;
+        }
+        b.hermano = a.hijo;
+        a.hijo = b;
+        return a;
+    }
+
+    /**
+     * Combina una lista de hermanos en un solo árbol con las dos pasadas del pairing heap.
+     *
+     * @param primero El primer nodo de la lista de hermanos, o {@code null}.
+     * @return La raíz del árbol resultante, o {@code null} si la lista está vacía.
+     */
+    private static <E extends Comparable<E>> Nodo<E> combinarHijos(Nodo<E> primero) {
+        // Primera pasada, de izquierda a derecha: se enlazan los hermanos de a pares y los
+        // resultados se apilan usando el campo hermano, así que quedan en orden inverso.
+        Nodo<E> pares = null;
+        while (primero != null) {
+            Nodo<E> a = primero;
+            Nodo<E> b = a.hermano;
+            if (b == null) {
+                a.hermano = pares;
+                pares = a;
+                break;
+            }
+            primero = b.hermano;
+            a.hermano = null;
+            b.hermano = null;
+            Nodo<E> par = enlazar(a, b);
+            par.hermano = pares;
+            pares = par;
+        }
+        // Segunda pasada, de derecha a izquierda: cada par se enlaza con el acumulado.
+        Nodo<E> resultado = null;
+        while (pares != null) {
+            Nodo<E> siguiente = pares.hermano;
+            pares.hermano = null;
+            resultado = resultado == null ? pares : enlazar(pares, resultado);
+            pares = siguiente;
+        }
+        return resultado;
+    }
+
+    /**
+     * Nodo del árbol.
+     *
+     * @param <E> El tipo del elemento.
+     */
+    private static final class Nodo<E> {
+        private final E elemento;
+        private Nodo<E> hijo;
+        private Nodo<E> hermano;
+
+        private Nodo(E elemento) {
+            this.elemento = elemento;
+        }
+    }
+}
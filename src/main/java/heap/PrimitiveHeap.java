@@ -0,0 +1,341 @@
+package heap;
+
+import model.Paciente;
+
+import java.util.AbstractQueue;
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * Heap mínimo de pacientes que reordena solo claves primitivas.
+ * El heap es un par de arreglos paralelos: {@code long[]} con la clave de prioridad de cada
+ * paciente ({@link Paciente#getClaveDePrioridad()}) y {@code int[]} con la posición del paciente
+ * en un arreglo aparte. Al subir o bajar elementos solo se mueven 12 bytes por nivel y nunca se
+ * leen los objetos {@code Paciente}, salvo para desempatar pacientes con la misma clave.
+ * Las posiciones del arreglo de pacientes que quedan libres se reutilizan.
+ * Los pacientes sin clave de prioridad (código fuera de la A a la E o fecha fuera de rango) van a
+ * un pequeño {@link VectorHeap} aparte, cuya cabeza se compara con la del heap al consultar o atender.
+ */
+public class PrimitiveHeap extends AbstractQueue<Paciente> {
+    /**
+     * Capacidad inicial de los arreglos.
+     */
+    private static final int CAPACIDAD_INICIAL = 16;
+
+    /**
+     * Claves de prioridad en orden de heap.
+     */
+    private long[] claves = new long[CAPACIDAD_INICIAL];
+
+    /**
+     * Posición en {@code registros} del paciente de cada nodo del heap.
+     */
+    private int[] indices = new int[CAPACIDAD_INICIAL];
+
+    /**
+     * Pacientes almacenados, en posiciones que no cambian mientras están en el heap.
+     */
+    private Paciente[] registros = new Paciente[CAPACIDAD_INICIAL];
+
+    /**
+     * Pila de posiciones libres de {@code registros}.
+     */
+    private int[] libres = new int[CAPACIDAD_INICIAL];
+
+    /**
+     * Cantidad de posiciones en la pila de libres.
+     */
+    private int cantidadDeLibres;
+
+    /**
+     * Primera posición de {@code registros} que nunca se ha usado.
+     */
+    private int siguienteRegistro;
+
+    /**
+     * Cantidad de pacientes en el heap.
+     */
+    private int tamano;
+
+    /**
+     * Pacientes sin clave de prioridad, ordenados con {@link Paciente#compareTo(Paciente)};
+     * es {@code null} hasta que llega el primero.
+     */
+    private VectorHeap<Paciente> sinClave;
+
+    /**
+     * Cantidad de modificaciones estructurales, utilizada por el iterador.
+     */
+    private int modificaciones;
+
+    /**
+     * Indica si el nodo con clave {@code clave1} y registro {@code registro1} tiene mayor
+     * prioridad que el nodo con clave {@code clave2} y registro {@code registro2}.
+     *
+     * @param clave1    La clave del primer nodo.
+     * @param registro1 El registro del primer nodo.
+     * @param clave2    La clave del segundo nodo.
+     * @param registro2 El registro del segundo nodo.
+     * @return {@code true} si el primer nodo debe atenderse antes.
+     */
+    private boolean menor(long clave1, int registro1, long clave2, int registro2) {
+        if (clave1 != clave2) {
+            return clave1 < clave2;
+        }
+        return registros[registro1].compareTo(registros[registro2]) < 0;
+    }
+
+    /**
+     * Reserva una posición en el arreglo de pacientes.
+     *
+     * @param paciente El paciente a guardar.
+     * @return La posición reservada.
+     */
+    private int reservarRegistro(Paciente paciente) {
+        int registro;
+        if (cantidadDeLibres > 0) {
+            registro = libres[--cantidadDeLibres];
+        } else {
+            if (siguienteRegistro == registros.length) {
+                registros = Arrays.copyOf(registros, registros.length * 2);
+                libres = Arrays.copyOf(libres, libres.length * 2);
+            }
+            registro = siguienteRegistro++;
+        }
+        registros[registro] = paciente;
+        return registro;
+    }
+
+    /**
+     * Agrega un paciente al heap.
+     *
+     * @param nuevoPaciente El paciente a agregar.
+     * @return {@code true} siempre.
+     */
+    @Override
+    public boolean offer(Paciente nuevoPaciente) {
+        long clave = nuevoPaciente.getClaveDePrioridad();
+        if (clave == Paciente.SIN_CLAVE) {
+            if (sinClave == null) {
+                sinClave = new VectorHeap<>();
+            }
+            sinClave.add(nuevoPaciente);
+            modificaciones++;
+            return true;
+        }
+        if (tamano == claves.length) {
+            claves = Arrays.copyOf(claves, claves.length * 2);
+            indices = Arrays.copyOf(indices, indices.length * 2);
+        }
+        int registro = reservarRegistro(nuevoPaciente);
+        modificaciones++;
+        subir(tamano++, clave, registro);
+        return true;
+    }
+
+    /**
+     * Elimina y devuelve el paciente con mayor prioridad.
+     *
+     * @return El paciente con mayor prioridad, o {@code null} si el heap está vacío.
+     */
+    @Override
+    public Paciente poll() {
+        if (atiendeSinClave()) {
+            modificaciones++;
+            return sinClave.remove();
+        }
+        if (tamano == 0) {
+            return null;
+        }
+        int registro = indices[0];
+        Paciente paciente = registros[registro];
+        registros[registro] = null;
+        libres[cantidadDeLibres++] = registro;
+        modificaciones++;
+        int ultimo = --tamano;
+        if (ultimo > 0) {
+            bajar(0, claves[ultimo], indices[ultimo]);
+        }
+        return paciente;
+    }
+
+    /**
+     * Elimina y devuelve el paciente con mayor prioridad.
+     * Al igual que {@code VectorHeap}, devuelve {@code null} si el heap está vacío.
+     *
+     * @return El paciente con mayor prioridad, o {@code null} si el heap está vacío.
+     */
+    @Override
+    public Paciente remove() {
+        return poll();
+    }
+
+    /**
+     * Elimina una instancia del paciente indicado, si está presente en el heap.
+     *
+     * @param o El paciente a eliminar.
+     * @return {@code true} si el paciente fue eliminado.
+     */
+    @Override
+    public boolean remove(Object o) {
+        if (o == null) {
+            return false;
+        }
+        for (int i = 0; i < tamano; i++) {
+            int registro = indices[i];
+            if (o.equals(registros[registro])) {
+                registros[registro] = null;
+                libres[cantidadDeLibres++] = registro;
+                modificaciones++;
+                int ultimo = --tamano;
+                if (i != ultimo) {
+                    long claveMovida = claves[ultimo];
+                    int registroMovido = indices[ultimo];
+                    bajar(i, claveMovida, registroMovido);
+                    if (indices[i] == registroMovido) {
+                        subir(i, claveMovida, registroMovido);
+                    }
+                }
+                return true;
+            }
+        }
+        if (sinClave != null && sinClave.remove(o)) {
+            modificaciones++;
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Devuelve el paciente con mayor prioridad sin eliminarlo.
+     *
+     * @return El paciente con mayor prioridad, o {@code null} si el heap está vacío.
+     */
+    @Override
+    public Paciente peek() {
+        if (atiendeSinClave()) {
+            return sinClave.peek();
+        }
+        return tamano == 0 ? null : registros[indices[0]];
+    }
+
+    /**
+     * Indica si el siguiente paciente es el primero de los que no tienen clave de prioridad.
+     *
+     * @return {@code true} si hay pacientes sin clave y el primero va antes que la cabeza del heap.
+     */
+    private boolean atiendeSinClave() {
+        if (sinClave == null || sinClave.isEmpty()) {
+            return false;
+        }
+        return tamano == 0 || sinClave.peek().compareTo(registros[indices[0]]) < 0;
+    }
+
+    /**
+     * Devuelve la cantidad de pacientes en el heap.
+     *
+     * @return El número de pacientes.
+     */
+    @Override
+    public int size() {
+        return tamano + (sinClave == null ? 0 : sinClave.size());
+    }
+
+    /**
+     * Elimina todos los pacientes del heap.
+     */
+    @Override
+    public void clear() {
+        Arrays.fill(registros, 0, siguienteRegistro, null);
+        siguienteRegistro = 0;
+        cantidadDeLibres = 0;
+        tamano = 0;
+        sinClave = null;
+        modificaciones++;
+    }
+
+    /**
+     * Devuelve un iterador sobre los pacientes en el orden en que están almacenados en el heap,
+     * seguidos de los pacientes sin clave de prioridad.
+     *
+     * @return Un iterador sobre los pacientes.
+     */
+    @Override
+    public Iterator<Paciente> iterator() {
+        return new Iterator<Paciente>() {
+            private final int modificacionesEsperadas = modificaciones;
+            private final Iterator<Paciente> restantes = sinClave == null ? null : sinClave.iterator();
+            private int cursor;
+
+            @Override
+            public boolean hasNext() {
+                return cursor < tamano || (restantes != null && restantes.hasNext());
+            }
+
+            @Override
+            public Paciente next() {
+                if (modificacionesEsperadas != modificaciones) {
+                    throw new ConcurrentModificationException();
+                }
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                return cursor < tamano ? registros[indices[cursor++]] : restantes.next();
+            }
+        };
+    }
+
+    /**
+     * Sube un nodo desde la posición indicada hasta su lugar.
+     *
+     * @param posicion La posición del hueco inicial.
+     * @param clave    La clave del nodo.
+     * @param registro El registro del nodo.
+     */
+    private void subir(int posicion, long clave, int registro) {
+        long[] k = claves;
+        int[] r = indices;
+        while (posicion > 0) {
+            int padre = (posicion - 1) >>> 1;
+            if (!menor(clave, registro, k[padre], r[padre])) {
+                break;
+            }
+            k[posicion] = k[padre];
+            r[posicion] = r[padre];
+            posicion = padre;
+        }
+        k[posicion] = clave;
+        r[posicion] = registro;
+    }
+
+    /**
+     * Baja un nodo desde la posición indicada hasta su lugar.
+     *
+     * @param posicion La posición del hueco inicial.
+     * @param clave    La clave del nodo.
+     * @param registro El registro del nodo.
+     */
+    private void bajar(int posicion, long clave, int registro) {
+        long[] k = claves;
+        int[] r = indices;
+        int n = tamano;
+        int mitad = n >>> 1;
+        while (posicion < mitad) {
+            int hijo = 2 * posicion + 1;
+            int derecho = hijo + 1;
+            if (derecho < n && menor(k[derecho], r[derecho], k[hijo], r[hijo])) {
+                hijo = derecho;
+            }
+            if (!menor(k[hijo], r[hijo], clave, registro)) {
+                break;
+            }
+            k[posicion] = k[hijo];
+            r[posicion] = r[hijo];
+            posicion = hijo;
+        }
+        k[posicion] = clave;
+        r[posicion] = registro;
+    }
+}
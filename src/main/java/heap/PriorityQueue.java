@@ -1,3 +1,5 @@
+package heap;
+
 import java.util.Queue;
 
 /**
@@ -11,7 +13,13 @@ public class PriorityQueue<E> {
     /**
      * Cola de prioridad que almacena objetos de tipo {@code Paciente}.
      */
-    Queue<E> pacientes = new java.util.PriorityQueue<>();
+    Queue<E> pacientes = new java.util.PriorityQueue<>(this::comparar);
+
+    /**
+     * Contadores de operaciones y comparaciones. Esta cola no expone sus reordenamientos,
+     * por lo que solo se cuentan las comparaciones.
+     */
+    private final ContadoresDeHeap contadores = new ContadoresDeHeap();
 
     /**
      * Agrega un nuevo paciente a la cola de prioridad.
@@ -20,6 +28,7 @@ public class PriorityQueue<E> {
      * @return {@code true} si el paciente fue agregado correctamente.
      */
     public boolean add(E nuevoPaciente) {
+        contadores.agregados++;
         return pacientes.add(nuevoPaciente);
     }
 
@@ -29,7 +38,9 @@ public class PriorityQueue<E> {
      * @return El paciente con mayor prioridad, o excepcion si la cola está vacía.
      */
     public E remove() {
-        return pacientes.remove();
+        E pacienteEliminado = pacientes.remove();
+        contadores.eliminados++;
+        return pacienteEliminado;
     }
 
     /**
@@ -38,6 +49,29 @@ public class PriorityQueue<E> {
      * @return El paciente con mayor prioridad, o {@code null} si la cola está vacía.
      */
     public E peek() {
+        contadores.consultas++;
         return pacientes.peek();
     }
+
+    /**
+     * Obtiene los contadores de operaciones de la cola.
+     *
+     * @return Los contadores; se actualizan a medida que se usa la cola.
+     */
+    public ContadoresDeHeap getContadores() {
+        return contadores;
+    }
+
+    /**
+     * Compara dos pacientes por su orden natural y cuenta la comparación.
+     *
+     * @param paciente1 El primer paciente.
+     * @param paciente2 El segundo paciente.
+     * @return El resultado de {@code compareTo}.
+     */
+    @SuppressWarnings("unchecked")
+    private int comparar(E paciente1, E paciente2) {
+        contadores.comparaciones++;
+        return ((Comparable<? super E>) paciente1).compareTo(paciente2);
+    }
 }
\ No newline at end of file
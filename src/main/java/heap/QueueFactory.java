@@ -0,0 +1,70 @@
+package heap;
+
+import java.util.PriorityQueue;
+import java.util.Queue;
+
+/**
+ * Clase fábrica para crear instancias de diferentes implementaciones de colas de prioridad.
+ * Proporciona un método estático para obtener una cola basada en el tipo especificado.
+ */
+public class QueueFactory {
+
+    /**
+     * Devuelve una instancia de una cola de prioridad basada en el tipo especificado.
+     *
+     * @param <E>  El tipo de elementos que se almacenarán en la cola. Debe implementar {@code Comparable}.
+     * @param cola El tipo de cola que se desea crear. Puede ser "priorityqueue", "vectorheap" o
+     *             "dheap:d" para un heap d-ario (por ejemplo "dheap:4"; "dheap" usa aridad 4) o
+     *             "bucket" para la cola por códigos de emergencia, "primitiveheap" para el heap de claves
+     *             primitivas, "indexedheap" para el heap con manejadores o "aging" para la cola con
+     *             envejecimiento (estas cuatro solo admiten {@code Paciente}), "pairingheap" para la cola
+     *             fusionable, "concurrent" para la cola segura para hilos o "sharded:n" para la cola
+     *             segura para hilos repartida en n fragmentos ("sharded" usa un fragmento por procesador).
+     * @return Una instancia de {@code Queue<E>} basada en el tipo especificado.
+     * @throws IllegalArgumentException Si el tipo de cola especificado no es soportado.
+     */
+    @SuppressWarnings("unchecked")
+    public static <E extends Comparable<E>> Queue<E> getQueue(String cola) {
+        return switch (cola) {
+            case "priorityqueue" -> new PriorityQueue<>();
+            case "vectorheap" -> new VectorHeap<>();
+            case "dheap" -> new DHeap<>();
+            case "bucket" -> (Queue<E>) new BucketQueue();
+            case "primitiveheap" -> (Queue<E>) new PrimitiveHeap();
+            case "indexedheap" -> (Queue<E>) new IndexedHeap();
+            case "aging" -> (Queue<E>) new AgingQueue();
+            case "pairingheap" -> new PairingHeap<>();
+            case "concurrent" -> new ConcurrentPriorityQueue<>();
+            case "sharded" -> new ShardedQueue<>(Runtime.getRuntime().availableProcessors());
+            default -> {
+                if (cola.startsWith("dheap:")) {
+                    yield new DHeap<>(leerNumero(cola.substring("dheap:".length()), 2));
+                }
+                if (cola.startsWith("sharded:")) {
+                    yield new ShardedQueue<>(leerNumero(cola.substring("sharded:".length()), 1));
+                }
+                throw new IllegalArgumentException("Tipo de cola no soportado");
+            }
+        };
+    }
+
+    /**
+     * Interpreta el número indicado en un tipo de cola como "dheap:d" o "sharded:n".
+     *
+     * @param numero El texto con el número.
+     * @param minimo El valor mínimo admitido.
+     * @return El número como entero.
+     * @throws IllegalArgumentException Si el texto no es un número entero mayor o igual al mínimo.
+     */
+    private static int leerNumero(String numero, int minimo) {
+        try {
+            int valor = Integer.parseInt(numero);
+            if (valor >= minimo) {
+                return valor;
+            }
+        } catch (NumberFormatException e) {
+            // Se informa abajo como tipo de cola no soportado.
+        }
+        throw new IllegalArgumentException("Tipo de cola no soportado");
+    }
+}
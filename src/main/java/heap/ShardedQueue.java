@@ -0,0 +1,294 @@
+package heap;
+
+import java.util.AbstractQueue;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.ToIntFunction;
+
+/**
+ * Cola de prioridad segura para hilos repartida en varios fragmentos, cada uno un {@link VectorHeap}
+ * con su propio candado, para que varios hilos puedan agregar y atender elementos a la vez sin
+ * competir por un candado global.
+ *
+ * <p>Cada elemento nuevo va al fragmento que indica el enrutador (por ejemplo, el área de triaje),
+ * o a uno elegido por su hash si no se indica. Cada fragmento publica su cabeza en un campo volátil
+ * después de cada cambio, así que para atender se comparan las cabezas sin tomar ningún candado y
+ * solo se bloquea el fragmento elegido, del que se "roba" su cabeza. Hay dos formas de elegirlo:
+ * <ul>
+ *   <li>{@link Eleccion#TORNEO}: el fragmento con la mejor cabeza entre todos. Con un solo hilo el
+ *       orden es exactamente el global; con varios, cada elemento atendido era el mínimo de su
+ *       fragmento y el mínimo global entre las cabezas leídas.</li>
+ *   <li>{@link Eleccion#DOS_OPCIONES}: el mejor de dos fragmentos al azar. Cuesta O(1) sin importar
+ *       la cantidad de fragmentos y el orden es aproximado: el elemento atendido suele estar entre
+ *       los primeros, pero no siempre es el mínimo.</li>
+ * </ul>
+ * {@code size} y el iterador son débilmente consistentes; el iterador no admite {@code remove}, pero
+ * {@link #remove(Object)} elimina el elemento de su fragmento.
+ *
+ * @param <E> El tipo de elementos que se almacenarán en la cola. Debe implementar {@code Comparable}.
+ */
+public class ShardedQueue<E extends Comparable<E>> extends AbstractQueue<E> {
+    /**
+     * Forma de elegir el fragmento del que se atiende.
+     */
+    public enum Eleccion {
+        /**
+         * Se comparan las cabezas de todos los fragmentos.
+         */
+        TORNEO,
+        /**
+         * Se comparan las cabezas de dos fragmentos elegidos al azar.
+         */
+        DOS_OPCIONES
+    }
+
+    /**
+     * Fragmentos de la cola.
+     */
+    private final Fragmento<E>[] fragmentos;
+
+    /**
+     * Función que indica el fragmento de cada elemento nuevo; el resultado se reduce módulo
+     * la cantidad de fragmentos.
+     */
+    private final ToIntFunction<? super E> enrutador;
+
+    /**
+     * Forma de elegir el fragmento del que se atiende.
+     */
+    private final Eleccion eleccion;
+
+    /**
+     * Constructor que reparte los elementos por su hash y atiende por torneo.
+     *
+     * @param cantidadDeFragmentos La cantidad de fragmentos; debe ser al menos 1.
+     */
+    public ShardedQueue(int cantidadDeFragmentos) {
+        this(cantidadDeFragmentos, Object::hashCode, Eleccion.TORNEO);
+    }
+
+    /**
+     * Constructor que inicializa la cola vacía.
+     *
+     * @param cantidadDeFragmentos La cantidad de fragmentos; debe ser al menos 1.
+     * @param enrutador            La función que indica el fragmento de cada elemento nuevo.
+     * @param eleccion             La forma de elegir el fragmento del que se atiende.
+     * @throws IllegalArgumentException Si la cantidad de fragmentos es menor que 1.
+     */
+    @SuppressWarnings("unchecked")
+    public ShardedQueue(int cantidadDeFragmentos, ToIntFunction<? super E> enrutador, Eleccion eleccion) {
+        if (cantidadDeFragmentos < 1) {
+            throw new IllegalArgumentException("La cantidad de fragmentos debe ser al menos 1");
+        }
+        this.fragmentos = (Fragmento<E>[]) new Fragmento<?>[cantidadDeFragmentos];
+        for (int i = 0; i < cantidadDeFragmentos; i++) {
+            fragmentos[i] = new Fragmento<>();
+        }
+        this.enrutador = enrutador;
+        this.eleccion = eleccion;
+    }
+
+    /**
+     * Obtiene la cantidad de fragmentos.
+     *
+     * @return El número de fragmentos.
+     */
+    public int getCantidadDeFragmentos() {
+        return fragmentos.length;
+    }
+
+    /**
+     * Agrega un elemento al fragmento que indica el enrutador.
+     *
+     * @param nuevoElemento El elemento a agregar.
+     * @return {@code true} siempre.
+     */
+    @Override
+    public boolean offer(E nuevoElemento) {
+        if (nuevoElemento == null) {
+            throw new NullPointerException();
+        }
+        int hash = enrutador.applyAsInt(nuevoElemento);
+        Fragmento<E> fragmento = fragmentos[Math.floorMod(hash ^ (hash >>> 16), fragmentos.length)];
+        synchronized (fragmento) {
+            fragmento.heap.add(nuevoElemento);
+            fragmento.publicar();
+        }
+        return true;
+    }
+
+    /**
+     * Elimina y devuelve la cabeza del fragmento elegido según la forma de elección.
+     *
+     * @return El elemento atendido, o {@code null} si la cola está vacía.
+     */
+    @Override
+    public E poll() {
+        while (true) {
+            Fragmento<E> fragmento = eleccion == Eleccion.DOS_OPCIONES && fragmentos.length > 2 ? dosOpciones() : null;
+            if (fragmento == null) {
+                fragmento = torneo();
+                if (fragmento == null) {
+                    return null;
+                }
+            }
+            synchronized (fragmento) {
+                E elemento = fragmento.heap.poll();
+                if (elemento != null) {
+                    fragmento.publicar();
+                    return elemento;
+                }
+            }
+            // Otro hilo vació el fragmento después de leer su cabeza: se vuelve a elegir.
+        }
+    }
+
+    /**
+     * Elimina y devuelve la cabeza del fragmento elegido según la forma de elección.
+     * Al igual que {@code VectorHeap}, devuelve {@code null} si la cola está vacía.
+     *
+     * @return El elemento atendido, o {@code null} si la cola está vacía.
+     */
+    @Override
+    public E remove() {
+        return poll();
+    }
+
+    /**
+     * Elimina una instancia del elemento indicado del fragmento que lo contiene.
+     *
+     * @param o El elemento a eliminar.
+     * @return {@code true} si el elemento fue eliminado.
+     */
+    @Override
+    public boolean remove(Object o) {
+        if (o == null) {
+            return false;
+        }
+        for (Fragmento<E> fragmento : fragmentos) {
+            synchronized (fragmento) {
+                if (fragmento.heap.remove(o)) {
+                    fragmento.publicar();
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Devuelve la mejor cabeza entre todos los fragmentos sin eliminarla.
+     *
+     * @return El elemento con mayor prioridad, o {@code null} si la cola está vacía.
+     */
+    @Override
+    public E peek() {
+        Fragmento<E> fragmento = torneo();
+        return fragmento == null ? null : fragmento.cabeza;
+    }
+
+    /**
+     * Devuelve la cantidad de elementos en la cola.
+     *
+     * @return El número de elementos.
+     */
+    @Override
+    public int size() {
+        int total = 0;
+        for (Fragmento<E> fragmento : fragmentos) {
+            total += fragmento.tamano;
+        }
+        return total;
+    }
+
+    /**
+     * Elimina todos los elementos de la cola, fragmento por fragmento.
+     */
+    @Override
+    public void clear() {
+        for (Fragmento<E> fragmento : fragmentos) {
+            synchronized (fragmento) {
+                fragmento.heap.clear();
+                fragmento.publicar();
+            }
+        }
+    }
+
+    /**
+     * Devuelve un iterador sobre una copia de los elementos, tomada fragmento por fragmento,
+     * sin un orden de prioridad. Como recorre una copia, no admite {@code remove}.
+     *
+     * @return Un iterador sobre los elementos.
+     */
+    @Override
+    public Iterator<E> iterator() {
+        List<E> copia = new ArrayList<>();
+        for (Fragmento<E> fragmento : fragmentos) {
+            synchronized (fragmento) {
+                copia.addAll(fragmento.heap);
+            }
+        }
+        return Collections.unmodifiableList(copia).iterator();
+    }
+
+    /**
+     * Elige el fragmento con la mejor cabeza entre todos.
+     *
+     * @return El fragmento, o {@code null} si todos están vacíos.
+     */
+    private Fragmento<E> torneo() {
+        Fragmento<E> mejor = null;
+        E mejorCabeza = null;
+        for (Fragmento<E> fragmento : fragmentos) {
+            E cabeza = fragmento.cabeza;
+            if (cabeza != null && (mejorCabeza == null || cabeza.compareTo(mejorCabeza) < 0)) {
+                mejor = fragmento;
+                mejorCabeza = cabeza;
+            }
+        }
+        return mejor;
+    }
+
+    /**
+     * Elige el fragmento con la mejor cabeza entre dos fragmentos distintos elegidos al azar.
+     *
+     * @return El fragmento, o {@code null} si los dos están vacíos.
+     */
+    private Fragmento<E> dosOpciones() {
+        ThreadLocalRandom azar = ThreadLocalRandom.current();
+        int i = azar.nextInt(fragmentos.length);
+        int j = azar.nextInt(fragmentos.length - 1);
+        if (j >= i) {
+            j++;
+        }
+        E a = fragmentos[i].cabeza;
+        E b = fragmentos[j].cabeza;
+        if (a == null) {
+            return b == null ? null : fragmentos[j];
+        }
+        return b != null && b.compareTo(a) < 0 ? fragmentos[j] : fragmentos[i];
+    }
+
+    /**
+     * Fragmento de la cola: un heap y su cabeza y tamaño publicados para leerlos sin candado.
+     * El heap solo se usa sincronizado sobre el fragmento.
+     *
+     * @param <E> El tipo de elementos del fragmento.
+     */
+    private static final class Fragmento<E extends Comparable<E>> {
+        private final VectorHeap<E> heap = new VectorHeap<>();
+        private volatile E cabeza;
+        private volatile int tamano;
+
+        /**
+         * Publica la cabeza y el tamaño del heap. Debe llamarse con el fragmento sincronizado.
+         */
+        private void publicar() {
+            cabeza = heap.peek();
+            tamano = heap.size();
+        }
+    }
+}
@@ -0,0 +1,613 @@
+package heap;
+
+import java.util.AbstractQueue;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+/**
+ * Implementación de un heap mínimo utilizando un arreglo {@code Object[]} que crece bajo demanda.
+ * Esta clase extiende {@code AbstractQueue} y permite gestionar elementos
+ * en un orden basado en su prioridad, por lo que todas las operaciones de {@code Queue}
+ * (tamaño, iteración, {@code offer}, {@code poll}) trabajan sobre los elementos del heap.
+ * La raíz se guarda en el índice 0 y los reordenamientos desplazan un "hueco"
+ * en lugar de intercambiar elementos en cada nivel.
+ *
+ * @param <T> El tipo de elementos que se almacenarán en el heap. Debe implementar {@code Comparable}.
+ */
+public class VectorHeap<T extends Comparable<T>> extends AbstractQueue<T> {
+    /**
+     * Capacidad inicial del arreglo cuando no se indica otra.
+     */
+    private static final int CAPACIDAD_INICIAL = 16;
+
+    /**
+     * Arreglo que almacena los elementos del heap. Solo las primeras {@code tamano} posiciones son válidas.
+     */
+    protected Object[] pacientes;
+
+    /**
+     * Cantidad de elementos almacenados en el heap.
+     */
+    protected int tamano;
+
+    /**
+     * Cantidad de modificaciones estructurales, utilizada por el iterador para detectar
+     * cambios concurrentes.
+     */
+    protected int modificaciones;
+
+    /**
+     * Contadores de operaciones, comparaciones y niveles recorridos.
+     */
+    protected final ContadoresDeHeap contadores = new ContadoresDeHeap();
+
+    /**
+     * Constructor que inicializa el heap vacío.
+     */
+    public VectorHeap() {
+        pacientes = new Object[CAPACIDAD_INICIAL];
+    }
+
+    /**
+     * Constructor que construye el heap a partir de una colección en tiempo lineal
+     * utilizando el algoritmo de Floyd.
+     *
+     * @param elementos Los elementos iniciales del heap.
+     */
+    public VectorHeap(Collection<? extends T> elementos) {
+        Object[] lote = elementos.toArray();
+        if (lote.getClass() != Object[].class) {
+            lote = Arrays.copyOf(lote, lote.length, Object[].class);
+        }
+        pacientes = lote.length == 0 ? new Object[CAPACIDAD_INICIAL] : lote;
+        tamano = lote.length;
+        for (int i = 0; i < tamano; i++) {
+            if (pacientes[i] == null) {
+                throw new NullPointerException();
+            }
+        }
+        reconstruir();
+    }
+
+    /**
+     * Calcula el índice del padre de un nodo.
+     *
+     * @param i El índice del nodo hijo.
+     * @return El índice del nodo padre.
+     */
+    protected static int padre(int i) {
+        return (i - 1) >>> 1;
+    }
+
+    /**
+     * Calcula el índice del hijo izquierdo de un nodo.
+     *
+     * @param i El índice del nodo padre.
+     * @return El índice del hijo izquierdo.
+     */
+    protected static int izquierda(int i) {
+        return 2 * i + 1;
+    }
+
+    /**
+     * Calcula el índice del hijo derecho de un nodo.
+     *
+     * @param i El índice del nodo padre.
+     * @return El índice del hijo derecho.
+     */
+    protected static int derecha(int i) {
+        return 2 * i + 2;
+    }
+
+    /**
+     * Devuelve la cantidad máxima de hijos de cada nodo. Los hijos del nodo {@code i} ocupan
+     * las posiciones {@code i * hijosPorNodo() + 1} a {@code i * hijosPorNodo() + hijosPorNodo()}.
+     *
+     * @return 2 en el heap binario.
+     */
+    protected int hijosPorNodo() {
+        return 2;
+    }
+
+    /**
+     * Devuelve el elemento almacenado en una posición del arreglo.
+     *
+     * @param i La posición del elemento.
+     * @return El elemento en la posición indicada.
+     */
+    @SuppressWarnings("unchecked")
+    protected final T elemento(int i) {
+        return (T) pacientes[i];
+    }
+
+    /**
+     * Garantiza que el arreglo tenga espacio para al menos {@code capacidad} elementos.
+     *
+     * @param capacidad La capacidad mínima requerida.
+     */
+    protected void asegurarCapacidad(int capacidad) {
+        if (capacidad > pacientes.length) {
+            int nuevaCapacidad = Math.max(capacidad, pacientes.length + (pacientes.length >> 1));
+            pacientes = Arrays.copyOf(pacientes, nuevaCapacidad);
+        }
+    }
+
+    /**
+     * Sube un elemento desde la posición indicada hasta su lugar, desplazando los padres
+     * hacia abajo y escribiendo el elemento una sola vez al final.
+     *
+     * @param posicion La posición del hueco inicial.
+     * @param elemento El elemento que se debe colocar.
+     */
+    protected void subir(int posicion, T elemento) {
+        Object[] arreglo = pacientes;
+        int comparaciones = 0;
+        int niveles = 0;
+        while (posicion > 0) {
+            int indicePadre = padre(posicion);
+            @SuppressWarnings("unchecked")
+            T elementoPadre = (T) arreglo[indicePadre];
+            comparaciones++;
+            if (elemento.compareTo(elementoPadre) >= 0) {
+                break;
+            }
+            arreglo[posicion] = elementoPadre;
+            posicion = indicePadre;
+            niveles++;
+        }
+        arreglo[posicion] = elemento;
+        contadores.registrarReordenamiento(comparaciones, niveles);
+    }
+
+    /**
+     * Baja un elemento desde la posición indicada hasta su lugar, desplazando el hijo menor
+     * hacia arriba y escribiendo el elemento una sola vez al final.
+     *
+     * @param posicion La posición del hueco inicial.
+     * @param elemento El elemento que se debe colocar.
+     */
+    protected void bajar(int posicion, T elemento) {
+        Object[] arreglo = pacientes;
+        int n = tamano;
+        int mitad = n >>> 1;
+        int comparaciones = 0;
+        int niveles = 0;
+        while (posicion < mitad) {
+            int hijoMenor = izquierda(posicion);
+            @SuppressWarnings("unchecked")
+            T elementoHijo = (T) arreglo[hijoMenor];
+            int derecho = hijoMenor + 1;
+            if (derecho < n) {
+                @SuppressWarnings("unchecked")
+                T elementoDerecho = (T) arreglo[derecho];
+                comparaciones++;
+                if (elementoDerecho.compareTo(elementoHijo) < 0) {
+                    hijoMenor = derecho;
+                    elementoHijo = elementoDerecho;
+                }
+            }
+            comparaciones++;
+            if (elemento.compareTo(elementoHijo) <= 0) {
+                break;
+            }
+            arreglo[posicion] = elementoHijo;
+            posicion = hijoMenor;
+            niveles++;
+        }
+        arreglo[posicion] = elemento;
+        contadores.registrarReordenamiento(comparaciones, niveles);
+    }
+
+    /**
+     * Restablece la propiedad del heap sobre todo el arreglo con {@link #heapificar()} y lo cuenta
+     * como un solo reordenamiento, para que una carga masiva no sume uno por cada nodo interno.
+     */
+    private void reconstruir() {
+        contadores.iniciarGrupo();
+        heapificar();
+        contadores.terminarGrupo();
+    }
+
+    /**
+     * Restablece la propiedad del heap sobre todo el arreglo en tiempo lineal (algoritmo de Floyd).
+     */
+    protected void heapificar() {
+        for (int i = (tamano >>> 1) - 1; i >= 0; i--) {
+            bajar(i, elemento(i));
+        }
+    }
+
+    /**
+     * Agrega un nuevo elemento al heap y lo reordena para mantener la propiedad del heap mínimo.
+     *
+     * @param nuevoPaciente El elemento a agregar.
+     * @return Un mensaje indicando que el elemento fue agregado.
+     */
+    public String agregar(T nuevoPaciente) {
+        if (nuevoPaciente == null) {
+            throw new NullPointerException();
+        }
+        asegurarCapacidad(tamano + 1);
+        modificaciones++;
+        contadores.agregados++;
+        subir(tamano++, nuevoPaciente);
+        return "Paciente agregado: " + nuevoPaciente.toString();
+    }
+
+    /**
+     * Elimina y devuelve el elemento con mayor prioridad (el menor) del heap.
+     *
+     * @return El elemento con mayor prioridad, o {@code null} si el heap está vacío.
+     */
+    public T eliminarPacienteConMasPrioridad() {
+        if (tamano == 0) {
+            return null;
+        }
+        T pacienteEliminado = elemento(0);
+        modificaciones++;
+        contadores.eliminados++;
+        int ultimo = --tamano;
+        T pacienteMovido = elemento(ultimo);
+        pacientes[ultimo] = null;
+        if (ultimo > 0) {
+            bajar(0, pacienteMovido);
+        }
+        return pacienteEliminado;
+    }
+
+    /**
+     * Devuelve el elemento con mayor prioridad (el menor) sin eliminarlo del heap.
+     *
+     * @return El elemento con mayor prioridad, o {@code null} si el heap está vacío.
+     */
+    public T verPacienteConMasPrioridad() {
+        contadores.consultas++;
+        if (tamano == 0) {
+            return null;
+        }
+        return elemento(0);
+    }
+
+    /**
+     * Agrega un nuevo elemento al heap utilizando el método {@code agregar}.
+     *
+     * @param nuevoPaciente El elemento a agregar.
+     * @return {@code true} si el elemento fue agregado correctamente.
+     */
+    @Override
+    public boolean add(T nuevoPaciente) {
+        return agregar(nuevoPaciente) != null;
+    }
+
+    /**
+     * Agrega un nuevo elemento al heap. El heap no tiene límite de capacidad, por lo que siempre lo acepta.
+     *
+     * @param nuevoPaciente El elemento a agregar.
+     * @return {@code true} siempre.
+     */
+    @Override
+    public boolean offer(T nuevoPaciente) {
+        return add(nuevoPaciente);
+    }
+
+    /**
+     * Agrega todos los elementos de una colección utilizando el método {@code agregarLote}.
+     *
+     * @param nuevosPacientes Los elementos a agregar.
+     * @return {@code true} si el heap cambió.
+     */
+    @Override
+    public boolean addAll(Collection<? extends T> nuevosPacientes) {
+        return agregarLote(nuevosPacientes) > 0;
+    }
+
+    /**
+     * Agrega un lote de elementos. Si el lote es grande en comparación con el heap
+     * (cuando insertar uno a uno podría costar más que {@code n + k} comparaciones), los elementos
+     * se copian al final del arreglo de una sola vez y todo el heap se reordena en tiempo lineal;
+     * en otro caso cada elemento se sube desde el final.
+     *
+     * @param lote Los elementos a agregar.
+     * @return La cantidad de elementos agregados.
+     * @throws IllegalArgumentException Si el lote es este mismo heap.
+     */
+    public int agregarLote(Collection<? extends T> lote) {
+        if (lote == this) {
+            throw new IllegalArgumentException();
+        }
+        Object[] nuevos = lote.toArray();
+        for (Object paciente : nuevos) {
+            if (paciente == null) {
+                throw new NullPointerException();
+            }
+        }
+        if (nuevos.length == 0) {
+            return 0;
+        }
+        int total = tamano + nuevos.length;
+        asegurarCapacidad(total);
+        modificaciones++;
+        contadores.agregados += nuevos.length;
+        if ((long) nuevos.length * log2(total) >= total) {
+            System.arraycopy(nuevos, 0, pacientes, tamano, nuevos.length);
+            tamano = total;
+            reconstruir();
+        } else {
+            for (Object paciente : nuevos) {
+                @SuppressWarnings("unchecked")
+                T nuevoPaciente = (T) paciente;
+                subir(tamano++, nuevoPaciente);
+            }
+        }
+        return nuevos.length;
+    }
+
+    /**
+     * Elimina y devuelve los {@code k} elementos con mayor prioridad, en orden.
+     * Si {@code k} es pequeño se hacen {@code k} eliminaciones de la raíz. Si es grande, los {@code k}
+     * elementos se encuentran con una {@link Frontera} sin modificar el heap (O(k log k)), los restantes
+     * se compactan y el heap se reordena una sola vez en tiempo lineal. Si se piden todos, se ordena
+     * una copia del arreglo.
+     *
+     * @param k La cantidad de elementos a eliminar.
+     * @return Los elementos eliminados, en orden de prioridad; si el heap tiene menos de {@code k},
+     *         se devuelven todos.
+     * @throws IllegalArgumentException Si {@code k} es negativo.
+     */
+    public List<T> atenderLote(int k) {
+        if (k < 0) {
+            throw new IllegalArgumentException("La cantidad debe ser mayor o igual a 0");
+        }
+        int cantidad = Math.min(k, tamano);
+        List<T> atendidos = new ArrayList<>(cantidad);
+        if (cantidad == 0) {
+            return atendidos;
+        }
+        if (cantidad == tamano) {
+            Object[] todos = Arrays.copyOf(pacientes, tamano);
+            Arrays.sort(todos);
+            for (Object paciente : todos) {
+                @SuppressWarnings("unchecked")
+                T atendido = (T) paciente;
+                atendidos.add(atendido);
+            }
+            clear();
+            contadores.eliminados += cantidad;
+            return atendidos;
+        }
+        if ((long) cantidad * log2(tamano) < tamano) {
+            for (int i = 0; i < cantidad; i++) {
+                atendidos.add(eliminarPacienteConMasPrioridad());
+            }
+            return atendidos;
+        }
+        Frontera<T> frontera = new Frontera<>(this);
+        boolean[] atendido = new boolean[tamano];
+        for (int i = 0; i < cantidad; i++) {
+            int posicion = frontera.siguiente();
+            atendido[posicion] = true;
+            atendidos.add(elemento(posicion));
+        }
+        int restantes = 0;
+        for (int i = 0; i < tamano; i++) {
+            if (!atendido[i]) {
+                pacientes[restantes++] = pacientes[i];
+            }
+        }
+        Arrays.fill(pacientes, restantes, tamano, null);
+        tamano = restantes;
+        modificaciones++;
+        contadores.eliminados += cantidad;
+        reconstruir();
+        return atendidos;
+    }
+
+    /**
+     * Calcula el logaritmo en base 2 de un número positivo, redondeado hacia abajo.
+     *
+     * @param n El número.
+     * @return El logaritmo en base 2 de {@code n}.
+     */
+    private static int log2(int n) {
+        return 31 - Integer.numberOfLeadingZeros(n);
+    }
+
+    /**
+     * Elimina y devuelve el elemento con mayor prioridad utilizando el método {@code eliminarPacienteConMasPrioridad}.
+     *
+     * @return El elemento con mayor prioridad, o {@code null} si el heap está vacío.
+     */
+    @Override
+    public T remove() {
+        return eliminarPacienteConMasPrioridad();
+    }
+
+    /**
+     * Elimina y devuelve el elemento con mayor prioridad.
+     *
+     * @return El elemento con mayor prioridad, o {@code null} si el heap está vacío.
+     */
+    @Override
+    public T poll() {
+        return eliminarPacienteConMasPrioridad();
+    }
+
+    /**
+     * Devuelve el elemento con mayor prioridad utilizando el método {@code verPacienteConMasPrioridad}.
+     *
+     * @return El elemento con mayor prioridad, o {@code null} si el heap está vacío.
+     */
+    @Override
+    public T peek() {
+        return verPacienteConMasPrioridad();
+    }
+
+    /**
+     * Devuelve la cantidad de elementos en el heap.
+     *
+     * @return El número de elementos almacenados.
+     */
+    @Override
+    public int size() {
+        return tamano;
+    }
+
+    /**
+     * Elimina todos los elementos del heap.
+     */
+    @Override
+    public void clear() {
+        modificaciones++;
+        Arrays.fill(pacientes, 0, tamano, null);
+        tamano = 0;
+    }
+
+    /**
+     * Elimina una instancia del elemento indicado, si está presente en el heap.
+     *
+     * @param o El elemento a eliminar.
+     * @return {@code true} si el elemento fue eliminado.
+     */
+    @Override
+    public boolean remove(Object o) {
+        if (o == null) {
+            return false;
+        }
+        for (int i = 0; i < tamano; i++) {
+            if (o.equals(pacientes[i])) {
+                eliminarEn(i);
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Elimina el elemento de una posición arbitraria y restablece la propiedad del heap.
+     *
+     * @param posicion La posición del elemento a eliminar.
+     */
+    protected void eliminarEn(int posicion) {
+        modificaciones++;
+        contadores.eliminados++;
+        int ultimo = --tamano;
+        T pacienteMovido = elemento(ultimo);
+        pacientes[ultimo] = null;
+        if (posicion != ultimo) {
+            bajar(posicion, pacienteMovido);
+            if (pacientes[posicion] == pacienteMovido) {
+                subir(posicion, pacienteMovido);
+            }
+        }
+    }
+
+    /**
+     * Devuelve un iterador sobre los elementos del heap, en el orden en que están almacenados
+     * (no en orden de prioridad). El iterador recorre el arreglo directamente, sin copiarlo,
+     * y falla con {@code ConcurrentModificationException} si el heap se modifica durante el recorrido.
+     *
+     * @return Un iterador sobre los elementos del heap.
+     */
+    @Override
+    public Iterator<T> iterator() {
+        return new Iterator<T>() {
+            private int cursor;
+            private final int modificacionesEsperadas = modificaciones;
+
+            @Override
+            public boolean hasNext() {
+                return cursor < tamano;
+            }
+
+            @Override
+            public T next() {
+                if (modificacionesEsperadas != modificaciones) {
+                    throw new ConcurrentModificationException();
+                }
+                if (cursor >= tamano) {
+                    throw new NoSuchElementException();
+                }
+                return elemento(cursor++);
+            }
+        };
+    }
+
+    /**
+     * Devuelve un iterador que recorre los elementos en orden de prioridad sin modificar el heap.
+     * El orden se calcula a medida que se avanza con una {@link Frontera}, así que recorrer los
+     * primeros {@code k} elementos cuesta O(k log k) sin importar el tamaño del heap. El iterador
+     * falla con {@code ConcurrentModificationException} si el heap se modifica durante el recorrido.
+     *
+     * @return Un iterador sobre los elementos en orden de prioridad.
+     */
+    public Iterator<T> iteradorEnOrden() {
+        return new Iterator<T>() {
+            private final Frontera<T> frontera = new Frontera<>(VectorHeap.this);
+            private final int modificacionesEsperadas = modificaciones;
+
+            @Override
+            public boolean hasNext() {
+                return !frontera.isEmpty();
+            }
+
+            @Override
+            public T next() {
+                if (modificacionesEsperadas != modificaciones) {
+                    throw new ConcurrentModificationException();
+                }
+                if (frontera.isEmpty()) {
+                    throw new NoSuchElementException();
+                }
+                return elemento(frontera.siguiente());
+            }
+        };
+    }
+
+    /**
+     * Devuelve los {@code k} elementos con mayor prioridad, en orden, sin eliminarlos
+     * (ver {@link #iteradorEnOrden()}).
+     *
+     * @param k La cantidad de elementos.
+     * @return Los elementos en orden de prioridad; si el heap tiene menos de {@code k}, se devuelven todos.
+     * @throws IllegalArgumentException Si {@code k} es negativo.
+     */
+    public List<T> verPrimeros(int k) {
+        if (k < 0) {
+            throw new IllegalArgumentException("La cantidad debe ser mayor o igual a 0");
+        }
+        int cantidad = Math.min(k, tamano);
+        List<T> primeros = new ArrayList<>(cantidad);
+        Iterator<T> enOrden = iteradorEnOrden();
+        while (primeros.size() < cantidad) {
+            primeros.add(enOrden.next());
+        }
+        return primeros;
+    }
+
+    /**
+     * Obtiene los contadores de operaciones del heap.
+     *
+     * @return Los contadores; se actualizan a medida que se usa el heap.
+     */
+    public ContadoresDeHeap getContadores() {
+        return contadores;
+    }
+
+    /**
+     * Devuelve una copia de los elementos en el heap, en el orden en que están almacenados.
+     *
+     * @return Una lista con los elementos del heap.
+     */
+    public ArrayList<T> obtenerPacientes() {
+        ArrayList<T> copiaPacientes = new ArrayList<>(tamano);
+        for (int i = 0; i < tamano; i++) {
+            copiaPacientes.add(elemento(i));
+        }
+        return copiaPacientes;
+    }
+}
@@ -0,0 +1,554 @@
+package io;
+
+import model.CodigoDeEmergencia;
+import model.Diccionario;
+import model.Paciente;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * Cargador de fichas de pacientes para archivos grandes.
+ * Mapea el archivo en memoria, lo divide en bloques que terminan en un salto de línea
+ * y procesa los bloques en paralelo con un lector de CSV escrito a mano y {@link FechaIso} para las fechas,
+ * sin {@code String.split} ni {@code trim} por línea.
+ * Las líneas se interpretan igual que en la lectura línea por línea: deben tener exactamente
+ * cuatro campos separados por comas (nombre, descripción, código de emergencia, fecha/hora).
+ * Las descripciones repetidas se reconocen sobre los bytes, sin decodificar cada copia, y se
+ * comparten a través de {@link Diccionario#SINTOMAS}.
+ *
+ * <p>Las líneas con errores no lanzan excepciones: cada bloque anota solo la posición y el motivo de
+ * cada línea rechazada, y al terminar se informan en un {@link ReporteDeCarga} con contadores, los
+ * primeros mensajes de error y, si se indica, las líneas rechazadas copiadas en lotes a un archivo
+ * de cuarentena. Así un archivo con muchas líneas dañadas se carga casi tan rápido como uno limpio.
+ * Los bloques se procesan por ventanas de tantos bloques como procesadores y cada ventana se informa
+ * antes de pasar a la siguiente, así que las anotaciones en memoria no crecen con el tamaño del archivo.
+ */
+public final class CargadorDeFichas {
+    /**
+     * Tamaño mínimo de cada bloque procesado en paralelo.
+     */
+    private static final long TAMANO_MINIMO_DE_BLOQUE = 1L << 20;
+
+    /**
+     * Tamaño máximo de cada bloque; debe caber en un solo {@code MappedByteBuffer}.
+     */
+    private static final long TAMANO_MAXIMO_DE_BLOQUE = 64L << 20;
+
+    /**
+     * Tamaño del búfer directo con el que se escriben las líneas en cuarentena.
+     */
+    private static final int TAMANO_DE_BUFER_DE_CUARENTENA = 1 << 16;
+
+    /**
+     * Motivos de rechazo de una línea.
+     */
+    private static final int RECHAZO_POR_FORMATO = 0;
+    private static final int RECHAZO_POR_FECHA = 1;
+
+    private CargadorDeFichas() {
+    }
+
+    /**
+     * Carga todas las fichas de un archivo. Los primeros mensajes de error se informan por consola
+     * en el orden en que aparecen en el archivo y las líneas con errores se omiten.
+     *
+     * @param archivo La ruta del archivo de fichas.
+     * @return Los pacientes leídos, en el orden del archivo.
+     * @throws IOException Si ocurre un error al leer el archivo.
+     */
+    public static List<Paciente> cargar(Path archivo) throws IOException {
+        return cargar(archivo, new ReporteDeCarga());
+    }
+
+    /**
+     * Carga todas las fichas de un archivo y registra las líneas rechazadas en un reporte.
+     * Los mensajes de error que caben en el reporte se informan por consola en el orden en que
+     * aparecen en el archivo, seguidos de la cantidad de errores omitidos, si los hay. Si el reporte
+     * tiene un archivo de cuarentena, las líneas rechazadas se le agregan al final; un error al
+     * escribirlo se informa por consola y no impide la carga.
+     *
+     * @param archivo La ruta del archivo de fichas.
+     * @param reporte El reporte donde se suman las líneas aceptadas y rechazadas.
+     * @return Los pacientes leídos, en el orden del archivo.
+     * @throws IOException Si ocurre un error al leer el archivo.
+     */
+    public static List<Paciente> cargar(Path archivo, ReporteDeCarga reporte) throws IOException {
+        // Sin cuarentena basta con la posición de las líneas cuyo mensaje puede mostrarse.
+        int rechazosAnotados = reporte.getCuarentena() != null ? Integer.MAX_VALUE : reporte.getMuestrasMaximas();
+        try (FileChannel canal = FileChannel.open(archivo, StandardOpenOption.READ)) {
+            long[] limites = calcularLimites(canal);
+            int cantidadDeBloques = limites.length - 1;
+            int bloquesPorVentana = Runtime.getRuntime().availableProcessors();
+            List<Paciente> pacientes = new ArrayList<>();
+            long rechazadasAntes = reporte.getRechazadas();
+            int muestrasAntes = reporte.getMuestras().size();
+            Cuarentena cuarentena = new Cuarentena(reporte.getCuarentena());
+            try {
+                // Cada ventana se vuelca antes de procesar la siguiente, así que solo quedan en memoria
+                // las anotaciones y los mapeos de unos pocos bloques, por dañado que esté el archivo.
+                for (int primero = 0; primero < cantidadDeBloques; primero += bloquesPorVentana) {
+                    List<Bloque> ventana = IntStream.range(primero, Math.min(primero + bloquesPorVentana, cantidadDeBloques))
+                            .parallel()
+                            .mapToObj(i -> procesarBloque(canal, limites[i], limites[i + 1], rechazosAnotados))
+                            .collect(Collectors.toList());
+                    for (Bloque bloque : ventana) {
+                        if (bloque.error != null) {
+                            throw bloque.error;
+                        }
+                        volcar(bloque, reporte, cuarentena);
+                        pacientes.addAll(bloque.pacientes);
+                    }
+                }
+            } finally {
+                cuarentena.cerrar();
+            }
+            long omitidos = (reporte.getRechazadas() - rechazadasAntes) - (reporte.getMuestras().size() - muestrasAntes);
+            if (omitidos > 0) {
+                System.out.println("Se omitieron " + omitidos + " mensajes de error más.");
+            }
+            return pacientes;
+        }
+    }
+
+    /**
+     * Suma un bloque al reporte e informa sus líneas rechazadas: muestra los mensajes que caben en el
+     * reporte y copia las líneas a la cuarentena.
+     *
+     * @param bloque     El bloque procesado.
+     * @param reporte    El reporte de la carga.
+     * @param cuarentena La cuarentena de la carga.
+     */
+    private static void volcar(Bloque bloque, ReporteDeCarga reporte, Cuarentena cuarentena) {
+        reporte.sumar(bloque.pacientes.size(), bloque.rechazadasPorFormato, bloque.rechazadasPorFecha);
+        for (int i = 0; i < bloque.cantidadDeAnotados; i++) {
+            int inicio = bloque.rechazos[3 * i];
+            int fin = bloque.rechazos[3 * i + 1];
+            if (reporte.hayLugarParaMuestras()) {
+                String mensaje = bloque.rechazos[3 * i + 2] == RECHAZO_POR_FECHA
+                        ? "Fecha/hora no válida en la línea: " + decodificar(bloque.datos, inicio, fin)
+                        : "Línea con formato incorrecto: " + decodificar(bloque.datos, inicio, fin);
+                System.out.println(mensaje);
+                reporte.agregarMuestra(mensaje);
+            }
+            cuarentena.agregar(bloque.datos, inicio, fin);
+        }
+    }
+
+    /**
+     * Divide el archivo en bloques cuyos límites caen justo después de un salto de línea.
+     *
+     * @param canal El canal del archivo.
+     * @return Las posiciones de inicio de cada bloque, seguidas del tamaño del archivo.
+     * @throws IOException Si ocurre un error al leer el archivo.
+     */
+    private static long[] calcularLimites(FileChannel canal) throws IOException {
+        long tamanoDelArchivo = canal.size();
+        int procesadores = Runtime.getRuntime().availableProcessors();
+        long tamanoDeBloque = Math.min(TAMANO_MAXIMO_DE_BLOQUE,
+                Math.max(TAMANO_MINIMO_DE_BLOQUE, tamanoDelArchivo / (procesadores * 4L)));
+        List<Long> limites = new ArrayList<>();
+        limites.add(0L);
+        ByteBuffer ventana = ByteBuffer.allocate(8192);
+        long posicion = 0;
+        while (posicion + tamanoDeBloque < tamanoDelArchivo) {
+            long busqueda = posicion + tamanoDeBloque;
+            long siguiente = -1;
+            while (siguiente < 0 && busqueda < tamanoDelArchivo) {
+                ventana.clear();
+                int leidos = canal.read(ventana, busqueda);
+                if (leidos <= 0) {
+                    break;
+                }
+                for (int i = 0; i < leidos; i++) {
+                    if (ventana.get(i) == '\n') {
+                        siguiente = busqueda + i + 1;
+                        break;
+                    }
+                }
+                busqueda += leidos;
+            }
+            if (siguiente < 0 || siguiente >= tamanoDelArchivo) {
+                break;
+            }
+            limites.add(siguiente);
+            posicion = siguiente;
+        }
+        limites.add(tamanoDelArchivo);
+        long[] resultado = new long[limites.size()];
+        for (int i = 0; i < resultado.length; i++) {
+            resultado[i] = limites.get(i);
+        }
+        return resultado;
+    }
+
+    /**
+     * Mapea y procesa un bloque del archivo.
+     *
+     * @param canal  El canal del archivo.
+     * @param inicio La posición de inicio del bloque.
+     * @param fin    La posición final (exclusiva) del bloque.
+     * @param rechazosAnotados La cantidad máxima de líneas rechazadas cuya posición se anota.
+     * @return El resultado del bloque.
+     */
+    private static Bloque procesarBloque(FileChannel canal, long inicio, long fin, int rechazosAnotados) {
+        Bloque bloque = new Bloque(rechazosAnotados);
+        if (fin <= inicio) {
+            return bloque;
+        }
+        try {
+            MappedByteBuffer datos = canal.map(FileChannel.MapMode.READ_ONLY, inicio, fin - inicio);
+            bloque.datos = datos;
+            int limite = datos.limit();
+            int inicioDeLinea = 0;
+            while (inicioDeLinea < limite) {
+                int finDeLinea = inicioDeLinea;
+                while (finDeLinea < limite && datos.get(finDeLinea) != '\n') {
+                    finDeLinea++;
+                }
+                int finSinRetorno = finDeLinea;
+                if (finSinRetorno > inicioDeLinea && datos.get(finSinRetorno - 1) == '\r') {
+                    finSinRetorno--;
+                }
+                procesarLinea(datos, inicioDeLinea, finSinRetorno, bloque);
+                inicioDeLinea = finDeLinea + 1;
+            }
+        } catch (IOException e) {
+            bloque.error = e;
+        }
+        return bloque;
+    }
+
+    /**
+     * Interpreta una línea del archivo y agrega al bloque el paciente, o el rechazo de la línea.
+     *
+     * @param datos  Los datos del bloque.
+     * @param inicio La posición de inicio de la línea.
+     * @param fin    La posición final (exclusiva) de la línea, sin el salto de línea.
+     * @param bloque El bloque donde se guarda el resultado.
+     */
+    private static void procesarLinea(ByteBuffer datos, int inicio, int fin, Bloque bloque) {
+        // Igual que String.split, las comas finales no cuentan como campos vacíos.
+        int finEfectivo = fin;
+        while (finEfectivo > inicio && datos.get(finEfectivo - 1) == ',') {
+            finEfectivo--;
+        }
+        int[] comas = bloque.comas;
+        int cantidadDeComas = 0;
+        for (int i = inicio; i < finEfectivo; i++) {
+            if (datos.get(i) == ',') {
+                if (cantidadDeComas == 3) {
+                    cantidadDeComas++;
+                    break;
+                }
+                comas[cantidadDeComas++] = i;
+            }
+        }
+        if (cantidadDeComas != 3) {
+            bloque.rechazar(inicio, fin, RECHAZO_POR_FORMATO);
+            return;
+        }
+        LocalDateTime currentDateTime = FechaIso.intentarLeer(datos, comas[2] + 1, finEfectivo);
+        if (currentDateTime == null) {
+            bloque.rechazar(inicio, fin, RECHAZO_POR_FECHA);
+            return;
+        }
+        String nombreDelPaciente = decodificarSinEspacios(datos, inicio, comas[0]);
+        String descripcionDelSintoma = bloque.sintomas.buscar(datos, comas[0] + 1, comas[1]);
+        CodigoDeEmergencia codigo = leerCodigo(datos, comas[1] + 1, comas[2]);
+        bloque.pacientes.add(codigo != null
+                ? new Paciente(nombreDelPaciente, descripcionDelSintoma, codigo, currentDateTime)
+                : new Paciente(nombreDelPaciente, descripcionDelSintoma,
+                        decodificarSinEspacios(datos, comas[1] + 1, comas[2]), currentDateTime));
+    }
+
+    /**
+     * Lee un código de emergencia de una sola letra, sin decodificarlo como texto.
+     *
+     * @param datos  Los datos del bloque.
+     * @param inicio La posición de inicio del campo.
+     * @param fin    La posición final (exclusiva) del campo.
+     * @return El código, o {@code null} si el campo no es una letra de la A a la E.
+     */
+    private static CodigoDeEmergencia leerCodigo(ByteBuffer datos, int inicio, int fin) {
+        while (inicio < fin && (datos.get(inicio) & 0xFF) <= ' ') {
+            inicio++;
+        }
+        while (fin > inicio && (datos.get(fin - 1) & 0xFF) <= ' ') {
+            fin--;
+        }
+        return fin - inicio == 1 ? CodigoDeEmergencia.buscar(datos.get(inicio)) : null;
+    }
+
+    /**
+     * Decodifica un campo en UTF-8 quitando los espacios al inicio y al final, como {@code String.trim}.
+     *
+     * @param datos  Los datos del bloque.
+     * @param inicio La posición de inicio del campo.
+     * @param fin    La posición final (exclusiva) del campo.
+     * @return El texto del campo.
+     */
+    private static String decodificarSinEspacios(ByteBuffer datos, int inicio, int fin) {
+        while (inicio < fin && (datos.get(inicio) & 0xFF) <= ' ') {
+            inicio++;
+        }
+        while (fin > inicio && (datos.get(fin - 1) & 0xFF) <= ' ') {
+            fin--;
+        }
+        return decodificar(datos, inicio, fin);
+    }
+
+    /**
+     * Decodifica un rango de bytes en UTF-8.
+     *
+     * @param datos  Los datos del bloque.
+     * @param inicio La posición de inicio.
+     * @param fin    La posición final (exclusiva).
+     * @return El texto decodificado.
+     */
+    private static String decodificar(ByteBuffer datos, int inicio, int fin) {
+        byte[] bytes = new byte[fin - inicio];
+        datos.get(inicio, bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Resultado de procesar un bloque: los pacientes leídos y las líneas rechazadas, en orden.
+     * De cada línea rechazada se anotan tres enteros (inicio, fin y motivo), hasta la cantidad
+     * máxima indicada; las demás solo se cuentan.
+     */
+    private static final class Bloque {
+        private final List<Paciente> pacientes = new ArrayList<>();
+        private final TablaDeSintomas sintomas = new TablaDeSintomas();
+        private final int[] comas = new int[3];
+        private final int rechazosAnotados;
+        private MappedByteBuffer datos;
+        private int[] rechazos = new int[0];
+        private int cantidadDeAnotados;
+        private long rechazadasPorFormato;
+        private long rechazadasPorFecha;
+        private IOException error;
+
+        private Bloque(int rechazosAnotados) {
+            this.rechazosAnotados = rechazosAnotados;
+        }
+
+        /**
+         * Registra una línea rechazada.
+         *
+         * @param inicio La posición de inicio de la línea.
+         * @param fin    La posición final (exclusiva) de la línea, sin el salto de línea.
+         * @param motivo El motivo del rechazo.
+         */
+        private void rechazar(int inicio, int fin, int motivo) {
+            if (motivo == RECHAZO_POR_FECHA) {
+                rechazadasPorFecha++;
+            } else {
+                rechazadasPorFormato++;
+            }
+            if (cantidadDeAnotados == rechazosAnotados) {
+                return;
+            }
+            if (3 * cantidadDeAnotados == rechazos.length) {
+                rechazos = Arrays.copyOf(rechazos, Math.max(48, rechazos.length * 2));
+            }
+            rechazos[3 * cantidadDeAnotados] = inicio;
+            rechazos[3 * cantidadDeAnotados + 1] = fin;
+            rechazos[3 * cantidadDeAnotados + 2] = motivo;
+            cantidadDeAnotados++;
+        }
+    }
+
+    /**
+     * Archivo de cuarentena de una carga. Las líneas rechazadas se copian de los datos mapeados a un
+     * búfer directo y se escriben al final del archivo cada vez que se llena. El archivo se abre con
+     * la primera línea, así que no se crea si no hay rechazos; si falla una escritura se informa por
+     * consola una sola vez y el resto de las líneas se descarta.
+     */
+    private static final class Cuarentena {
+        private final Path archivo;
+        private FileChannel canal;
+        private ByteBuffer bufer;
+        private boolean fallo;
+
+        private Cuarentena(Path archivo) {
+            this.archivo = archivo;
+        }
+
+        /**
+         * Agrega una línea a la cuarentena, seguida de un salto de línea.
+         *
+         * @param datos  Los datos del bloque.
+         * @param inicio La posición de inicio de la línea.
+         * @param fin    La posición final (exclusiva) de la línea.
+         */
+        private void agregar(ByteBuffer datos, int inicio, int fin) {
+            if (archivo == null || fallo) {
+                return;
+            }
+            try {
+                if (canal == null) {
+                    canal = FileChannel.open(archivo, StandardOpenOption.CREATE,
+                            StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+                    bufer = ByteBuffer.allocateDirect(TAMANO_DE_BUFER_DE_CUARENTENA);
+                }
+                int longitud = fin - inicio;
+                if (bufer.remaining() <= longitud) {
+                    vaciar();
+                }
+                if (bufer.remaining() <= longitud) {
+                    // Una línea más larga que el búfer se escribe directamente desde los datos mapeados.
+                    ByteBuffer linea = datos.slice(inicio, longitud);
+                    while (linea.hasRemaining()) {
+                        canal.write(linea);
+                    }
+                } else {
+                    bufer.put(bufer.position(), datos, inicio, longitud);
+                    bufer.position(bufer.position() + longitud);
+                }
+                bufer.put((byte) '\n');
+            } catch (IOException e) {
+                informarFallo(e);
+            }
+        }
+
+        /**
+         * Escribe lo que quede en el búfer y cierra el archivo.
+         */
+        private void cerrar() {
+            if (canal == null) {
+                return;
+            }
+            try {
+                if (!fallo) {
+                    vaciar();
+                }
+            } catch (IOException e) {
+                informarFallo(e);
+            } finally {
+                try {
+                    canal.close();
+                } catch (IOException e) {
+                    informarFallo(e);
+                }
+                canal = null;
+            }
+        }
+
+        /**
+         * Escribe el contenido del búfer en el archivo y lo deja vacío.
+         *
+         * @throws IOException Si ocurre un error al escribir.
+         */
+        private void vaciar() throws IOException {
+            bufer.flip();
+            while (bufer.hasRemaining()) {
+                canal.write(bufer);
+            }
+            bufer.clear();
+        }
+
+        /**
+         * Informa por consola un error al escribir la cuarentena y descarta las líneas siguientes.
+         *
+         * @param e El error.
+         */
+        private void informarFallo(IOException e) {
+            if (!fallo) {
+                fallo = true;
+                System.out.println("Error al escribir el archivo de cuarentena: " + e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Tabla de descripciones de síntomas ya vistas en un bloque, indexada por sus bytes, para que
+     * las descripciones repetidas no se decodifiquen de nuevo. Es de direccionamiento abierto y
+     * tiene una capacidad fija: cuando se llena, las descripciones nuevas se decodifican sin guardarse.
+     */
+    private static final class TablaDeSintomas {
+        /**
+         * Cantidad de posiciones de la tabla; es potencia de dos.
+         */
+        private static final int POSICIONES = 1 << 10;
+
+        /**
+         * Cantidad máxima de descripciones guardadas, para que las búsquedas sigan siendo cortas.
+         */
+        private static final int CAPACIDAD = POSICIONES / 2;
+
+        private final byte[][] claves = new byte[POSICIONES][];
+        private final String[] textos = new String[POSICIONES];
+        private int cantidad;
+
+        /**
+         * Devuelve la descripción compartida que corresponde a un campo, quitando los espacios
+         * al inicio y al final.
+         *
+         * @param datos  Los datos del bloque.
+         * @param inicio La posición de inicio del campo.
+         * @param fin    La posición final (exclusiva) del campo.
+         * @return La descripción.
+         */
+        String buscar(ByteBuffer datos, int inicio, int fin) {
+            while (inicio < fin && (datos.get(inicio) & 0xFF) <= ' ') {
+                inicio++;
+            }
+            while (fin > inicio && (datos.get(fin - 1) & 0xFF) <= ' ') {
+                fin--;
+            }
+            int hash = 0;
+            for (int i = inicio; i < fin; i++) {
+                hash = 31 * hash + datos.get(i);
+            }
+            int posicion = (hash ^ (hash >>> 16)) & (POSICIONES - 1);
+            while (claves[posicion] != null) {
+                if (iguales(claves[posicion], datos, inicio, fin)) {
+                    return textos[posicion];
+                }
+                posicion = (posicion + 1) & (POSICIONES - 1);
+            }
+            byte[] bytes = new byte[fin - inicio];
+            datos.get(inicio, bytes);
+            String texto = Diccionario.SINTOMAS.compartido(new String(bytes, StandardCharsets.UTF_8));
+            if (cantidad < CAPACIDAD) {
+                claves[posicion] = bytes;
+                textos[posicion] = texto;
+                cantidad++;
+            }
+            return texto;
+        }
+
+        /**
+         * Indica si una clave guardada coincide con un rango de bytes.
+         *
+         * @param clave  La clave guardada.
+         * @param datos  Los datos del bloque.
+         * @param inicio La posición de inicio del rango.
+         * @param fin    La posición final (exclusiva) del rango.
+         * @return {@code true} si tienen los mismos bytes.
+         */
+        private static boolean iguales(byte[] clave, ByteBuffer datos, int inicio, int fin) {
+            if (clave.length != fin - inicio) {
+                return false;
+            }
+            for (int i = 0; i < clave.length; i++) {
+                if (clave[i] != datos.get(inicio + i)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+}
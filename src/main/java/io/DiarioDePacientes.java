@@ -0,0 +1,399 @@
+package io;
+
+import model.Paciente;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Collection;
+import java.util.Queue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.CRC32;
+
+/**
+ * Diario de solo escritura al final (write-ahead log) para la cola de pacientes.
+ * Cada alta y cada atención se agregan al final del archivo como un registro binario compacto,
+ * por lo que el costo de persistir una operación no depende del tamaño de la cola.
+ * Las escrituras van al sistema operativo de inmediato y la sincronización con el disco
+ * ({@code fsync}) se hace en grupo: un hilo en segundo plano la realiza como máximo una vez
+ * por intervalo, cubriendo todas las operaciones escritas desde la anterior.
+ *
+ * <p>Cada registro tiene la forma {@code [longitud:int][crc32:int][tipo:byte][datos]}. Un registro
+ * incompleto o con CRC incorrecto al final del archivo (por ejemplo, tras una caída) se descarta al reproducir.
+ * Al compactar, el diario se reescribe como un registro {@code BASE} seguido de un alta por cada
+ * paciente en cola; un diario que empieza con {@code BASE} es autocontenido y no necesita
+ * el archivo de fichas para reconstruir la cola.
+ */
+public class DiarioDePacientes implements Closeable {
+    /**
+     * Tipo de registro que marca un diario autocontenido.
+     */
+    private static final byte BASE = 0;
+
+    /**
+     * Tipo de registro de un paciente agregado a la cola.
+     */
+    private static final byte ALTA = 1;
+
+    /**
+     * Tipo de registro de un paciente atendido (eliminado de la cola).
+     */
+    private static final byte ATENCION = 2;
+
+    /**
+     * Tamaño de la cabecera de cada registro: longitud y CRC.
+     */
+    private static final int CABECERA = 8;
+
+    /**
+     * Tamaño del búfer con que se agrupan los registros al compactar.
+     */
+    private static final int TAMANO_DE_LOTE = 1 << 16;
+
+    /**
+     * Ruta del archivo del diario.
+     */
+    private final Path archivo;
+
+    /**
+     * Canal de escritura del diario.
+     */
+    private FileChannel canal;
+
+    /**
+     * Indica si hay escrituras que todavía no se sincronizaron con el disco.
+     */
+    private boolean pendiente;
+
+    /**
+     * Búfer reutilizado para codificar registros.
+     */
+    private final ByteArrayOutputStream bytes = new ByteArrayOutputStream(128);
+
+    /**
+     * Flujo de datos sobre {@code bytes}.
+     */
+    private final DataOutputStream datos = new DataOutputStream(bytes);
+
+    /**
+     * Calculador de CRC reutilizado para codificar registros.
+     */
+    private final CRC32 crcDeEscritura = new CRC32();
+
+    /**
+     * Hilo que sincroniza el diario con el disco de forma periódica.
+     */
+    private final ScheduledExecutorService sincronizador;
+
+    /**
+     * Abre (o crea) el diario y programa la sincronización en grupo.
+     *
+     * @param archivo                   La ruta del archivo del diario.
+     * @param intervaloDeSincronizacion Milisegundos máximos entre una escritura y su sincronización con el disco.
+     * @throws IOException Si no se puede abrir el archivo.
+     */
+    public DiarioDePacientes(Path archivo, long intervaloDeSincronizacion) throws IOException {
+        this.archivo = archivo;
+        this.canal = abrir(archivo);
+        this.sincronizador = Executors.newSingleThreadScheduledExecutor(tarea -> {
+            Thread hilo = new Thread(tarea, "sincronizador-del-diario");
+            hilo.setDaemon(true);
+            return hilo;
+        });
+        sincronizador.scheduleWithFixedDelay(() -> {
+            try {
+                sincronizar();
+            } catch (IOException e) {
+                System.out.println("Error al sincronizar el diario: " + e.getMessage());
+            }
+        }, intervaloDeSincronizacion, intervaloDeSincronizacion, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Abre el canal de escritura al final del archivo.
+     *
+     * @param archivo La ruta del archivo.
+     * @return El canal abierto.
+     * @throws IOException Si no se puede abrir el archivo.
+     */
+    private static FileChannel abrir(Path archivo) throws IOException {
+        FileChannel canal = FileChannel.open(archivo, StandardOpenOption.CREATE, StandardOpenOption.WRITE);
+        canal.position(canal.size());
+        return canal;
+    }
+
+    /**
+     * Indica si el diario es autocontenido, es decir, si empieza con un registro {@code BASE}.
+     *
+     * @return {@code true} si la cola se puede reconstruir solo con el diario.
+     * @throws IOException Si ocurre un error al leer el archivo.
+     */
+    public synchronized boolean esAutocontenido() throws IOException {
+        try (FileChannel lector = FileChannel.open(archivo, StandardOpenOption.READ)) {
+            ByteBuffer cabecera = ByteBuffer.allocate(CABECERA + 1);
+            while (cabecera.hasRemaining() && lector.read(cabecera) > 0) {
+                // Se sigue leyendo hasta completar la cabecera o llegar al final.
+            }
+            return !cabecera.hasRemaining() && cabecera.get(CABECERA) == BASE;
+        }
+    }
+
+    /**
+     * Aplica las operaciones del diario sobre una cola: cada alta agrega un paciente y cada
+     * atención elimina exactamente el paciente registrado, aunque no sea el primero de la cola
+     * (por un empate o porque el orden de la cola depende del reloj o del azar). Si al final del
+     * archivo hay un registro incompleto o dañado, se descarta y el archivo se recorta hasta el
+     * último registro válido.
+     *
+     * @param cola La cola sobre la que se aplican las operaciones.
+     * @return La cantidad de operaciones aplicadas.
+     * @throws IOException Si ocurre un error al leer el archivo.
+     */
+    public synchronized int reproducir(Queue<Paciente> cola) throws IOException {
+        int operaciones = 0;
+        long posicionValida = 0;
+        long tamano = Files.size(archivo);
+        try (DataInputStream entrada = new DataInputStream(
+                new BufferedInputStream(Files.newInputStream(archivo), TAMANO_DE_LOTE))) {
+            CRC32 crc = new CRC32();
+            byte[] contenido = new byte[256];
+            while (posicionValida + CABECERA <= tamano) {
+                int longitud = entrada.readInt();
+                int crcEsperado = entrada.readInt();
+                if (longitud <= 0 || posicionValida + CABECERA + longitud > tamano) {
+                    break;
+                }
+                if (longitud > contenido.length) {
+                    contenido = new byte[Math.max(longitud, contenido.length * 2)];
+                }
+                entrada.readFully(contenido, 0, longitud);
+                crc.reset();
+                crc.update(contenido, 0, longitud);
+                if ((int) crc.getValue() != crcEsperado) {
+                    break;
+                }
+                aplicar(contenido, longitud, cola);
+                operaciones++;
+                posicionValida += CABECERA + longitud;
+            }
+        }
+        if (posicionValida < canal.size()) {
+            canal.truncate(posicionValida);
+            canal.position(posicionValida);
+        }
+        return operaciones;
+    }
+
+    /**
+     * Aplica un registro sobre la cola.
+     *
+     * @param contenido Los bytes del registro, sin la cabecera.
+     * @param longitud  La cantidad de bytes válidos en {@code contenido}.
+     * @param cola      La cola sobre la que se aplica.
+     * @throws IOException Si el registro no se puede decodificar.
+     */
+    private static void aplicar(byte[] contenido, int longitud, Queue<Paciente> cola) throws IOException {
+        DataInputStream entrada = new DataInputStream(new ByteArrayInputStream(contenido, 0, longitud));
+        byte tipo = entrada.readByte();
+        if (tipo == ALTA) {
+            cola.add(leerPaciente(entrada));
+        } else if (tipo == ATENCION) {
+            eliminar(cola, leerPaciente(entrada));
+        } else if (tipo != BASE) {
+            throw new IOException("Tipo de registro desconocido en el diario: " + tipo);
+        }
+    }
+
+    /**
+     * Decodifica el paciente de un registro de alta o de atención.
+     *
+     * @param entrada Los datos del registro, a continuación del tipo.
+     * @return El paciente.
+     * @throws IOException Si el paciente no se puede decodificar.
+     */
+    private static Paciente leerPaciente(DataInputStream entrada) throws IOException {
+        String nombreDelPaciente = entrada.readUTF();
+        String descripcionDelSintoma = entrada.readUTF();
+        String codigoDeEmergencia = entrada.readUTF();
+        LocalDateTime currentDateTime = LocalDateTime.ofEpochSecond(entrada.readLong(), entrada.readInt(), ZoneOffset.UTC);
+        return new Paciente(nombreDelPaciente, descripcionDelSintoma, codigoDeEmergencia, currentDateTime);
+    }
+
+    /**
+     * Elimina de la cola el paciente de un registro de atención. Si es el primero de la cola se
+     * atiende con {@code poll}; si no, se busca el paciente con los mismos datos y se elimina con
+     * {@code remove(Object)}. Si no está en la cola, el registro no tiene efecto.
+     *
+     * @param cola     La cola.
+     * @param atendido El paciente registrado como atendido.
+     */
+    private static void eliminar(Queue<Paciente> cola, Paciente atendido) {
+        Paciente primero = cola.peek();
+        if (primero != null && mismoPaciente(primero, atendido)) {
+            // remove en lugar de poll: una cola como AgingQueue registraría la espera de cada atención reproducida.
+            cola.remove(primero);
+            return;
+        }
+        for (Paciente paciente : cola) {
+            if (mismoPaciente(paciente, atendido)) {
+                cola.remove(paciente);
+                return;
+            }
+        }
+    }
+
+    /**
+     * Indica si dos pacientes tienen los mismos datos.
+     *
+     * @param a El primer paciente.
+     * @param b El segundo paciente.
+     * @return {@code true} si coinciden el nombre, la descripción, el código y la fecha/hora.
+     */
+    private static boolean mismoPaciente(Paciente a, Paciente b) {
+        return a.getCurrentDateTime().equals(b.getCurrentDateTime())
+                && a.getNombreDelPaciente().equals(b.getNombreDelPaciente())
+                && a.getDescripcionDelSintoma().equals(b.getDescripcionDelSintoma())
+                && a.getCodigoDeEmergencia().equals(b.getCodigoDeEmergencia());
+    }
+
+    /**
+     * Registra en el diario que un paciente fue agregado a la cola.
+     *
+     * @param paciente El paciente agregado.
+     * @throws IOException Si ocurre un error al escribir.
+     */
+    public synchronized void registrarAlta(Paciente paciente) throws IOException {
+        canal.write(codificar(ALTA, paciente));
+        pendiente = true;
+    }
+
+    /**
+     * Registra en el diario que se atendió a un paciente.
+     *
+     * @param paciente El paciente atendido; al reproducir se elimina exactamente este paciente.
+     * @throws IOException Si ocurre un error al escribir.
+     */
+    public synchronized void registrarAtencion(Paciente paciente) throws IOException {
+        canal.write(codificar(ATENCION, paciente));
+        pendiente = true;
+    }
+
+    /**
+     * Codifica un registro con su cabecera.
+     *
+     * @param tipo     El tipo de registro.
+     * @param paciente El paciente del registro, o {@code null} para un registro {@code BASE}.
+     * @return Un búfer listo para escribir.
+     * @throws IOException Si el paciente no se puede codificar.
+     */
+    private ByteBuffer codificar(byte tipo, Paciente paciente) throws IOException {
+        bytes.reset();
+        datos.writeInt(0);
+        datos.writeInt(0);
+        datos.writeByte(tipo);
+        if (paciente != null) {
+            datos.writeUTF(paciente.getNombreDelPaciente());
+            datos.writeUTF(paciente.getDescripcionDelSintoma());
+            datos.writeUTF(paciente.getCodigoDeEmergencia());
+            LocalDateTime currentDateTime = paciente.getCurrentDateTime();
+            datos.writeLong(currentDateTime.toEpochSecond(ZoneOffset.UTC));
+            datos.writeInt(currentDateTime.getNano());
+        }
+        datos.flush();
+        ByteBuffer registro = ByteBuffer.wrap(bytes.toByteArray());
+        int longitud = registro.limit() - CABECERA;
+        crcDeEscritura.reset();
+        crcDeEscritura.update(registro.array(), CABECERA, longitud);
+        registro.putInt(0, longitud);
+        registro.putInt(4, (int) crcDeEscritura.getValue());
+        return registro;
+    }
+
+    /**
+     * Sincroniza con el disco todas las operaciones escritas desde la última sincronización.
+     *
+     * @throws IOException Si ocurre un error al sincronizar.
+     */
+    public synchronized void sincronizar() throws IOException {
+        if (pendiente && canal.isOpen()) {
+            canal.force(false);
+            pendiente = false;
+        }
+    }
+
+    /**
+     * Reescribe el diario como una instantánea de los pacientes indicados: un registro {@code BASE}
+     * seguido de un alta por paciente. El nuevo diario se escribe en un archivo temporal, se sincroniza
+     * y reemplaza al anterior de forma atómica, por lo que una caída durante la compactación deja
+     * intacto el diario anterior.
+     *
+     * @param pacientes Los pacientes que están en la cola.
+     * @throws IOException Si ocurre un error al escribir.
+     */
+    public synchronized void compactar(Collection<Paciente> pacientes) throws IOException {
+        Path temporal = archivo.resolveSibling(archivo.getFileName() + ".tmp");
+        try (FileChannel nuevo = FileChannel.open(temporal, StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            ByteBuffer lote = ByteBuffer.allocateDirect(TAMANO_DE_LOTE);
+            lote.put(codificar(BASE, null));
+            for (Paciente paciente : pacientes) {
+                ByteBuffer registro = codificar(ALTA, paciente);
+                if (registro.remaining() > lote.remaining()) {
+                    escribirLote(nuevo, lote);
+                }
+                if (registro.remaining() > lote.remaining()) {
+                    nuevo.write(registro);
+                } else {
+                    lote.put(registro);
+                }
+            }
+            escribirLote(nuevo, lote);
+            nuevo.force(true);
+        }
+        canal.close();
+        Files.move(temporal, archivo, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        canal = abrir(archivo);
+        pendiente = false;
+    }
+
+    /**
+     * Escribe por completo el contenido de un lote y lo deja vacío.
+     *
+     * @param destino El canal de destino.
+     * @param lote    El lote a escribir.
+     * @throws IOException Si ocurre un error al escribir.
+     */
+    private static void escribirLote(FileChannel destino, ByteBuffer lote) throws IOException {
+        lote.flip();
+        while (lote.hasRemaining()) {
+            destino.write(lote);
+        }
+        lote.clear();
+    }
+
+    /**
+     * Sincroniza las operaciones pendientes, detiene el hilo de sincronización y cierra el diario.
+     *
+     * @throws IOException Si ocurre un error al sincronizar o cerrar.
+     */
+    @Override
+    public synchronized void close() throws IOException {
+        sincronizador.shutdownNow();
+        sincronizar();
+        canal.close();
+    }
+}
@@ -0,0 +1,135 @@
+package io;
+
+import model.Paciente;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Collection;
+
+/**
+ * Escritor de fichas de pacientes en CSV, complemento de {@link CargadorDeFichas}.
+ * Codifica cada ficha en UTF-8 directamente en un búfer directo reutilizable y lo escribe en un
+ * {@code FileChannel} cada vez que se llena, así que la memoria usada no depende de la cantidad de
+ * pacientes: no se arma el archivo completo en un {@code StringBuilder} ni en un {@code String}.
+ *
+ * <p>El archivo se escribe en un temporal junto al destino, se sincroniza con el disco y reemplaza
+ * al anterior de forma atómica, por lo que una caída a mitad del guardado deja intacto el archivo anterior.
+ * El formato es el de siempre: una línea {@code nombre,descripción,código,fecha/hora} por paciente,
+ * con la fecha/hora escrita por {@link FechaIso}.
+ * Un mismo escritor puede usarse desde varios hilos; los guardados se hacen de a uno.
+ */
+public final class EscritorDeFichas {
+    /**
+     * Tamaño del búfer directo de escritura.
+     */
+    private static final int TAMANO_DE_BUFER = 1 << 16;
+
+    /**
+     * Búfer reutilizado entre guardados.
+     */
+    private final ByteBuffer bufer = ByteBuffer.allocateDirect(TAMANO_DE_BUFER);
+
+    /**
+     * Guarda las fichas de los pacientes en un archivo CSV.
+     *
+     * @param archivo   La ruta del archivo.
+     * @param pacientes Los pacientes a guardar.
+     * @return La cantidad de bytes escritos.
+     * @throws IOException Si ocurre un error al escribir; el archivo anterior queda intacto.
+     */
+    public synchronized long guardar(Path archivo, Collection<Paciente> pacientes) throws IOException {
+        Path temporal = archivo.resolveSibling(archivo.getFileName() + ".tmp");
+        long escritos;
+        try (FileChannel canal = FileChannel.open(temporal, StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            bufer.clear();
+            for (Paciente paciente : pacientes) {
+                escribirTexto(canal, paciente.getNombreDelPaciente());
+                escribirByte(canal, ',');
+                escribirTexto(canal, paciente.getDescripcionDelSintoma());
+                escribirByte(canal, ',');
+                escribirTexto(canal, paciente.getCodigoDeEmergencia());
+                escribirByte(canal, ',');
+                if (bufer.remaining() < FechaIso.LONGITUD_MAXIMA + 1) {
+                    vaciar(canal);
+                }
+                FechaIso.escribir(paciente.getCurrentDateTime(), bufer);
+                bufer.put((byte) '\n');
+            }
+            vaciar(canal);
+            escritos = canal.size();
+            canal.force(true);
+        }
+        Files.move(temporal, archivo, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        return escritos;
+    }
+
+    /**
+     * Codifica un texto en UTF-8 en el búfer, carácter por carácter y sin copias intermedias.
+     * Un surrogate sin pareja se escribe como {@code '?'}, igual que {@code String.getBytes}.
+     *
+     * @param canal El canal de destino.
+     * @param texto El texto.
+     * @throws IOException Si ocurre un error al escribir.
+     */
+    private void escribirTexto(FileChannel canal, String texto) throws IOException {
+        int longitud = texto.length();
+        for (int i = 0; i < longitud; i++) {
+            char c = texto.charAt(i);
+            if (bufer.remaining() < 4) {
+                vaciar(canal);
+            }
+            if (c < 0x80) {
+                bufer.put((byte) c);
+            } else if (c < 0x800) {
+                bufer.put((byte) (0xC0 | (c >> 6)));
+                bufer.put((byte) (0x80 | (c & 0x3F)));
+            } else if (Character.isHighSurrogate(c) && i + 1 < longitud && Character.isLowSurrogate(texto.charAt(i + 1))) {
+                int puntoDeCodigo = Character.toCodePoint(c, texto.charAt(++i));
+                bufer.put((byte) (0xF0 | (puntoDeCodigo >> 18)));
+                bufer.put((byte) (0x80 | ((puntoDeCodigo >> 12) & 0x3F)));
+                bufer.put((byte) (0x80 | ((puntoDeCodigo >> 6) & 0x3F)));
+                bufer.put((byte) (0x80 | (puntoDeCodigo & 0x3F)));
+            } else if (Character.isSurrogate(c)) {
+                bufer.put((byte) '?');
+            } else {
+                bufer.put((byte) (0xE0 | (c >> 12)));
+                bufer.put((byte) (0x80 | ((c >> 6) & 0x3F)));
+                bufer.put((byte) (0x80 | (c & 0x3F)));
+            }
+        }
+    }
+
+    /**
+     * Escribe un carácter ASCII en el búfer.
+     *
+     * @param canal El canal de destino.
+     * @param c     El carácter.
+     * @throws IOException Si ocurre un error al escribir.
+     */
+    private void escribirByte(FileChannel canal, char c) throws IOException {
+        if (!bufer.hasRemaining()) {
+            vaciar(canal);
+        }
+        bufer.put((byte) c);
+    }
+
+    /**
+     * Escribe el contenido del búfer en el canal y lo deja vacío.
+     *
+     * @param canal El canal de destino.
+     * @throws IOException Si ocurre un error al escribir.
+     */
+    private void vaciar(FileChannel canal) throws IOException {
+        bufer.flip();
+        while (bufer.hasRemaining()) {
+            canal.write(bufer);
+        }
+        bufer.clear();
+    }
+}
@@ -0,0 +1,435 @@
+package io;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.DateTimeException;
+import java.time.LocalDateTime;
+import java.time.Month;
+import java.time.Year;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * Lectura y escritura rápidas de fechas/horas ISO ({@code DateTimeFormatter.ISO_LOCAL_DATE_TIME}),
+ * el formato de la fecha/hora de registro en las fichas.
+ *
+ * <p>Las fechas de la forma {@code yyyy-MM-ddTHH:mm[:ss[.fracción]]}, con año de cuatro cifras y hasta
+ * nueve cifras de fracción, se interpretan y se escriben directamente sobre los bytes o caracteres,
+ * sin crear objetos intermedios; los caminos de bytes y de texto comparten la forma, la lectura de
+ * cifras y la composición de la fecha. Las fechas con año con signo (de más de cuatro cifras o
+ * negativo) se delegan a {@code DateTimeFormatter}, así que el resultado es siempre el mismo que con
+ * el formateador de la JDK. Las variantes {@code intentarLeer} devuelven {@code null} en lugar de lanzar una
+ * excepción cuando el texto no es válido, para leer archivos con muchas líneas dañadas sin pagar
+ * el costo de crear excepciones.
+ */
+public final class FechaIso {
+    /**
+     * Formato utilizado cuando la fecha/hora no tiene la forma esperada.
+     */
+    private static final DateTimeFormatter FORMATO = DateTimeFormatter.ISO_LOCAL_DATE_TIME;
+
+    /**
+     * Cantidad máxima de bytes de una fecha/hora escrita, incluido un año de nueve cifras con signo.
+     */
+    public static final int LONGITUD_MAXIMA = 35;
+
+    /**
+     * Cantidad máxima de caracteres de una fecha/hora que se interpreta por el camino rápido.
+     */
+    private static final int LONGITUD_MAXIMA_DE_LECTURA = 29;
+
+    /**
+     * Potencias de diez para quitar los ceros finales de la fracción.
+     */
+    private static final int[] POTENCIAS_DE_DIEZ = {1, 10, 100, 1_000, 10_000, 100_000, 1_000_000, 10_000_000, 100_000_000};
+
+    private FechaIso() {
+    }
+
+    /**
+     * Lee una fecha/hora ISO de un rango de bytes, ignorando los espacios al inicio y al final.
+     *
+     * @param datos  Los datos.
+     * @param inicio La posición de inicio del campo.
+     * @param fin    La posición final (exclusiva) del campo.
+     * @return La fecha/hora leída.
+     * @throws DateTimeException Si el texto no es una fecha/hora válida.
+     */
+    public static LocalDateTime leer(ByteBuffer datos, int inicio, int fin) {
+        LocalDateTime fecha = intentarLeer(datos, null, inicio, fin);
+        return fecha != null ? fecha : LocalDateTime.parse(decodificar(datos, null, inicio, fin).trim(), FORMATO);
+    }
+
+    /**
+     * Lee una fecha/hora ISO de un rango de un arreglo de bytes, ignorando los espacios al inicio y al final.
+     *
+     * @param datos  Los datos.
+     * @param inicio La posición de inicio del campo.
+     * @param fin    La posición final (exclusiva) del campo.
+     * @return La fecha/hora leída.
+     * @throws DateTimeException Si el texto no es una fecha/hora válida.
+     */
+    public static LocalDateTime leer(byte[] datos, int inicio, int fin) {
+        LocalDateTime fecha = intentarLeer(null, datos, inicio, fin);
+        return fecha != null ? fecha : LocalDateTime.parse(decodificar(null, datos, inicio, fin).trim(), FORMATO);
+    }
+
+    /**
+     * Lee una fecha/hora ISO de un texto, ignorando los espacios al inicio y al final.
+     *
+     * @param texto El texto.
+     * @return La fecha/hora leída.
+     * @throws DateTimeException Si el texto no es una fecha/hora válida.
+     */
+    public static LocalDateTime leer(CharSequence texto) {
+        LocalDateTime fecha = intentarLeer(texto);
+        return fecha != null ? fecha : LocalDateTime.parse(texto.toString().trim(), FORMATO);
+    }
+
+    /**
+     * Lee una fecha/hora ISO de un rango de bytes sin lanzar excepciones, ignorando los espacios
+     * al inicio y al final. Acepta las mismas fechas/horas que {@code ISO_LOCAL_DATE_TIME}; solo las
+     * que tienen un año con signo pasan por el formateador de la JDK.
+     *
+     * @param datos  Los datos.
+     * @param inicio La posición de inicio del campo.
+     * @param fin    La posición final (exclusiva) del campo.
+     * @return La fecha/hora leída, o {@code null} si el texto no es una fecha/hora válida.
+     */
+    public static LocalDateTime intentarLeer(ByteBuffer datos, int inicio, int fin) {
+        return intentarLeer(datos, null, inicio, fin);
+    }
+
+    /**
+     * Lee una fecha/hora ISO de un texto sin lanzar excepciones, ignorando los espacios al inicio
+     * y al final (ver {@link #intentarLeer(ByteBuffer, int, int)}).
+     *
+     * @param texto El texto.
+     * @return La fecha/hora leída, o {@code null} si el texto no es una fecha/hora válida.
+     */
+    public static LocalDateTime intentarLeer(CharSequence texto) {
+        int inicio = 0;
+        int fin = texto.length();
+        while (inicio < fin && texto.charAt(inicio) <= ' ') {
+            inicio++;
+        }
+        while (fin > inicio && texto.charAt(fin - 1) <= ' ') {
+            fin--;
+        }
+        int longitud = fin - inicio;
+        if (longitud > 0 && esSigno(texto.charAt(inicio))) {
+            return leerConLaJdk(texto.subSequence(inicio, fin));
+        }
+        if (!esLongitudRapida(longitud)
+                || !tieneSeparadores(texto.charAt(inicio + 4), texto.charAt(inicio + 7),
+                        texto.charAt(inicio + 10), texto.charAt(inicio + 13),
+                        longitud > 16 ? texto.charAt(inicio + 16) : ':',
+                        longitud > 19 ? texto.charAt(inicio + 19) : '.')) {
+            return null;
+        }
+        return componer(digitos(texto, inicio, 4), digitos(texto, inicio + 5, 2), digitos(texto, inicio + 8, 2),
+                digitos(texto, inicio + 11, 2), digitos(texto, inicio + 14, 2),
+                longitud > 16 ? digitos(texto, inicio + 17, 2) : 0,
+                longitud > 20 ? digitos(texto, inicio + 20, longitud - 20) : 0, Math.max(0, longitud - 20));
+    }
+
+    /**
+     * Lee una fecha/hora ISO de un rango de un búfer o de un arreglo de bytes, sin crear objetos si
+     * la fecha/hora tiene la forma habitual.
+     *
+     * @param bufer   El búfer, o {@code null} si los datos están en el arreglo.
+     * @param arreglo El arreglo, o {@code null} si los datos están en el búfer.
+     * @param inicio  La posición de inicio del campo.
+     * @param fin     La posición final (exclusiva) del campo.
+     * @return La fecha/hora leída, o {@code null} si el texto no es una fecha/hora válida.
+     */
+    private static LocalDateTime intentarLeer(ByteBuffer bufer, byte[] arreglo, int inicio, int fin) {
+        while (inicio < fin && (byteEn(bufer, arreglo, inicio) & 0xFF) <= ' ') {
+            inicio++;
+        }
+        while (fin > inicio && (byteEn(bufer, arreglo, fin - 1) & 0xFF) <= ' ') {
+            fin--;
+        }
+        int longitud = fin - inicio;
+        if (longitud > 0 && esSigno(byteEn(bufer, arreglo, inicio))) {
+            return leerConLaJdk(decodificar(bufer, arreglo, inicio, fin));
+        }
+        if (!esLongitudRapida(longitud)
+                || !tieneSeparadores(byteEn(bufer, arreglo, inicio + 4), byteEn(bufer, arreglo, inicio + 7),
+                        byteEn(bufer, arreglo, inicio + 10), byteEn(bufer, arreglo, inicio + 13),
+                        longitud > 16 ? byteEn(bufer, arreglo, inicio + 16) : ':',
+                        longitud > 19 ? byteEn(bufer, arreglo, inicio + 19) : '.')) {
+            return null;
+        }
+        return componer(digitos(bufer, arreglo, inicio, 4), digitos(bufer, arreglo, inicio + 5, 2),
+                digitos(bufer, arreglo, inicio + 8, 2), digitos(bufer, arreglo, inicio + 11, 2),
+                digitos(bufer, arreglo, inicio + 14, 2),
+                longitud > 16 ? digitos(bufer, arreglo, inicio + 17, 2) : 0,
+                longitud > 20 ? digitos(bufer, arreglo, inicio + 20, longitud - 20) : 0, Math.max(0, longitud - 20));
+    }
+
+    /**
+     * Lee con el formateador de la JDK una fecha/hora con año con signo, que no tiene forma fija.
+     *
+     * @param texto El texto, sin espacios al inicio ni al final.
+     * @return La fecha/hora leída, o {@code null} si el texto no es una fecha/hora válida.
+     */
+    private static LocalDateTime leerConLaJdk(CharSequence texto) {
+        try {
+            return LocalDateTime.parse(texto, FORMATO);
+        } catch (DateTimeException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Escribe una fecha/hora en formato ISO como bytes ASCII, igual que {@code ISO_LOCAL_DATE_TIME}:
+     * los segundos siempre, y la fracción solo si no es cero y sin ceros finales.
+     *
+     * @param fecha La fecha/hora.
+     * @param bufer El búfer de destino; debe tener al menos {@link #LONGITUD_MAXIMA} bytes libres.
+     */
+    public static void escribir(LocalDateTime fecha, ByteBuffer bufer) {
+        if (!tieneAnioDeCuatroCifras(fecha)) {
+            String texto = fecha.format(FORMATO);
+            for (int i = 0; i < texto.length(); i++) {
+                bufer.put((byte) texto.charAt(i));
+            }
+            return;
+        }
+        int longitud = longitudEscrita(fecha);
+        for (int i = 0; i < longitud; i++) {
+            bufer.put((byte) caracterEscrito(fecha, i));
+        }
+    }
+
+    /**
+     * Escribe una fecha/hora en formato ISO al final de un {@code StringBuilder}, igual que
+     * {@link #escribir(LocalDateTime, ByteBuffer)}.
+     *
+     * @param fecha   La fecha/hora.
+     * @param destino El texto de destino.
+     * @return El mismo {@code destino}.
+     */
+    public static StringBuilder escribir(LocalDateTime fecha, StringBuilder destino) {
+        if (!tieneAnioDeCuatroCifras(fecha)) {
+            return destino.append(fecha.format(FORMATO));
+        }
+        int longitud = longitudEscrita(fecha);
+        for (int i = 0; i < longitud; i++) {
+            destino.append(caracterEscrito(fecha, i));
+        }
+        return destino;
+    }
+
+    /**
+     * Indica si el año de una fecha/hora se escribe con cuatro cifras y sin signo.
+     *
+     * @param fecha La fecha/hora.
+     * @return {@code true} si el año está entre 0 y 9999.
+     */
+    private static boolean tieneAnioDeCuatroCifras(LocalDateTime fecha) {
+        return fecha.getYear() >= 0 && fecha.getYear() <= 9999;
+    }
+
+    /**
+     * Calcula la cantidad de caracteres de una fecha/hora con año de cuatro cifras.
+     *
+     * @param fecha La fecha/hora.
+     * @return 19, o más si hay fracción: el punto y sus cifras sin los ceros finales.
+     */
+    private static int longitudEscrita(LocalDateTime fecha) {
+        int nanos = fecha.getNano();
+        if (nanos == 0) {
+            return 19;
+        }
+        int cifras = 9;
+        while (nanos % 10 == 0) {
+            nanos /= 10;
+            cifras--;
+        }
+        return 20 + cifras;
+    }
+
+    /**
+     * Obtiene el carácter de una posición de la fecha/hora escrita; es la única descripción del
+     * formato de escritura, común a los bytes y al texto.
+     *
+     * @param fecha    La fecha/hora, con año de cuatro cifras.
+     * @param posicion La posición, menor que {@link #longitudEscrita(LocalDateTime)}.
+     * @return El carácter.
+     */
+    private static char caracterEscrito(LocalDateTime fecha, int posicion) {
+        switch (posicion) {
+            case 0: case 1: case 2: case 3:
+                return cifra(fecha.getYear(), 3 - posicion);
+            case 4: case 7:
+                return '-';
+            case 5: case 6:
+                return cifra(fecha.getMonthValue(), 6 - posicion);
+            case 8: case 9:
+                return cifra(fecha.getDayOfMonth(), 9 - posicion);
+            case 10:
+                return 'T';
+            case 11: case 12:
+                return cifra(fecha.getHour(), 12 - posicion);
+            case 13: case 16:
+                return ':';
+            case 14: case 15:
+                return cifra(fecha.getMinute(), 15 - posicion);
+            case 17: case 18:
+                return cifra(fecha.getSecond(), 18 - posicion);
+            case 19:
+                return '.';
+            default:
+                return cifra(fecha.getNano(), 28 - posicion);
+        }
+    }
+
+    /**
+     * Obtiene una cifra decimal de un número.
+     *
+     * @param valor  El número, no negativo.
+     * @param indice La posición de la cifra, contando desde las unidades.
+     * @return El carácter de la cifra.
+     */
+    private static char cifra(int valor, int indice) {
+        return (char) ('0' + valor / POTENCIAS_DE_DIEZ[indice] % 10);
+    }
+
+    /**
+     * Indica si un carácter es el signo de un año que no tiene cuatro cifras.
+     *
+     * @param caracter El carácter.
+     * @return {@code true} si es {@code '+'} o {@code '-'}.
+     */
+    private static boolean esSigno(int caracter) {
+        return caracter == '+' || caracter == '-';
+    }
+
+    /**
+     * Indica si una fecha/hora de esta longitud puede tener la forma que se lee por el camino rápido:
+     * sin segundos (16), con segundos (19) o con fracción de una a nueve cifras (21 a 29), o con un
+     * punto sin cifras (20), que la JDK también acepta.
+     *
+     * @param longitud La longitud, sin espacios.
+     * @return {@code true} si la longitud es de la forma habitual.
+     */
+    private static boolean esLongitudRapida(int longitud) {
+        return longitud == 16 || (longitud >= 19 && longitud <= LONGITUD_MAXIMA_DE_LECTURA);
+    }
+
+    /**
+     * Comprueba los separadores de una fecha/hora de la forma habitual.
+     *
+     * @param guion     El carácter de la posición 4.
+     * @param otroGuion El carácter de la posición 7.
+     * @param te        El carácter de la posición 10.
+     * @param dosPuntos El carácter de la posición 13.
+     * @param segundos  El carácter de la posición 16, o {@code ':'} si la fecha/hora no tiene segundos.
+     * @param punto     El carácter de la posición 19, o {@code '.'} si la fecha/hora no tiene fracción.
+     * @return {@code true} si todos los separadores son los esperados.
+     */
+    private static boolean tieneSeparadores(int guion, int otroGuion, int te, int dosPuntos, int segundos, int punto) {
+        return guion == '-' && otroGuion == '-' && (te | 0x20) == 't' && dosPuntos == ':'
+                && segundos == ':' && punto == '.';
+    }
+
+    /**
+     * Construye la fecha/hora si todos los campos son válidos.
+     *
+     * @param anio     El año.
+     * @param mes      El mes, de 1 a 12.
+     * @param dia      El día del mes.
+     * @param hora     La hora, de 0 a 23.
+     * @param minuto   El minuto, de 0 a 59.
+     * @param segundo  El segundo, de 0 a 59.
+     * @param fraccion Las cifras de la fracción leídas como número.
+     * @param cifras   La cantidad de cifras de la fracción, de 0 a 9.
+     * @return La fecha/hora, o {@code null} si algún campo no tiene cifras válidas o está fuera de rango.
+     */
+    private static LocalDateTime componer(int anio, int mes, int dia, int hora, int minuto, int segundo,
+                                          int fraccion, int cifras) {
+        if ((anio | mes | dia | hora | minuto | segundo | fraccion) >= 0
+                && mes >= 1 && mes <= 12 && dia >= 1 && dia <= Month.of(mes).length(Year.isLeap(anio))
+                && hora <= 23 && minuto <= 59 && segundo <= 59) {
+            int nanos = cifras == 0 ? 0 : fraccion * POTENCIAS_DE_DIEZ[9 - cifras];
+            return LocalDateTime.of(anio, mes, dia, hora, minuto, segundo, nanos);
+        }
+        return null;
+    }
+
+    /**
+     * Agrega una cifra a un número decimal que se está leyendo.
+     *
+     * @param valor    El número leído hasta ahora, o -1 si ya no es válido.
+     * @param caracter El siguiente carácter.
+     * @return El número con la cifra agregada, o -1 si el carácter no es un dígito.
+     */
+    private static int acumular(int valor, int caracter) {
+        int digito = caracter - '0';
+        return valor < 0 || digito < 0 || digito > 9 ? -1 : valor * 10 + digito;
+    }
+
+    /**
+     * Lee un número decimal de longitud fija de un texto.
+     *
+     * @param texto    El texto.
+     * @param inicio   La posición del primer dígito.
+     * @param cantidad La cantidad de dígitos.
+     * @return El número leído, o -1 si algún carácter no es un dígito.
+     */
+    private static int digitos(CharSequence texto, int inicio, int cantidad) {
+        int valor = 0;
+        for (int i = inicio; i < inicio + cantidad; i++) {
+            valor = acumular(valor, texto.charAt(i));
+        }
+        return valor;
+    }
+
+    /**
+     * Lee un número decimal de longitud fija de un búfer o de un arreglo de bytes.
+     *
+     * @param bufer    El búfer, o {@code null} si los datos están en el arreglo.
+     * @param arreglo  El arreglo, o {@code null} si los datos están en el búfer.
+     * @param inicio   La posición del primer dígito.
+     * @param cantidad La cantidad de dígitos.
+     * @return El número leído, o -1 si algún byte no es un dígito.
+     */
+    private static int digitos(ByteBuffer bufer, byte[] arreglo, int inicio, int cantidad) {
+        int valor = 0;
+        for (int i = inicio; i < inicio + cantidad; i++) {
+            valor = acumular(valor, byteEn(bufer, arreglo, i));
+        }
+        return valor;
+    }
+
+    /**
+     * Obtiene un byte de un búfer o de un arreglo.
+     *
+     * @param bufer    El búfer, o {@code null} si los datos están en el arreglo.
+     * @param arreglo  El arreglo, o {@code null} si los datos están en el búfer.
+     * @param posicion La posición.
+     * @return El byte.
+     */
+    private static byte byteEn(ByteBuffer bufer, byte[] arreglo, int posicion) {
+        return arreglo != null ? arreglo[posicion] : bufer.get(posicion);
+    }
+
+    /**
+     * Decodifica en UTF-8 un rango de un búfer o de un arreglo; solo se usa fuera del camino rápido.
+     *
+     * @param bufer   El búfer, o {@code null} si los datos están en el arreglo.
+     * @param arreglo El arreglo, o {@code null} si los datos están en el búfer.
+     * @param inicio  La posición de inicio.
+     * @param fin     La posición final (exclusiva).
+     * @return El texto decodificado.
+     */
+    private static String decodificar(ByteBuffer bufer, byte[] arreglo, int inicio, int fin) {
+        if (arreglo != null) {
+            return new String(arreglo, inicio, fin - inicio, StandardCharsets.UTF_8);
+        }
+        byte[] bytes = new byte[fin - inicio];
+        bufer.get(inicio, bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
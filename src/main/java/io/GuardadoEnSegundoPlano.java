@@ -0,0 +1,210 @@
+package io;
+
+import model.Paciente;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Guarda la cola de pacientes en un hilo en segundo plano, fuera del camino de cada operación.
+ *
+ * <p>Las operaciones solo anotan el cambio (un alta o una atención) en una lista de pendientes,
+ * lo que cuesta lo mismo sin importar el tamaño de la cola ni la velocidad del disco. Un hilo
+ * revisa los pendientes una vez por intervalo: si hay cambios, intercambia la lista por una vacía,
+ * aplica los cambios sobre una copia propia de la cola y escribe esa copia con el {@link Escritor}.
+ * Todos los cambios de un intervalo se agrupan en una sola escritura, y el archivo nunca queda
+ * más de un intervalo (más lo que tarde la escritura) por detrás de la cola.
+ *
+ * <p>La copia es un conjunto de pacientes por identidad, en orden de llegada; el orden del archivo
+ * no importa porque al cargarlo la cola se reconstruye por prioridad. Si una escritura falla, los
+ * cambios quedan aplicados sobre la copia y se vuelve a intentar en el siguiente intervalo.
+ * Al cerrar se escriben los cambios pendientes.
+ */
+public class GuardadoEnSegundoPlano implements Closeable {
+    /**
+     * Escribe una copia de la cola en el disco.
+     */
+    @FunctionalInterface
+    public interface Escritor {
+        /**
+         * Escribe los pacientes.
+         *
+         * @param pacientes Los pacientes en cola; la colección no cambia durante la escritura.
+         * @throws IOException Si ocurre un error al escribir.
+         */
+        void escribir(Collection<Paciente> pacientes) throws IOException;
+    }
+
+    /**
+     * Encargado de escribir la copia de la cola.
+     */
+    private final Escritor escritor;
+
+    /**
+     * Copia de la cola que mantiene el hilo de guardado. Solo se usa bajo el cerrojo {@code this}.
+     */
+    private final Set<Paciente> copia;
+
+    /**
+     * Cerrojo de la lista de cambios pendientes.
+     */
+    private final Object cerrojo = new Object();
+
+    /**
+     * Cambios anotados desde el último intercambio: pacientes agregados y atendidos, en orden.
+     */
+    private List<Cambio> pendientes = new ArrayList<>();
+
+    /**
+     * Indica si la copia tiene cambios que todavía no se escribieron.
+     */
+    private boolean sucia;
+
+    /**
+     * Cantidad de escrituras realizadas y de cambios escritos.
+     */
+    private long escrituras;
+    private long cambiosEscritos;
+
+    /**
+     * Hilo que escribe la copia de forma periódica.
+     */
+    private final ScheduledExecutorService hilo;
+
+    /**
+     * Crea el guardado y programa la revisión periódica de cambios.
+     *
+     * @param pacientes Los pacientes que están en la cola al activarlo; se copian una sola vez.
+     * @param escritor  El encargado de escribir la copia de la cola.
+     * @param intervalo Milisegundos máximos entre un cambio y el inicio de la escritura que lo incluye.
+     */
+    public GuardadoEnSegundoPlano(Collection<Paciente> pacientes, Escritor escritor, long intervalo) {
+        this.copia = new LinkedHashSet<>(pacientes);
+        this.escritor = escritor;
+        this.hilo = Executors.newSingleThreadScheduledExecutor(tarea -> {
+            Thread hilo = new Thread(tarea, "guardado-de-fichas");
+            hilo.setDaemon(true);
+            return hilo;
+        });
+        hilo.scheduleWithFixedDelay(() -> {
+            try {
+                vaciar();
+            } catch (IOException e) {
+                System.out.println("Error al guardar las fichas: " + e.getMessage());
+            }
+        }, intervalo, intervalo, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Anota que se agregó un paciente a la cola.
+     *
+     * @param paciente El paciente agregado.
+     */
+    public void registrarAlta(Paciente paciente) {
+        anotar(new Cambio(paciente, true));
+    }
+
+    /**
+     * Anota que se atendió (eliminó de la cola) un paciente.
+     *
+     * @param paciente El paciente atendido.
+     */
+    public void registrarAtencion(Paciente paciente) {
+        anotar(new Cambio(paciente, false));
+    }
+
+    /**
+     * Agrega un cambio a la lista de pendientes.
+     *
+     * @param cambio El cambio.
+     */
+    private void anotar(Cambio cambio) {
+        synchronized (cerrojo) {
+            pendientes.add(cambio);
+        }
+    }
+
+    /**
+     * Aplica los cambios pendientes sobre la copia y, si la copia cambió, la escribe.
+     * Lo llama el hilo de guardado en cada intervalo; también se puede llamar para forzar la escritura.
+     *
+     * @throws IOException Si ocurre un error al escribir; los cambios se vuelven a escribir en la siguiente llamada.
+     */
+    public synchronized void vaciar() throws IOException {
+        List<Cambio> cambios;
+        synchronized (cerrojo) {
+            cambios = pendientes;
+            if (!cambios.isEmpty()) {
+                pendientes = new ArrayList<>();
+            }
+        }
+        for (Cambio cambio : cambios) {
+            if (cambio.alta()) {
+                copia.add(cambio.paciente());
+            } else {
+                copia.remove(cambio.paciente());
+            }
+        }
+        cambiosEscritos += cambios.size();
+        if (!cambios.isEmpty()) {
+            sucia = true;
+        }
+        if (sucia) {
+            escritor.escribir(Collections.unmodifiableSet(copia));
+            sucia = false;
+            escrituras++;
+        }
+    }
+
+    /**
+     * Obtiene la cantidad de escrituras realizadas.
+     *
+     * @return El número de escrituras.
+     */
+    public synchronized long getEscrituras() {
+        return escrituras;
+    }
+
+    /**
+     * Obtiene la cantidad de cambios aplicados sobre la copia; cada escritura puede incluir muchos.
+     *
+     * @return El número de cambios.
+     */
+    public synchronized long getCambiosEscritos() {
+        return cambiosEscritos;
+    }
+
+    /**
+     * Detiene el hilo de guardado y escribe los cambios pendientes.
+     *
+     * @throws IOException Si ocurre un error al escribir.
+     */
+    @Override
+    public void close() throws IOException {
+        hilo.shutdown();
+        try {
+            hilo.awaitTermination(1, TimeUnit.MINUTES);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        vaciar();
+    }
+
+    /**
+     * Un alta o una atención pendiente de aplicar sobre la copia.
+     *
+     * @param paciente El paciente agregado o atendido.
+     * @param alta     {@code true} si es un alta, {@code false} si es una atención.
+     */
+    private record Cambio(Paciente paciente, boolean alta) {
+    }
+}
@@ -0,0 +1,370 @@
+package io;
+
+import model.CodigoDeEmergencia;
+import model.Paciente;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.DateTimeException;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.CRC32;
+
+/**
+ * Formato binario compacto para guardar y cargar la cola de pacientes, como alternativa al CSV.
+ * Evita formatear y volver a interpretar cada fecha/hora y guarda una sola vez cada nombre
+ * y cada síntoma repetido.
+ *
+ * <p>Estructura del archivo (enteros en big-endian):
+ * <pre>
+ * cabecera:  magia:int "PACB" | versión:short | registros:int | cadenas:int | crc32:int
+ * cadenas:   [longitud:int | bytes UTF-8] x cadenas
+ * registros: [nombre:int | síntoma:int | código:byte | nanosegundos desde la época:long] x registros
+ * </pre>
+ * Un paciente cuyo código no es un solo carácter ASCII, o cuya fecha/hora no cabe en nanosegundos
+ * desde la época (años 1677 a 2262), se guarda en un registro amplio: el código es {@code 0xFF} y
+ * le siguen el índice del código en la tabla de cadenas y la fecha/hora como
+ * {@code segundos desde la época:long | nanosegundos:int}. Así un paciente poco habitual no impide
+ * guardar la cola. La versión 1 del formato, sin registros amplios, se sigue pudiendo leer.
+ * El CRC32 cubre todo lo que sigue a la cabecera. La lectura y la escritura pasan por un
+ * {@code FileChannel} con búferes directos, y la escritura se hace en un archivo temporal que
+ * reemplaza al anterior de forma atómica.
+ */
+public final class InstantaneaBinaria {
+    /**
+     * Número mágico al inicio del archivo ("PACB").
+     */
+    private static final int MAGIA = 0x50414342;
+
+    /**
+     * Versión del formato.
+     */
+    private static final short VERSION = 2;
+
+    /**
+     * Última versión del formato sin registros amplios.
+     */
+    private static final short VERSION_SIN_REGISTROS_AMPLIOS = 1;
+
+    /**
+     * Tamaño de la cabecera en bytes.
+     */
+    private static final int CABECERA = 18;
+
+    /**
+     * Tamaño de un registro de paciente en bytes.
+     */
+    private static final int REGISTRO = 17;
+
+    /**
+     * Código que marca un registro amplio; no es un carácter ASCII.
+     */
+    private static final byte AMPLIO = (byte) 0xFF;
+
+    /**
+     * Tamaño de un registro amplio en bytes: nombre, síntoma, marca, código, segundos y nanosegundos.
+     */
+    private static final int REGISTRO_AMPLIO = 25;
+
+    /**
+     * Tamaño del búfer directo de lectura y escritura.
+     */
+    private static final int TAMANO_DE_BUFER = 1 << 16;
+
+    private InstantaneaBinaria() {
+    }
+
+    /**
+     * Guarda los pacientes en un archivo binario.
+     *
+     * @param archivo   La ruta del archivo.
+     * @param pacientes Los pacientes a guardar.
+     * @return La cantidad de bytes escritos.
+     * @throws IOException Si ocurre un error al escribir.
+     */
+    public static long guardar(Path archivo, Collection<Paciente> pacientes) throws IOException {
+        Map<String, Integer> indices = new HashMap<>();
+        List<String> cadenas = new ArrayList<>();
+        // Por paciente: nombre, síntoma y código en la tabla de cadenas (-1 si el registro no es amplio).
+        int[] referencias = new int[pacientes.size() * 3];
+        int cantidad = 0;
+        for (Paciente paciente : pacientes) {
+            if (cantidad * 3 == referencias.length) {
+                referencias = Arrays.copyOf(referencias, Math.max(3, referencias.length * 2));
+            }
+            referencias[cantidad * 3] = indice(paciente.getNombreDelPaciente(), indices, cadenas);
+            referencias[cantidad * 3 + 1] = indice(paciente.getDescripcionDelSintoma(), indices, cadenas);
+            referencias[cantidad * 3 + 2] = esAmplio(paciente)
+                    ? indice(paciente.getCodigoDeEmergencia(), indices, cadenas) : -1;
+            cantidad++;
+        }
+
+        Path temporal = archivo.resolveSibling(archivo.getFileName() + ".tmp");
+        CRC32 crc = new CRC32();
+        long escritos;
+        try (FileChannel canal = FileChannel.open(temporal, StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            ByteBuffer bufer = ByteBuffer.allocateDirect(TAMANO_DE_BUFER);
+            canal.position(CABECERA);
+            for (String cadena : cadenas) {
+                byte[] bytes = cadena.getBytes(StandardCharsets.UTF_8);
+                asegurarEspacio(canal, bufer, crc, 4);
+                bufer.putInt(bytes.length);
+                int escritosDeCadena = 0;
+                while (escritosDeCadena < bytes.length) {
+                    asegurarEspacio(canal, bufer, crc, 1);
+                    int parte = Math.min(bufer.remaining(), bytes.length - escritosDeCadena);
+                    bufer.put(bytes, escritosDeCadena, parte);
+                    escritosDeCadena += parte;
+                }
+            }
+            int registro = 0;
+            for (Paciente paciente : pacientes) {
+                if (registro == cantidad) {
+                    throw new IOException("La cola cambió mientras se guardaba");
+                }
+                int codigoAmplio = referencias[registro * 3 + 2];
+                if ((codigoAmplio >= 0) != esAmplio(paciente)) {
+                    throw new IOException("La cola cambió mientras se guardaba");
+                }
+                LocalDateTime currentDateTime = paciente.getCurrentDateTime();
+                asegurarEspacio(canal, bufer, crc, REGISTRO_AMPLIO);
+                bufer.putInt(referencias[registro * 3]);
+                bufer.putInt(referencias[registro * 3 + 1]);
+                if (codigoAmplio < 0) {
+                    bufer.put((byte) paciente.getCodigoDeEmergencia().charAt(0));
+                    bufer.putLong(nanosDesdeLaEpoca(currentDateTime));
+                } else {
+                    bufer.put(AMPLIO);
+                    bufer.putInt(codigoAmplio);
+                    bufer.putLong(currentDateTime.toEpochSecond(ZoneOffset.UTC));
+                    bufer.putInt(currentDateTime.getNano());
+                }
+                registro++;
+            }
+            vaciar(canal, bufer, crc);
+
+            bufer.clear();
+            bufer.putInt(MAGIA).putShort(VERSION).putInt(cantidad).putInt(cadenas.size()).putInt((int) crc.getValue());
+            bufer.flip();
+            long posicion = 0;
+            while (bufer.hasRemaining()) {
+                posicion += canal.write(bufer, posicion);
+            }
+            escritos = canal.size();
+            canal.force(true);
+        }
+        Files.move(temporal, archivo, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        return escritos;
+    }
+
+    /**
+     * Carga los pacientes de un archivo binario.
+     *
+     * @param archivo La ruta del archivo.
+     * @return Los pacientes en el orden en que se guardaron.
+     * @throws IOException Si ocurre un error al leer o el archivo no tiene el formato esperado.
+     */
+    public static List<Paciente> cargar(Path archivo) throws IOException {
+        try (FileChannel canal = FileChannel.open(archivo, StandardOpenOption.READ)) {
+            ByteBuffer bufer = ByteBuffer.allocateDirect(TAMANO_DE_BUFER);
+            bufer.limit(0);
+            CRC32 crc = new CRC32();
+            asegurarDatos(canal, bufer, null, CABECERA);
+            if (bufer.getInt() != MAGIA) {
+                throw new IOException("El archivo no es una instantánea de pacientes");
+            }
+            short version = bufer.getShort();
+            if (version != VERSION && version != VERSION_SIN_REGISTROS_AMPLIOS) {
+                throw new IOException("Versión de instantánea no soportada: " + version);
+            }
+            int cantidad = bufer.getInt();
+            int cantidadDeCadenas = bufer.getInt();
+            int crcEsperado = bufer.getInt();
+            long maximo = canal.size() / 4;
+            if (cantidad < 0 || cantidadDeCadenas < 0 || cantidad > maximo || cantidadDeCadenas > maximo) {
+                throw new IOException("Cabecera de instantánea dañada");
+            }
+            // Se descarta la cabecera: desde aquí, los bytes consumidos del búfer son los que cubre el CRC.
+            bufer.compact();
+            bufer.flip();
+
+            String[] cadenas = new String[cantidadDeCadenas];
+            byte[] bytes = new byte[256];
+            for (int i = 0; i < cantidadDeCadenas; i++) {
+                asegurarDatos(canal, bufer, crc, 4);
+                int longitud = bufer.getInt();
+                if (longitud < 0) {
+                    throw new IOException("Cadena dañada en la instantánea");
+                }
+                if (longitud > bytes.length) {
+                    bytes = new byte[Math.max(longitud, bytes.length * 2)];
+                }
+                int leidos = 0;
+                while (leidos < longitud) {
+                    asegurarDatos(canal, bufer, crc, 1);
+                    int parte = Math.min(bufer.remaining(), longitud - leidos);
+                    bufer.get(bytes, leidos, parte);
+                    leidos += parte;
+                }
+                cadenas[i] = new String(bytes, 0, longitud, StandardCharsets.UTF_8);
+            }
+
+            List<Paciente> pacientes = new ArrayList<>(cantidad);
+            for (int i = 0; i < cantidad; i++) {
+                asegurarDatos(canal, bufer, crc, REGISTRO);
+                int nombre = bufer.getInt();
+                int sintoma = bufer.getInt();
+                byte codigo = bufer.get();
+                if (nombre < 0 || nombre >= cantidadDeCadenas || sintoma < 0 || sintoma >= cantidadDeCadenas) {
+                    throw new IOException("Registro dañado en la instantánea");
+                }
+                if (codigo == AMPLIO && version != VERSION_SIN_REGISTROS_AMPLIOS) {
+                    asegurarDatos(canal, bufer, crc, REGISTRO_AMPLIO - 9);
+                    int codigoAmplio = bufer.getInt();
+                    long segundos = bufer.getLong();
+                    int nanosegundos = bufer.getInt();
+                    if (codigoAmplio < 0 || codigoAmplio >= cantidadDeCadenas) {
+                        throw new IOException("Registro dañado en la instantánea");
+                    }
+                    try {
+                        pacientes.add(new Paciente(cadenas[nombre], cadenas[sintoma], cadenas[codigoAmplio],
+                                LocalDateTime.ofEpochSecond(segundos, nanosegundos, ZoneOffset.UTC)));
+                    } catch (DateTimeException e) {
+                        throw new IOException("Registro dañado en la instantánea");
+                    }
+                    continue;
+                }
+                long nanos = bufer.getLong();
+                LocalDateTime currentDateTime = LocalDateTime.ofEpochSecond(
+                        Math.floorDiv(nanos, 1_000_000_000L), (int) Math.floorMod(nanos, 1_000_000_000L), ZoneOffset.UTC);
+                CodigoDeEmergencia conocido = CodigoDeEmergencia.buscar(codigo);
+                pacientes.add(conocido != null
+                        ? new Paciente(cadenas[nombre], cadenas[sintoma], conocido, currentDateTime)
+                        : new Paciente(cadenas[nombre], cadenas[sintoma], String.valueOf((char) codigo), currentDateTime));
+            }
+            crc.update(bufer.duplicate().position(0).limit(bufer.position()));
+            if ((int) crc.getValue() != crcEsperado) {
+                throw new IOException("El CRC de la instantánea no coincide");
+            }
+            return pacientes;
+        }
+    }
+
+    /**
+     * Devuelve el índice de una cadena en la tabla, agregándola si no existe.
+     *
+     * @param cadena   La cadena.
+     * @param indices  Índices de las cadenas ya agregadas.
+     * @param cadenas  La tabla de cadenas.
+     * @return El índice de la cadena.
+     */
+    private static int indice(String cadena, Map<String, Integer> indices, List<String> cadenas) {
+        Integer indice = indices.get(cadena);
+        if (indice == null) {
+            indice = cadenas.size();
+            indices.put(cadena, indice);
+            cadenas.add(cadena);
+        }
+        return indice;
+    }
+
+    /**
+     * Indica si un paciente necesita un registro amplio.
+     *
+     * @param paciente El paciente.
+     * @return {@code true} si su código no es un solo carácter ASCII o su fecha/hora no cabe en
+     *         nanosegundos desde la época.
+     */
+    private static boolean esAmplio(Paciente paciente) {
+        String codigoDeEmergencia = paciente.getCodigoDeEmergencia();
+        return codigoDeEmergencia.length() != 1 || codigoDeEmergencia.charAt(0) > 0x7F
+                || nanosDesdeLaEpoca(paciente.getCurrentDateTime()) == Long.MIN_VALUE;
+    }
+
+    /**
+     * Convierte una fecha/hora en nanosegundos desde la época (UTC).
+     *
+     * @param currentDateTime La fecha/hora.
+     * @return Los nanosegundos desde la época, o {@code Long.MIN_VALUE} si la fecha está fuera del
+     *         rango representable (años 1677 a 2262).
+     */
+    private static long nanosDesdeLaEpoca(LocalDateTime currentDateTime) {
+        long segundos = currentDateTime.toEpochSecond(ZoneOffset.UTC);
+        // Se deja un segundo de margen en cada extremo para que la suma de los nanosegundos no desborde.
+        if (segundos < Long.MIN_VALUE / 1_000_000_000L || segundos > Long.MAX_VALUE / 1_000_000_000L - 1) {
+            return Long.MIN_VALUE;
+        }
+        return segundos * 1_000_000_000L + currentDateTime.getNano();
+    }
+
+    /**
+     * Garantiza que el búfer de escritura tenga al menos {@code bytes} libres, escribiendo su contenido si hace falta.
+     *
+     * @param canal El canal de destino.
+     * @param bufer El búfer de escritura.
+     * @param crc   El CRC que acumula los bytes escritos.
+     * @param bytes Los bytes libres requeridos.
+     * @throws IOException Si ocurre un error al escribir.
+     */
+    private static void asegurarEspacio(FileChannel canal, ByteBuffer bufer, CRC32 crc, int bytes) throws IOException {
+        if (bufer.remaining() < bytes) {
+            vaciar(canal, bufer, crc);
+        }
+    }
+
+    /**
+     * Escribe el contenido del búfer en el canal y lo deja vacío.
+     *
+     * @param canal El canal de destino.
+     * @param bufer El búfer de escritura.
+     * @param crc   El CRC que acumula los bytes escritos.
+     * @throws IOException Si ocurre un error al escribir.
+     */
+    private static void vaciar(FileChannel canal, ByteBuffer bufer, CRC32 crc) throws IOException {
+        bufer.flip();
+        crc.update(bufer.duplicate());
+        while (bufer.hasRemaining()) {
+            canal.write(bufer);
+        }
+        bufer.clear();
+    }
+
+    /**
+     * Garantiza que el búfer de lectura tenga al menos {@code bytes} disponibles, leyendo más del canal si hace falta.
+     * Los bytes ya consumidos se agregan al CRC antes de descartarlos.
+     *
+     * @param canal El canal de origen.
+     * @param bufer El búfer de lectura.
+     * @param crc   El CRC que acumula los bytes leídos, o {@code null} para la cabecera.
+     * @param bytes Los bytes requeridos.
+     * @throws IOException Si el archivo termina antes de tiempo.
+     */
+    private static void asegurarDatos(FileChannel canal, ByteBuffer bufer, CRC32 crc, int bytes) throws IOException {
+        if (bufer.remaining() >= bytes) {
+            return;
+        }
+        if (crc != null) {
+            crc.update(bufer.duplicate().position(0).limit(bufer.position()));
+        }
+        bufer.compact();
+        while (bufer.position() < bytes) {
+            if (canal.read(bufer) < 0) {
+                throw new IOException("Fin inesperado de la instantánea");
+            }
+        }
+        bufer.flip();
+    }
+}
@@ -0,0 +1,151 @@
+package io;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Resultado de validar las líneas de un archivo de fichas con {@link CargadorDeFichas}.
+ * Cuenta las líneas aceptadas y rechazadas por motivo y guarda solo los primeros mensajes de error,
+ * así que la memoria usada no depende de cuántas líneas dañadas tenga el archivo.
+ * Si tiene un archivo de cuarentena, el cargador agrega allí cada línea rechazada, tal cual, para
+ * revisarla o corregirla después.
+ */
+public final class ReporteDeCarga {
+    /**
+     * Cantidad de mensajes de error que se muestran por defecto.
+     */
+    public static final int MUESTRAS_POR_DEFECTO = 10;
+
+    /**
+     * Archivo donde se agregan las líneas rechazadas; es {@code null} si no se guardan.
+     */
+    private final Path cuarentena;
+
+    /**
+     * Cantidad máxima de mensajes de error que se guardan y se muestran.
+     */
+    private final int muestrasMaximas;
+
+    private final List<String> muestras = new ArrayList<>();
+    private long aceptadas;
+    private long rechazadasPorFormato;
+    private long rechazadasPorFecha;
+
+    /**
+     * Constructor de un reporte sin cuarentena que muestra los primeros mensajes de error.
+     */
+    public ReporteDeCarga() {
+        this(null, MUESTRAS_POR_DEFECTO);
+    }
+
+    /**
+     * Constructor que inicializa el reporte vacío.
+     *
+     * @param cuarentena El archivo donde se agregan las líneas rechazadas, o {@code null} para no guardarlas.
+     * @param muestras   La cantidad máxima de mensajes de error que se guardan y se muestran.
+     * @throws IllegalArgumentException Si la cantidad de muestras es negativa.
+     */
+    public ReporteDeCarga(Path cuarentena, int muestras) {
+        if (muestras < 0) {
+            throw new IllegalArgumentException("La cantidad de muestras no puede ser negativa");
+        }
+        this.cuarentena = cuarentena;
+        this.muestrasMaximas = muestras;
+    }
+
+    /**
+     * Obtiene el archivo de cuarentena.
+     *
+     * @return El archivo donde se agregan las líneas rechazadas, o {@code null} si no se guardan.
+     */
+    public Path getCuarentena() {
+        return cuarentena;
+    }
+
+    /**
+     * Obtiene la cantidad de líneas aceptadas.
+     *
+     * @return El número de pacientes leídos.
+     */
+    public long getAceptadas() {
+        return aceptadas;
+    }
+
+    /**
+     * Obtiene la cantidad de líneas rechazadas por no tener exactamente cuatro campos.
+     *
+     * @return El número de líneas rechazadas por formato.
+     */
+    public long getRechazadasPorFormato() {
+        return rechazadasPorFormato;
+    }
+
+    /**
+     * Obtiene la cantidad de líneas rechazadas por tener una fecha/hora no válida.
+     *
+     * @return El número de líneas rechazadas por fecha/hora.
+     */
+    public long getRechazadasPorFecha() {
+        return rechazadasPorFecha;
+    }
+
+    /**
+     * Obtiene la cantidad total de líneas rechazadas.
+     *
+     * @return El número de líneas rechazadas.
+     */
+    public long getRechazadas() {
+        return rechazadasPorFormato + rechazadasPorFecha;
+    }
+
+    /**
+     * Obtiene los mensajes de error guardados, en el orden del archivo.
+     *
+     * @return Los primeros mensajes de error, como mucho la cantidad máxima de muestras.
+     */
+    public List<String> getMuestras() {
+        return Collections.unmodifiableList(muestras);
+    }
+
+    /**
+     * Suma al reporte las líneas de un bloque del archivo.
+     *
+     * @param aceptadas  La cantidad de líneas aceptadas.
+     * @param porFormato La cantidad de líneas rechazadas por formato.
+     * @param porFecha   La cantidad de líneas rechazadas por fecha/hora.
+     */
+    void sumar(long aceptadas, long porFormato, long porFecha) {
+        this.aceptadas += aceptadas;
+        this.rechazadasPorFormato += porFormato;
+        this.rechazadasPorFecha += porFecha;
+    }
+
+    /**
+     * Obtiene la cantidad máxima de mensajes de error que se guardan.
+     *
+     * @return El número máximo de muestras.
+     */
+    int getMuestrasMaximas() {
+        return muestrasMaximas;
+    }
+
+    /**
+     * Indica si todavía hay lugar para otro mensaje de error.
+     *
+     * @return {@code true} si se guardaron menos mensajes que la cantidad máxima.
+     */
+    boolean hayLugarParaMuestras() {
+        return muestras.size() < muestrasMaximas;
+    }
+
+    /**
+     * Guarda un mensaje de error; solo debe llamarse si {@link #hayLugarParaMuestras()} es {@code true}.
+     *
+     * @param mensaje El mensaje de error.
+     */
+    void agregarMuestra(String mensaje) {
+        muestras.add(mensaje);
+    }
+}
@@ -0,0 +1,117 @@
+package metrics;
+
+import model.CodigoDeEmergencia;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Seguimiento del tiempo de espera de los pacientes atendidos, por código de emergencia.
+ * Para cada código guarda un {@link Histograma} de esperas en milisegundos y cuenta cuántos
+ * pacientes esperaron más que el objetivo de servicio de su código.
+ */
+public final class EsperasPorCodigo {
+    /**
+     * Códigos de emergencia, en el orden de los índices.
+     */
+    private static final CodigoDeEmergencia[] CODIGOS = CodigoDeEmergencia.values();
+
+    /**
+     * Objetivos de espera por defecto, de la A a la E.
+     */
+    private static final Duration[] OBJETIVOS_POR_DEFECTO = {
+        Duration.ofMinutes(1), Duration.ofMinutes(10), Duration.ofMinutes(60),
+        Duration.ofMinutes(120), Duration.ofMinutes(240)
+    };
+
+    private final Histograma[] esperas = new Histograma[CODIGOS.length];
+    private final LongAdder[] incumplimientos = new LongAdder[CODIGOS.length];
+    private final long[] objetivosEnMilisegundos = new long[CODIGOS.length];
+
+    /**
+     * Crea el seguimiento con los objetivos por defecto: 1, 10, 60, 120 y 240 minutos para los códigos A a E.
+     */
+    public EsperasPorCodigo() {
+        this(OBJETIVOS_POR_DEFECTO);
+    }
+
+    /**
+     * Crea el seguimiento con objetivos de espera propios.
+     *
+     * @param objetivos Los objetivos de espera de los códigos A a E, en ese orden.
+     * @throws IllegalArgumentException Si no se indican exactamente cinco objetivos.
+     */
+    public EsperasPorCodigo(Duration... objetivos) {
+        if (objetivos.length != CODIGOS.length) {
+            throw new IllegalArgumentException("Se necesita un objetivo por cada código de la A a la E");
+        }
+        for (int i = 0; i < CODIGOS.length; i++) {
+            esperas[i] = new Histograma();
+            incumplimientos[i] = new LongAdder();
+            objetivosEnMilisegundos[i] = objetivos[i].toMillis();
+        }
+    }
+
+    /**
+     * Registra la espera de un paciente atendido.
+     *
+     * @param nivel                El índice del código de emergencia (A = 0 ... E = 4).
+     * @param esperaEnMilisegundos El tiempo que esperó el paciente.
+     */
+    public void registrar(int nivel, long esperaEnMilisegundos) {
+        esperas[nivel].registrar(esperaEnMilisegundos);
+        if (esperaEnMilisegundos > objetivosEnMilisegundos[nivel]) {
+            incumplimientos[nivel].increment();
+        }
+    }
+
+    /**
+     * Obtiene el histograma de esperas de un código.
+     *
+     * @param codigoDeEmergencia El código de emergencia, de A a E.
+     * @return El histograma de esperas en milisegundos.
+     */
+    public Histograma getEsperas(String codigoDeEmergencia) {
+        return esperas[nivel(codigoDeEmergencia)];
+    }
+
+    /**
+     * Obtiene la cantidad de pacientes de un código que esperaron más que su objetivo.
+     *
+     * @param codigoDeEmergencia El código de emergencia, de A a E.
+     * @return La cantidad de incumplimientos.
+     */
+    public long getIncumplimientos(String codigoDeEmergencia) {
+        return incumplimientos[nivel(codigoDeEmergencia)].sum();
+    }
+
+    /**
+     * Publica los histogramas y los incumplimientos en un registro de métricas, con nombres
+     * de la forma {@code prefijo.A.ms} y {@code prefijo.A.incumplimientos}.
+     *
+     * @param metricas El registro de métricas.
+     * @param prefijo  El prefijo de los nombres.
+     */
+    public void publicar(Metricas metricas, String prefijo) {
+        for (int i = 0; i < CODIGOS.length; i++) {
+            String nombre = prefijo + "." + CODIGOS[i].name();
+            metricas.publicar(nombre + ".ms", esperas[i]);
+            metricas.medidor(nombre + ".incumplimientos", incumplimientos[i]::sum);
+        }
+    }
+
+    /**
+     * Obtiene el índice de un código de emergencia.
+     *
+     * @param codigoDeEmergencia El código de emergencia.
+     * @return El índice, de 0 a 4.
+     * @throws IllegalArgumentException Si el código no es una letra de la A a la E.
+     */
+    private static int nivel(String codigoDeEmergencia) {
+        CodigoDeEmergencia codigo = CodigoDeEmergencia.buscar(codigoDeEmergencia);
+        if (codigo == null) {
+            throw new IllegalArgumentException("Código de emergencia no soportado: " + codigoDeEmergencia);
+        }
+        return codigo.ordinal();
+    }
+}
@@ -0,0 +1,168 @@
+package metrics;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Histograma de valores no negativos (por ejemplo, latencias en nanosegundos) con cubetas
+ * logarítmicas, al estilo de HdrHistogram: cada potencia de dos se divide en 8 cubetas iguales,
+ * por lo que los percentiles tienen un error relativo de a lo sumo 12,5 % y el histograma ocupa
+ * un arreglo fijo de 512 contadores sin importar cuántos valores se registren.
+ * Es seguro para hilos y registrar un valor no toma candados.
+ */
+public final class Histograma {
+    /**
+     * Bits de subdivisión de cada potencia de dos.
+     */
+    private static final int BITS_DE_SUBDIVISION = 3;
+
+    /**
+     * Cantidad de cubetas por potencia de dos.
+     */
+    private static final int SUBDIVISIONES = 1 << BITS_DE_SUBDIVISION;
+
+    /**
+     * Cantidad de valores registrados en cada cubeta.
+     */
+    private final AtomicLongArray cubetas = new AtomicLongArray(64 * SUBDIVISIONES);
+
+    /**
+     * Suma de los valores registrados.
+     */
+    private final LongAdder suma = new LongAdder();
+
+    /**
+     * Cantidad de valores registrados.
+     */
+    private final LongAdder cantidad = new LongAdder();
+
+    /**
+     * Mayor valor registrado.
+     */
+    private final LongAccumulator maximo = new LongAccumulator(Math::max, 0);
+
+    /**
+     * Registra un valor. Los valores negativos se registran como 0.
+     *
+     * @param valor El valor a registrar.
+     */
+    public void registrar(long valor) {
+        if (valor < 0) {
+            valor = 0;
+        }
+        cubetas.incrementAndGet(indice(valor));
+        suma.add(valor);
+        cantidad.increment();
+        maximo.accumulate(valor);
+    }
+
+    /**
+     * Obtiene la cantidad de valores registrados.
+     *
+     * @return La cantidad de valores.
+     */
+    public long getCantidad() {
+        return cantidad.sum();
+    }
+
+    /**
+     * Obtiene la suma de los valores registrados.
+     *
+     * @return La suma de los valores.
+     */
+    public long getSuma() {
+        return suma.sum();
+    }
+
+    /**
+     * Obtiene el mayor valor registrado.
+     *
+     * @return El mayor valor, o 0 si no se ha registrado ninguno.
+     */
+    public long getMaximo() {
+        return maximo.get();
+    }
+
+    /**
+     * Calcula la media de los valores registrados.
+     *
+     * @return La media, o 0 si no se ha registrado ningún valor.
+     */
+    public double getMedia() {
+        long n = getCantidad();
+        return n == 0 ? 0 : (double) getSuma() / n;
+    }
+
+    /**
+     * Calcula un percentil aproximado: el límite superior de la cubeta que contiene el valor buscado,
+     * sin superar el máximo registrado.
+     *
+     * @param percentil El percentil, entre 0 y 100.
+     * @return El valor aproximado del percentil, o 0 si no se ha registrado ningún valor.
+     * @throws IllegalArgumentException Si el percentil está fuera del rango de 0 a 100.
+     */
+    public long percentil(double percentil) {
+        if (percentil < 0 || percentil > 100) {
+            throw new IllegalArgumentException("El percentil debe estar entre 0 y 100");
+        }
+        long total = 0;
+        for (int i = 0; i < cubetas.length(); i++) {
+            total += cubetas.get(i);
+        }
+        if (total == 0) {
+            return 0;
+        }
+        long buscado = Math.max(1, (long) Math.ceil(total * percentil / 100));
+        long acumulado = 0;
+        for (int i = 0; i < cubetas.length(); i++) {
+            acumulado += cubetas.get(i);
+            if (acumulado >= buscado) {
+                return Math.min(limiteSuperior(i), getMaximo());
+            }
+        }
+        return getMaximo();
+    }
+
+    /**
+     * Devuelve un resumen de una línea del histograma.
+     *
+     * @return La cantidad, la media, los percentiles 50, 90 y 99 y el máximo.
+     */
+    @Override
+    public String toString() {
+        return String.format("cantidad=%d media=%.1f p50=%d p90=%d p99=%d max=%d",
+                getCantidad(), getMedia(), percentil(50), percentil(90), percentil(99), getMaximo());
+    }
+
+    /**
+     * Calcula la cubeta de un valor no negativo.
+     *
+     * @param valor El valor.
+     * @return El índice de la cubeta.
+     */
+    static int indice(long valor) {
+        if (valor < SUBDIVISIONES) {
+            return (int) valor;
+        }
+        int exponente = 63 - Long.numberOfLeadingZeros(valor);
+        int subdivision = (int) (valor >>> (exponente - BITS_DE_SUBDIVISION)) & (SUBDIVISIONES - 1);
+        return ((exponente - BITS_DE_SUBDIVISION + 1) << BITS_DE_SUBDIVISION) + subdivision;
+    }
+
+    /**
+     * Calcula el mayor valor que cae en una cubeta.
+     *
+     * @param indice El índice de la cubeta.
+     * @return El límite superior (inclusivo) de la cubeta.
+     */
+    static long limiteSuperior(int indice) {
+        if (indice < SUBDIVISIONES) {
+            return indice;
+        }
+        int exponente = (indice >>> BITS_DE_SUBDIVISION) + BITS_DE_SUBDIVISION - 1;
+        long subdivision = indice & (SUBDIVISIONES - 1);
+        long ancho = 1L << (exponente - BITS_DE_SUBDIVISION);
+        return ((SUBDIVISIONES + subdivision) * ancho) + ancho - 1;
+    }
+}
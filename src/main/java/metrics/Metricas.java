@@ -0,0 +1,138 @@
+package metrics;
+
+import java.lang.management.ManagementFactory;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+/**
+ * Registro de métricas del sistema: contadores, medidores (valores que se leen de otro objeto
+ * al consultarlos) e histogramas, identificados por nombre.
+ * Las métricas se crean una vez y quien las actualiza guarda la referencia, por lo que el camino
+ * rápido es solo un {@code LongAdder.increment()} o {@link Histograma#registrar(long)}.
+ * Se pueden consultar como texto con {@link #volcar()} o por JMX.
+ */
+public final class Metricas implements MetricasMXBean {
+    /**
+     * Nombre JMX del registro global.
+     */
+    public static final String NOMBRE_JMX = "hospital:type=Metricas";
+
+    /**
+     * Registro global del proceso.
+     */
+    private static final Metricas GLOBAL = new Metricas();
+
+    private final Map<String, LongAdder> contadores = new ConcurrentHashMap<>();
+    private final Map<String, LongSupplier> medidores = new ConcurrentHashMap<>();
+    private final Map<String, Histograma> histogramas = new ConcurrentHashMap<>();
+
+    /**
+     * Obtiene el registro global del proceso.
+     *
+     * @return El registro global.
+     */
+    public static Metricas global() {
+        return GLOBAL;
+    }
+
+    /**
+     * Obtiene un contador, creándolo si no existe.
+     *
+     * @param nombre El nombre del contador.
+     * @return El contador.
+     */
+    public LongAdder contador(String nombre) {
+        return contadores.computeIfAbsent(nombre, n -> new LongAdder());
+    }
+
+    /**
+     * Obtiene un histograma, creándolo si no existe.
+     *
+     * @param nombre El nombre del histograma.
+     * @return El histograma.
+     */
+    public Histograma histograma(String nombre) {
+        return histogramas.computeIfAbsent(nombre, n -> new Histograma());
+    }
+
+    /**
+     * Publica un histograma creado fuera del registro. Si ya existía uno con el mismo nombre,
+     * se reemplaza.
+     *
+     * @param nombre     El nombre del histograma.
+     * @param histograma El histograma.
+     */
+    public void publicar(String nombre, Histograma histograma) {
+        histogramas.put(nombre, histograma);
+    }
+
+    /**
+     * Registra un medidor cuyo valor se obtiene al consultarlo. Si ya existía uno con el mismo
+     * nombre, se reemplaza.
+     *
+     * @param nombre El nombre del medidor.
+     * @param valor  La función que devuelve el valor actual.
+     */
+    public void medidor(String nombre, LongSupplier valor) {
+        medidores.put(nombre, valor);
+    }
+
+    /**
+     * Publica el registro global por JMX. Si ya estaba publicado, no hace nada.
+     */
+    public static void publicarEnJmx() {
+        try {
+            MBeanServer servidor = ManagementFactory.getPlatformMBeanServer();
+            ObjectName nombre = new ObjectName(NOMBRE_JMX);
+            if (!servidor.isRegistered(nombre)) {
+                servidor.registerMBean(GLOBAL, nombre);
+            }
+        } catch (JMException e) {
+            System.out.println("No se pudieron publicar las métricas por JMX: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Obtiene el valor actual de los contadores y medidores, ordenados por nombre.
+     *
+     * @return Los valores, por nombre.
+     */
+    @Override
+    public Map<String, Long> getContadores() {
+        Map<String, Long> valores = new TreeMap<>();
+        contadores.forEach((nombre, contador) -> valores.put(nombre, contador.sum()));
+        medidores.forEach((nombre, medidor) -> valores.put(nombre, medidor.getAsLong()));
+        return valores;
+    }
+
+    /**
+     * Obtiene el resumen de cada histograma, ordenados por nombre.
+     *
+     * @return Los resúmenes, por nombre.
+     */
+    @Override
+    public Map<String, String> getHistogramas() {
+        Map<String, String> resumenes = new TreeMap<>();
+        histogramas.forEach((nombre, histograma) -> resumenes.put(nombre, histograma.toString()));
+        return resumenes;
+    }
+
+    /**
+     * Devuelve todas las métricas como texto, una por línea y ordenadas por nombre.
+     *
+     * @return El texto con las métricas.
+     */
+    @Override
+    public String volcar() {
+        StringBuilder texto = new StringBuilder();
+        getContadores().forEach((nombre, valor) -> texto.append(nombre).append(' ').append(valor).append('\n'));
+        getHistogramas().forEach((nombre, resumen) -> texto.append(nombre).append(' ').append(resumen).append('\n'));
+        return texto.toString();
+    }
+}
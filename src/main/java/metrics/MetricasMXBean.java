@@ -0,0 +1,30 @@
+package metrics;
+
+import java.util.Map;
+
+/**
+ * Interfaz de administración JMX de {@link Metricas}. Se publica con el nombre
+ * {@code hospital:type=Metricas} y se puede consultar con JConsole o VisualVM.
+ */
+public interface MetricasMXBean {
+    /**
+     * Obtiene el valor actual de los contadores y medidores.
+     *
+     * @return Los valores, por nombre.
+     */
+    Map<String, Long> getContadores();
+
+    /**
+     * Obtiene el resumen de cada histograma.
+     *
+     * @return Los resúmenes, por nombre.
+     */
+    Map<String, String> getHistogramas();
+
+    /**
+     * Devuelve todas las métricas como texto.
+     *
+     * @return Una línea por métrica.
+     */
+    String volcar();
+}
@@ -0,0 +1,38 @@
+package model;
+
+/**
+ * Códigos de emergencia admitidos, de la A (más urgente) a la E (menos urgente).
+ * El orden de declaración es el orden de prioridad.
+ */
+public enum CodigoDeEmergencia {
+    A, B, C, D, E;
+
+    /**
+     * Valores en orden, para buscarlos sin copiar el arreglo de {@code values()}.
+     */
+    private static final CodigoDeEmergencia[] VALORES = values();
+
+    /**
+     * Busca el código que corresponde a un texto de una sola letra mayúscula.
+     *
+     * @param codigo El texto del código.
+     * @return El código, o {@code null} si el texto no es una letra de la A a la E.
+     */
+    public static CodigoDeEmergencia buscar(String codigo) {
+        if (codigo == null || codigo.length() != 1) {
+            return null;
+        }
+        return buscar(codigo.charAt(0));
+    }
+
+    /**
+     * Busca el código que corresponde a una letra mayúscula.
+     *
+     * @param letra La letra del código.
+     * @return El código, o {@code null} si la letra no es de la A a la E.
+     */
+    public static CodigoDeEmergencia buscar(int letra) {
+        int indice = letra - 'A';
+        return indice >= 0 && indice < VALORES.length ? VALORES[indice] : null;
+    }
+}
@@ -0,0 +1,67 @@
+package model;
+
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Tabla de textos compartidos: para cada texto distinto guarda una sola instancia de {@code String}
+ * y la devuelve en lugar de las copias iguales, de modo que miles de pacientes con el mismo síntoma
+ * retengan un único objeto. La tabla tiene una capacidad máxima; cuando se llena, los textos nuevos
+ * se devuelven tal cual, sin compartirse, para que un archivo con textos únicos no la haga crecer sin límite.
+ * Es segura para hilos.
+ */
+public final class Diccionario {
+    /**
+     * Diccionario de descripciones de síntomas, que provienen de un vocabulario pequeño.
+     */
+    public static final Diccionario SINTOMAS = new Diccionario(1 << 16);
+
+    /**
+     * Textos compartidos, cada uno asociado a sí mismo.
+     */
+    private final ConcurrentHashMap<String, String> textos = new ConcurrentHashMap<>();
+
+    /**
+     * Cantidad máxima de textos compartidos.
+     */
+    private final int capacidad;
+
+    /**
+     * Crea un diccionario vacío.
+     *
+     * @param capacidad La cantidad máxima de textos compartidos.
+     */
+    public Diccionario(int capacidad) {
+        this.capacidad = capacidad;
+    }
+
+    /**
+     * Devuelve la instancia compartida de un texto, agregándolo si hay espacio.
+     *
+     * @param texto El texto.
+     * @return La instancia compartida igual a {@code texto}, o el mismo {@code texto} si no está
+     *         y el diccionario está lleno; {@code null} si el texto es {@code null}.
+     */
+    public String compartido(String texto) {
+        if (texto == null) {
+            return null;
+        }
+        String existente = textos.get(texto);
+        if (existente != null) {
+            return existente;
+        }
+        if (textos.size() >= capacidad) {
+            return texto;
+        }
+        existente = textos.putIfAbsent(texto, texto);
+        return existente == null ? texto : existente;
+    }
+
+    /**
+     * Devuelve la cantidad de textos compartidos.
+     *
+     * @return El número de textos en el diccionario.
+     */
+    public int size() {
+        return textos.size();
+    }
+}
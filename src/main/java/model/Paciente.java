@@ -0,0 +1,215 @@
+package model;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+
+/**
+ * Representa un paciente con información sobre su nombre, descripción del síntoma,
+ * código de emergencia y la fecha/hora de registro.
+ * Implementa la interfaz {@code Comparable} para permitir la comparación entre pacientes
+ * basada en el código de emergencia y, en caso de empate, en la fecha/hora de registro.
+ * Para que la comparación sea barata, al construir el paciente se calcula una clave de prioridad
+ * de tipo {@code long} que combina ambos criterios.
+ *
+ * <p>El código de emergencia se guarda como un {@link CodigoDeEmergencia} y la descripción del síntoma
+ * se comparte a través de {@link Diccionario#SINTOMAS}, de modo que los pacientes con el mismo código
+ * o síntoma no retienen cada uno su propia copia del texto.
+ */
+public class Paciente implements Comparable<Paciente> {
+    private final String nombreDelPaciente;
+    private final String descripcionDelSintoma;
+
+    /**
+     * Código de emergencia, o {@code null} si el texto recibido no es de la A a la E.
+     */
+    private final CodigoDeEmergencia codigo;
+
+    /**
+     * Texto del código de emergencia cuando no es de la A a la E; {@code null} en los demás casos.
+     */
+    private final String codigoNoSoportado;
+    private LocalDateTime currentDateTime = LocalDateTime.now();
+
+    /**
+     * Valor de la clave de prioridad de los pacientes que no tienen una.
+     */
+    public static final long SIN_CLAVE = -1L;
+
+    /**
+     * Cantidad de bits de la clave dedicados a la fecha/hora de registro.
+     */
+    private static final int BITS_DE_TIEMPO = 60;
+
+    /**
+     * Desplazamiento que se suma a los microsegundos desde la época para que la parte
+     * de tiempo de la clave nunca sea negativa.
+     */
+    private static final long DESPLAZAMIENTO_DE_TIEMPO = 1L << (BITS_DE_TIEMPO - 1);
+
+    /**
+     * Clave de prioridad: el ordinal del código de emergencia (A = 0 ... E = 4) en los bits altos
+     * y los microsegundos desde la época (desplazados) en los 60 bits bajos.
+     * Vale {@link #SIN_CLAVE} si el código no es de la A a la E o la fecha está fuera de rango.
+     */
+    private final long claveDePrioridad;
+
+    /**
+     * Nanosegundos de la fecha/hora de registro que no caben en la clave (0 a 999),
+     * utilizados solo para desempatar pacientes con la misma clave.
+     */
+    private final int nanosRestantes;
+
+    /**
+     * Constructor para inicializar un objeto {@code Paciente}.
+     *
+     * @param nombreDelPaciente    El nombre del paciente.
+     * @param descripcionDelSintoma Una breve descripción del síntoma del paciente.
+     * @param codigoDeEmergencia   El código de emergencia asociado al paciente.
+     * @param currentDateTime      La fecha y hora de registro del paciente.
+     */
+    public Paciente(String nombreDelPaciente, String descripcionDelSintoma, String codigoDeEmergencia, LocalDateTime currentDateTime) {
+        this(nombreDelPaciente, descripcionDelSintoma, CodigoDeEmergencia.buscar(codigoDeEmergencia), codigoDeEmergencia, currentDateTime);
+    }
+
+    /**
+     * Constructor para inicializar un objeto {@code Paciente} con un código de emergencia ya interpretado.
+     *
+     * @param nombreDelPaciente    El nombre del paciente.
+     * @param descripcionDelSintoma Una breve descripción del síntoma del paciente.
+     * @param codigo               El código de emergencia asociado al paciente.
+     * @param currentDateTime      La fecha y hora de registro del paciente.
+     */
+    public Paciente(String nombreDelPaciente, String descripcionDelSintoma, CodigoDeEmergencia codigo, LocalDateTime currentDateTime) {
+        this(nombreDelPaciente, descripcionDelSintoma, codigo, null, currentDateTime);
+    }
+
+    /**
+     * Constructor común a los constructores públicos.
+     *
+     * @param nombreDelPaciente    El nombre del paciente.
+     * @param descripcionDelSintoma Una breve descripción del síntoma del paciente.
+     * @param codigo               El código de emergencia, o {@code null} si no es de la A a la E.
+     * @param texto                El texto original del código, que solo se guarda si {@code codigo} es {@code null}.
+     * @param currentDateTime      La fecha y hora de registro del paciente.
+     */
+    private Paciente(String nombreDelPaciente, String descripcionDelSintoma, CodigoDeEmergencia codigo, String texto, LocalDateTime currentDateTime) {
+        this.nombreDelPaciente = nombreDelPaciente;
+        this.descripcionDelSintoma = Diccionario.SINTOMAS.compartido(descripcionDelSintoma);
+        this.codigo = codigo;
+        this.codigoNoSoportado = codigo == null ? texto : null;
+        this.currentDateTime = currentDateTime;
+        this.claveDePrioridad = calcularClave(codigo, currentDateTime);
+        this.nanosRestantes = currentDateTime == null ? 0 : currentDateTime.getNano() % 1000;
+    }
+
+    /**
+     * Calcula la clave de prioridad de un paciente.
+     *
+     * @param codigo          El código de emergencia del paciente, o {@code null} si no es de la A a la E.
+     * @param currentDateTime La fecha y hora de registro del paciente.
+     * @return La clave de prioridad, o {@link #SIN_CLAVE} si no se puede representar.
+     */
+    private static long calcularClave(CodigoDeEmergencia codigo, LocalDateTime currentDateTime) {
+        if (codigo == null || currentDateTime == null) {
+            return SIN_CLAVE;
+        }
+        long ordinal = codigo.ordinal();
+        long segundos = currentDateTime.toEpochSecond(ZoneOffset.UTC);
+        long limite = DESPLAZAMIENTO_DE_TIEMPO / 1_000_000L;
+        if (segundos <= -limite || segundos >= limite - 1) {
+            return SIN_CLAVE;
+        }
+        long micros = segundos * 1_000_000L + currentDateTime.getNano() / 1000;
+        return (ordinal << BITS_DE_TIEMPO) | (micros + DESPLAZAMIENTO_DE_TIEMPO);
+    }
+
+    /**
+     * Obtiene el nombre del paciente.
+     *
+     * @return El nombre del paciente.
+     */
+    public String getNombreDelPaciente() {
+        return nombreDelPaciente;
+    }
+
+    /**
+     * Obtiene la descripción del síntoma del paciente.
+     *
+     * @return La descripción del síntoma.
+     */
+    public String getDescripcionDelSintoma() {
+        return descripcionDelSintoma;
+    }
+
+    /**
+     * Obtiene el código de emergencia del paciente.
+     *
+     * @return El código de emergencia.
+     */
+    public String getCodigoDeEmergencia() {
+        return codigo != null ? codigo.name() : codigoNoSoportado;
+    }
+
+    /**
+     * Obtiene el código de emergencia del paciente como constante.
+     *
+     * @return El código de emergencia, o {@code null} si no es de la A a la E.
+     */
+    public CodigoDeEmergencia getCodigo() {
+        return codigo;
+    }
+
+    /**
+     * Obtiene la fecha y hora de registro del paciente.
+     *
+     * @return La fecha y hora de registro.
+     */
+    public LocalDateTime getCurrentDateTime() {
+        return currentDateTime;
+    }
+
+    /**
+     * Obtiene la clave de prioridad del paciente. Si dos pacientes tienen claves distintas,
+     * {@code Long.compare} entre ellas da el mismo resultado que {@link #compareTo(Paciente)};
+     * si son iguales, el orden lo decide {@code compareTo}.
+     *
+     * @return La clave de prioridad, o {@link #SIN_CLAVE} si el código no es de la A a la E
+     *         o la fecha está fuera del rango representable.
+     */
+    public long getClaveDePrioridad() {
+        return claveDePrioridad;
+    }
+
+    /**
+     * Compara este paciente con otro basado en el código de emergencia.
+     * Si los códigos de emergencia son iguales, se compara por la fecha/hora de registro.
+     *
+     * @param paciente2 El paciente con el que se va a comparar.
+     * @return Un valor negativo, cero o positivo si este paciente es menor, igual o mayor
+     *         que el paciente especificado.
+     */
+    @Override
+    public int compareTo(Paciente paciente2) {
+        if ((this.claveDePrioridad | paciente2.claveDePrioridad) >= 0) {
+            int comparacion = Long.compare(this.claveDePrioridad, paciente2.claveDePrioridad);
+            return comparacion != 0 ? comparacion : Integer.compare(this.nanosRestantes, paciente2.nanosRestantes);
+        }
+        String codigoDeEmergencia = this.getCodigoDeEmergencia();
+        String otroCodigo = paciente2.getCodigoDeEmergencia();
+        if (codigoDeEmergencia.equals(otroCodigo)) {
+            return this.currentDateTime.compareTo(paciente2.currentDateTime);
+        } else {
+            return codigoDeEmergencia.compareTo(otroCodigo);
+        }
+    }
+
+    /**
+     * Devuelve una representación en forma de cadena del paciente.
+     *
+     * @return Una cadena que contiene el nombre, la descripción del síntoma y el código de emergencia.
+     */
+    @Override
+    public String toString() {
+        return nombreDelPaciente + ", " + descripcionDelSintoma + ", " + getCodigoDeEmergencia();
+    }
+}
\ No newline at end of file
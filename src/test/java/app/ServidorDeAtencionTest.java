@@ -0,0 +1,132 @@
+package app;
+
+import model.Paciente;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Clase de pruebas unitarias para la clase {@link ServidorDeAtencion}.
+ * Verifica los comandos del protocolo a través de un socket local.
+ */
+public class ServidorDeAtencionTest {
+    private ServidorDeAtencion servidor;
+
+    /**
+     * Inicia un servidor en un puerto libre con una cola de tipo "vectorheap".
+     *
+     * @throws IOException Si no se puede abrir el puerto.
+     */
+    @BeforeEach
+    public void setUp() throws IOException {
+        servidor = new ServidorDeAtencion(new SistemaDeAtencion("vectorheap"), 0);
+        servidor.iniciar();
+    }
+
+    /**
+     * Detiene el servidor y elimina el archivo de fichas que escribe el sistema.
+     *
+     * @throws IOException Si ocurre un error al cerrar el servidor.
+     */
+    @AfterEach
+    public void tearDown() throws IOException {
+        servidor.close();
+        new File("pacientes.txt").delete();
+    }
+
+    /**
+     * Prueba que los comandos enviados juntos, sin esperar respuestas, se respondan en orden.
+     *
+     * @throws IOException Si ocurre un error de comunicación.
+     */
+    @Test
+    public void testComandosEncadenados() throws IOException {
+        try (Socket socket = new Socket(InetAddress.getLoopbackAddress(), servidor.getPuerto());
+             BufferedReader lector = new BufferedReader(new InputStreamReader(socket.getInputStream(), StandardCharsets.UTF_8))) {
+            OutputStream salida = socket.getOutputStream();
+            salida.write(("PEEK\n"
+                    + "ADD Maria,Fiebre,B,2025-04-10T11:00:00\n"
+                    + "ADD Juan,Dolor de cabeza,A,2025-04-10T10:00:00\n"
+                    + "SIZE\n"
+                    + "PEEK\n"
+                    + "NEXT\n"
+                    + "NEXT\n"
+                    + "NEXT\n").getBytes(StandardCharsets.UTF_8));
+            salida.flush();
+
+            assertEquals("EMPTY", lector.readLine(), "Una cola vacía no debería tener siguiente paciente.");
+            assertEquals("OK", lector.readLine());
+            assertEquals("OK", lector.readLine());
+            assertEquals("OK 2", lector.readLine(), "Debería haber 2 pacientes en la cola.");
+            assertEquals("OK Juan,Dolor de cabeza,A,2025-04-10T10:00:00", lector.readLine());
+            assertEquals("OK Juan,Dolor de cabeza,A,2025-04-10T10:00:00", lector.readLine(),
+                    "El paciente con código A debería atenderse primero.");
+            assertEquals("OK Maria,Fiebre,B,2025-04-10T11:00:00", lector.readLine());
+            assertEquals("EMPTY", lector.readLine());
+        }
+    }
+
+    /**
+     * Prueba las respuestas de error y el comando STATS.
+     *
+     * @throws IOException Si ocurre un error de comunicación.
+     */
+    @Test
+    public void testErroresYEstadisticas() throws IOException {
+        try (Socket socket = new Socket(InetAddress.getLoopbackAddress(), servidor.getPuerto());
+             BufferedReader lector = new BufferedReader(new InputStreamReader(socket.getInputStream(), StandardCharsets.UTF_8))) {
+            OutputStream salida = socket.getOutputStream();
+            salida.write("ADD Juan,Fractura,Z\nFOO\nADD Ana,Tos,c\nSTATS\n".getBytes(StandardCharsets.UTF_8));
+            salida.flush();
+
+            assertTrue(lector.readLine().startsWith("ERR "), "Un código no válido debería rechazarse.");
+            assertTrue(lector.readLine().startsWith("ERR "), "Un comando desconocido debería rechazarse.");
+            assertEquals("OK", lector.readLine(), "El código debería aceptarse en minúsculas.");
+            String estadisticas = lector.readLine();
+            assertTrue(estadisticas.startsWith("OK "), estadisticas);
+            assertTrue(estadisticas.contains("enEspera=1"), estadisticas);
+            assertTrue(estadisticas.contains("altas=1"), estadisticas);
+            assertTrue(estadisticas.contains("errores=2"), estadisticas);
+        }
+    }
+
+    /**
+     * Prueba que un error de la cola se responda con ERR y no corte la conexión.
+     *
+     * @throws IOException Si ocurre un error de comunicación.
+     */
+    @Test
+    public void testErrorDeLaCola() throws IOException {
+        SistemaDeAtencion fallido = new SistemaDeAtencion("vectorheap") {
+            @Override
+            public boolean agregarPaciente(Paciente nuevoPaciente) {
+                throw new IllegalStateException("Cola no disponible");
+            }
+        };
+        try (ServidorDeAtencion otro = new ServidorDeAtencion(fallido, 0)) {
+            otro.iniciar();
+            try (Socket socket = new Socket(InetAddress.getLoopbackAddress(), otro.getPuerto());
+                 BufferedReader lector = new BufferedReader(new InputStreamReader(socket.getInputStream(), StandardCharsets.UTF_8))) {
+                OutputStream salida = socket.getOutputStream();
+                salida.write("ADD Juan,Fractura,A\nSIZE\nSTATS\n".getBytes(StandardCharsets.UTF_8));
+                salida.flush();
+
+                assertEquals("ERR Cola no disponible", lector.readLine());
+                assertEquals("OK 0", lector.readLine(), "La conexión debería seguir atendiendo comandos.");
+                assertTrue(lector.readLine().contains("errores=1"));
+            }
+        }
+    }
+}
@@ -1,3 +1,9 @@
+package app;
+
+import heap.VectorHeap;
+import io.DiarioDePacientes;
+import model.Paciente;
+
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
@@ -5,7 +11,11 @@ import java.io.File;
 import java.io.FileWriter;
 import java.io.IOException;
 import java.lang.reflect.Field;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Queue;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -151,4 +161,78 @@ public class SistemaDeAtencionTest {
         assertEquals(paciente1, siguiente, "El paciente con mayor prioridad debería ser el siguiente.");
         assertEquals(2, getPacientes().size(), "No debería eliminarse ningún paciente.");
     }
-}
\ No newline at end of file
+
+    /**
+     * Prueba el método {@link SistemaDeAtencion#verPrimerosPacientes(int)} con un {@code VectorHeap}
+     * y con un {@code PriorityQueue}.
+     * Verifica que se devuelvan los pacientes en orden sin atenderlos.
+     */
+    @Test
+    public void testVerPrimerosPacientes() {
+        LocalDateTime base = LocalDateTime.of(2025, 4, 10, 10, 0);
+        for (SistemaDeAtencion conCola : List.of(new SistemaDeAtencion("vectorheap"), sistema)) {
+            List<Paciente> agregados = List.of(
+                    new Paciente("Juan", "Tos", "C", base),
+                    new Paciente("Maria", "Infarto", "A", base.plusMinutes(1)),
+                    new Paciente("Ana", "Fiebre", "B", base.plusMinutes(2)));
+            conCola.agregarPacientes(agregados);
+
+            List<Paciente> primeros = conCola.verPrimerosPacientes(2);
+            assertEquals(List.of(agregados.get(1), agregados.get(2)), primeros, "Deberían verse los dos más urgentes en orden.");
+            assertEquals(3, conCola.cantidadDePacientes(), "No debería atenderse ningún paciente.");
+        }
+        new File("pacientes.txt").delete();
+    }
+
+    /**
+     * Prueba {@link SistemaDeAtencion#agregarPacientes(java.util.Collection)} y
+     * {@link SistemaDeAtencion#atenderPacientes(int)} en modo diario con lotes que cruzan el umbral
+     * de compactación. Verifica que el diario, reproducido como tras una caída, tenga los mismos pacientes.
+     *
+     * @throws IOException Si ocurre un error con los archivos de prueba.
+     */
+    @Test
+    public void testLotesEnModoDiario() throws IOException {
+        Path fichas = Path.of("pacientes.txt");
+        Path registro = Path.of("pacientes.log");
+        Files.deleteIfExists(fichas);
+        Files.deleteIfExists(registro);
+        SistemaDeAtencion conDiario = new SistemaDeAtencion("vectorheap");
+        try {
+            conDiario.activarDiario();
+            LocalDateTime base = LocalDateTime.of(2025, 4, 10, 10, 0);
+            List<Paciente> lote = new ArrayList<>();
+            for (int i = 0; i < 10_005; i++) {
+                lote.add(new Paciente("Paciente " + i, "Sintoma", String.valueOf((char) ('A' + i % 5)), base.plusSeconds(i)));
+            }
+            assertEquals(10_005, conDiario.agregarPacientes(lote));
+            assertEquals(10_005, reproducir(registro).size(), "El diario no debería repetir altas del lote.");
+            assertEquals(9_990, conDiario.atenderPacientes(9_990).size());
+            assertEquals(12, conDiario.atenderPacientes(12).size());
+
+            VectorHeap<Paciente> reconstruida = reproducir(registro);
+            assertEquals(3, reconstruida.size(), "El diario no debería repetir ni perder atenciones del lote.");
+            assertEquals(conDiario.verPrimerosPacientes(3).stream().map(Paciente::getNombreDelPaciente).toList(),
+                    reconstruida.verPrimeros(3).stream().map(Paciente::getNombreDelPaciente).toList());
+        } finally {
+            conDiario.cerrar();
+            Files.deleteIfExists(fichas);
+            Files.deleteIfExists(registro);
+        }
+    }
+
+    /**
+     * Reproduce un diario sobre una cola nueva, como al reiniciar tras una caída.
+     *
+     * @param registro La ruta del diario.
+     * @return La cola reconstruida.
+     * @throws IOException Si ocurre un error al leer el diario.
+     */
+    private static VectorHeap<Paciente> reproducir(Path registro) throws IOException {
+        VectorHeap<Paciente> reconstruida = new VectorHeap<>();
+        try (DiarioDePacientes diario = new DiarioDePacientes(registro, 1000)) {
+            diario.reproducir(reconstruida);
+        }
+        return reconstruida;
+    }
+}
@@ -0,0 +1,110 @@
+package heap;
+
+import model.Paciente;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+
+/**
+ * Clase de pruebas unitarias para la clase {@link AgingQueue}.
+ * Verifica el orden sin envejecimiento, la promoción por tiempo de espera y el registro de esperas.
+ */
+public class AgingQueueTest {
+    private static final LocalDateTime AHORA = LocalDateTime.of(2025, 4, 10, 12, 0);
+
+    /**
+     * Crea una cola con un paso de 30 minutos y un reloj fijo en {@link #AHORA}.
+     *
+     * @return La cola.
+     */
+    private static AgingQueue nuevaCola() {
+        Clock reloj = Clock.fixed(AHORA.toInstant(ZoneOffset.UTC), ZoneOffset.UTC);
+        return new AgingQueue(Duration.ofMinutes(30), reloj);
+    }
+
+    /**
+     * Prueba que, sin esperas largas, el orden sea el de {@link Paciente#compareTo(Paciente)}.
+     */
+    @Test
+    public void testOrdenSinEnvejecimiento() {
+        AgingQueue cola = nuevaCola();
+        Paciente leve = new Paciente("Maria", "Fiebre", "C", AHORA.minusMinutes(5));
+        Paciente urgente = new Paciente("Juan", "Fractura", "A", AHORA.minusMinutes(1));
+        Paciente urgenteAnterior = new Paciente("Ana", "Hemorragia", "A", AHORA.minusMinutes(2));
+        cola.add(leve);
+        cola.add(urgente);
+        cola.add(urgenteAnterior);
+
+        assertEquals(3, cola.size());
+        assertEquals(urgenteAnterior, cola.peek(), "El paciente A más antiguo debería ser el siguiente.");
+        assertEquals(urgenteAnterior, cola.remove());
+        assertEquals(urgente, cola.remove());
+        assertEquals(leve, cola.remove());
+        assertNull(cola.remove(), "Una cola vacía debería devolver null.");
+    }
+
+    /**
+     * Prueba que un paciente de código E que espera lo suficiente pase delante de pacientes más urgentes.
+     */
+    @Test
+    public void testPromocionPorEspera() {
+        AgingQueue cola = nuevaCola();
+        Paciente antiguo = new Paciente("Pedro", "Tos", "E", AHORA.minusMinutes(95));
+        Paciente reciente = new Paciente("Luis", "Dolor", "C", AHORA.minusMinutes(1));
+        Paciente urgente = new Paciente("Juan", "Fractura", "B", AHORA);
+        cola.add(antiguo);
+        cola.add(reciente);
+        cola.add(urgente);
+
+        // 95 minutos son 3 pasos: E sube a B y, a igual nivel, gana el código original B.
+        assertEquals(urgente, cola.remove(), "A igual nivel efectivo debería ganar el código original más urgente.");
+        assertEquals(antiguo, cola.remove(), "El paciente E envejecido debería pasar delante del C reciente.");
+        assertEquals(reciente, cola.remove());
+    }
+
+    /**
+     * Prueba que se registren las esperas y los incumplimientos del objetivo por código.
+     */
+    @Test
+    public void testEsperas() {
+        AgingQueue cola = nuevaCola();
+        cola.add(new Paciente("Juan", "Fractura", "B", AHORA.minusMinutes(20)));
+        cola.add(new Paciente("Maria", "Fiebre", "B", AHORA.minusMinutes(5)));
+        cola.remove();
+        cola.remove();
+
+        assertEquals(2, cola.getEsperas().getEsperas("B").getCantidad());
+        assertEquals(Duration.ofMinutes(20).toMillis(), cola.getEsperas().getEsperas("B").getMaximo());
+        assertEquals(1, cola.getEsperas().getIncumplimientos("B"), "Solo la espera de 20 minutos supera el objetivo de B.");
+    }
+
+    /**
+     * Prueba que un paciente con un código fuera de la A a la E se acepte, vaya después de E y
+     * envejezca como los demás, sin registrar su espera.
+     */
+    @Test
+    public void testCodigoNoSoportado() {
+        AgingQueue cola = nuevaCola();
+        Paciente otroCodigo = new Paciente("Ana", "Tos", "Z", AHORA.minusMinutes(65));
+        Paciente leve = new Paciente("Pedro", "Tos", "E", AHORA);
+        Paciente urgente = new Paciente("Juan", "Fractura", "C", AHORA);
+        cola.add(otroCodigo);
+        cola.add(leve);
+        cola.add(urgente);
+
+        // 65 minutos son 2 pasos: la cubeta de los códigos no soportados sube a D.
+        assertEquals(3, cola.size());
+        assertEquals(urgente, cola.remove());
+        assertEquals(otroCodigo, cola.remove(), "El paciente envejecido debería pasar delante del E reciente.");
+        assertEquals(leve, cola.remove());
+        long registradas = 0;
+        for (String codigo : new String[]{"A", "B", "C", "D", "E"}) {
+            registradas += cola.getEsperas().getEsperas(codigo).getCantidad();
+        }
+        assertEquals(2, registradas, "Solo deberían registrarse las esperas de los pacientes C y E.");
+    }
+}
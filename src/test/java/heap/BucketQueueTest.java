@@ -0,0 +1,87 @@
+package heap;
+
+import model.Paciente;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Clase de pruebas unitarias para la clase {@link BucketQueue}.
+ * Verifica que la cola por códigos de emergencia respete el orden de {@link Paciente}.
+ */
+public class BucketQueueTest {
+
+    /**
+     * Prueba que los pacientes se atiendan primero por código y luego por llegada.
+     */
+    @Test
+    public void testOrderByCodeThenArrival() {
+        LocalDateTime base = LocalDateTime.of(2025, 4, 10, 10, 0);
+        BucketQueue cola = new BucketQueue();
+        Paciente leve = new Paciente("Maria", "Fiebre", "C", base);
+        Paciente urgente = new Paciente("Juan", "Fractura", "A", base.plusMinutes(10));
+        Paciente urgenteAnterior = new Paciente("Ana", "Hemorragia", "A", base.plusMinutes(5));
+        cola.add(leve);
+        cola.add(urgente);
+        cola.add(urgenteAnterior);
+
+        assertEquals(3, cola.size(), "Debería haber 3 pacientes en la cola.");
+        assertEquals(urgenteAnterior, cola.peek(), "El paciente A más antiguo debería ser el siguiente.");
+        assertEquals(urgenteAnterior, cola.remove(), "El paciente A más antiguo debería atenderse primero.");
+        assertEquals(urgente, cola.remove(), "El otro paciente A debería atenderse después.");
+        assertEquals(leve, cola.remove(), "El paciente C debería atenderse al final.");
+        assertNull(cola.remove(), "Una cola vacía debería devolver null.");
+    }
+
+    /**
+     * Prueba que llegadas desordenadas produzcan el mismo orden que un {@link VectorHeap}.
+     */
+    @Test
+    public void testOutOfOrderArrivalsMatchVectorHeap() {
+        LocalDateTime base = LocalDateTime.of(2025, 4, 10, 10, 0);
+        Random random = new Random(7);
+        BucketQueue cola = new BucketQueue();
+        VectorHeap<Paciente> referencia = new VectorHeap<>();
+        for (int i = 0; i < 300; i++) {
+            String codigo = String.valueOf((char) ('A' + random.nextInt(5)));
+            Paciente paciente = new Paciente("P" + i, "Sintoma", codigo, base.plusSeconds(random.nextInt(100)));
+            cola.add(paciente);
+            referencia.add(paciente);
+        }
+
+        List<Paciente> recorridos = new ArrayList<>(cola);
+        assertEquals(300, recorridos.size(), "El iterador debería recorrer todos los pacientes.");
+        while (!referencia.isEmpty()) {
+            assertEquals(0, referencia.remove().compareTo(cola.remove()), "El orden debería coincidir con VectorHeap.");
+        }
+        assertTrue(cola.isEmpty(), "La cola debería quedar vacía.");
+    }
+
+    /**
+     * Prueba que un código de emergencia fuera de rango se acepte y se atienda en el orden de
+     * {@link Paciente#compareTo(Paciente)}.
+     */
+    @Test
+    public void testInvalidCode() {
+        LocalDateTime base = LocalDateTime.of(2025, 4, 10, 10, 0);
+        BucketQueue cola = new BucketQueue();
+        Paciente otroCodigo = new Paciente("Juan", "Dolor", "Z", base);
+        Paciente intermedio = new Paciente("Ana", "Tos", "AA", base);
+        Paciente urgente = new Paciente("Luis", "Fractura", "A", base);
+        Paciente leve = new Paciente("Maria", "Fiebre", "B", base);
+        cola.addAll(List.of(otroCodigo, leve, intermedio, urgente));
+
+        assertEquals(4, cola.size());
+        assertEquals(4, new ArrayList<>(cola).size(), "El iterador debería recorrer también los códigos fuera de rango.");
+        assertEquals(urgente, cola.remove());
+        assertEquals(intermedio, cola.peek(), "El código AA debería ir entre A y B.");
+        assertEquals(intermedio, cola.remove());
+        assertEquals(leve, cola.remove());
+        assertTrue(cola.remove(otroCodigo), "Debería poder eliminarse un paciente con un código fuera de rango.");
+        assertTrue(cola.isEmpty(), "La cola debería quedar vacía.");
+    }
+}
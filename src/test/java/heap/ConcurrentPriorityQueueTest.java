@@ -0,0 +1,110 @@
+package heap;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Clase de pruebas unitarias para la clase {@link ConcurrentPriorityQueue}.
+ * Verifica el orden de atención y el uso concurrente desde varios hilos.
+ */
+public class ConcurrentPriorityQueueTest {
+
+    /**
+     * Prueba que los elementos se atiendan en orden y que se conserven los duplicados.
+     */
+    @Test
+    public void testOrderAndDuplicates() {
+        ConcurrentPriorityQueue<Integer> cola = new ConcurrentPriorityQueue<>();
+        cola.add(5);
+        cola.add(1);
+        cola.add(5);
+        cola.add(3);
+
+        assertEquals(4, cola.size(), "Los duplicados deberían conservarse.");
+        assertEquals(1, cola.peek(), "Peek debería devolver el menor elemento.");
+        assertEquals(1, cola.remove());
+        assertEquals(3, cola.remove());
+        assertEquals(5, cola.remove());
+        assertEquals(5, cola.remove());
+        assertNull(cola.remove(), "Una cola vacía debería devolver null.");
+        assertTrue(cola.isEmpty(), "La cola debería quedar vacía.");
+    }
+
+    /**
+     * Prueba que varios hilos agregando y atendiendo a la vez no pierdan ni dupliquen elementos.
+     *
+     * @throws Exception Si alguno de los hilos falla.
+     */
+    @Test
+    public void testConcurrentAddAndRemove() throws Exception {
+        ConcurrentPriorityQueue<Integer> cola = new ConcurrentPriorityQueue<>();
+        int hilos = 4;
+        int porHilo = 5000;
+        ExecutorService ejecutor = Executors.newFixedThreadPool(hilos * 2);
+        try {
+            List<Future<List<Integer>>> resultados = new ArrayList<>();
+            for (int h = 0; h < hilos; h++) {
+                int inicio = h * porHilo;
+                ejecutor.submit(() -> {
+                    for (int i = inicio; i < inicio + porHilo; i++) {
+                        cola.add(i);
+                    }
+                });
+                resultados.add(ejecutor.submit(() -> {
+                    List<Integer> atendidos = new ArrayList<>();
+                    while (atendidos.size() < porHilo) {
+                        Integer elemento = cola.poll();
+                        if (elemento != null) {
+                            atendidos.add(elemento);
+                        }
+                    }
+                    return atendidos;
+                }));
+            }
+            Set<Integer> vistos = new HashSet<>();
+            for (Future<List<Integer>> resultado : resultados) {
+                for (Integer elemento : resultado.get()) {
+                    assertTrue(vistos.add(elemento), "Ningún elemento debería atenderse dos veces.");
+                }
+            }
+            assertEquals(hilos * porHilo, vistos.size(), "Todos los elementos deberían atenderse.");
+            assertTrue(cola.isEmpty(), "La cola debería quedar vacía.");
+        } finally {
+            ejecutor.shutdownNow();
+        }
+    }
+
+    /**
+     * Prueba que los elementos iguales agregados desde muchos hilos de corta vida se conserven todos
+     * y que el tamaño coincida con la cantidad de elementos atendidos.
+     *
+     * @throws InterruptedException Si se interrumpe la espera de los hilos.
+     */
+    @Test
+    public void testElementosIgualesDesdeHilosDeCortaVida() throws InterruptedException {
+        ConcurrentPriorityQueue<Integer> cola = new ConcurrentPriorityQueue<>();
+        int hilos = 200;
+        for (int h = 0; h < hilos; h++) {
+            Thread hilo = new Thread(() -> {
+                cola.add(7);
+                cola.add(7);
+            });
+            hilo.start();
+            hilo.join();
+        }
+        assertEquals(2 * hilos, cola.size());
+        int atendidos = 0;
+        while (cola.poll() != null) {
+            atendidos++;
+        }
+        assertEquals(2 * hilos, atendidos, "Ningún elemento igual debería descartarse.");
+        assertEquals(0, cola.size());
+    }
+}
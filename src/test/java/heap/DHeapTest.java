@@ -0,0 +1,132 @@
+package heap;
+
+import model.Paciente;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Clase de pruebas unitarias para la clase {@link DHeap}.
+ * Verifica que el heap d-ario mantenga el mismo orden que un heap binario.
+ */
+public class DHeapTest {
+
+    /**
+     * Prueba las operaciones básicas de un {@link DHeap} de aridad 4.
+     * Verifica que los elementos se eliminen de menor a mayor.
+     */
+    @Test
+    public void testAddAndRemove() {
+        DHeap<Integer> heap = new DHeap<>(4);
+        Random random = new Random(42);
+        List<Integer> esperados = new ArrayList<>();
+        for (int i = 0; i < 500; i++) {
+            int valor = random.nextInt(1000);
+            heap.add(valor);
+            esperados.add(valor);
+        }
+        esperados.sort(null);
+
+        assertEquals(500, heap.size(), "Heap should contain every added element.");
+        assertEquals(esperados.get(0), heap.peek(), "Peek should return the smallest element.");
+        for (Integer esperado : esperados) {
+            assertEquals(esperado, heap.remove(), "Elements should be removed in ascending order.");
+        }
+        assertNull(heap.remove(), "Removing from an empty heap should return null.");
+    }
+
+    /**
+     * Prueba la construcción en bloque de un {@link DHeap} de aridad 8.
+     * Verifica que el heap construido en tiempo lineal respete el orden.
+     */
+    @Test
+    public void testBulkConstruction() {
+        List<Integer> elementos = new ArrayList<>();
+        for (int i = 100; i > 0; i--) {
+            elementos.add(i % 37);
+        }
+        DHeap<Integer> heap = new DHeap<>(8, elementos);
+        elementos.sort(null);
+
+        for (Integer esperado : elementos) {
+            assertEquals(esperado, heap.poll(), "Bulk-built heap should return elements in order.");
+        }
+    }
+
+    /**
+     * Prueba el orden de pacientes en un {@link DHeap}.
+     * Verifica que se respete el orden de {@link Paciente#compareTo(Paciente)}.
+     */
+    @Test
+    public void testPacienteOrdering() {
+        LocalDateTime ahora = LocalDateTime.now();
+        Paciente urgente = new Paciente("Juan", "Fractura", "A", ahora.plusMinutes(5));
+        Paciente urgenteAnterior = new Paciente("Ana", "Hemorragia", "A", ahora);
+        Paciente leve = new Paciente("Maria", "Fiebre", "C", ahora.minusHours(1));
+        DHeap<Paciente> heap = new DHeap<>();
+        heap.add(leve);
+        heap.add(urgente);
+        heap.add(urgenteAnterior);
+
+        assertEquals(urgenteAnterior, heap.remove(), "Earlier patient with the same code should go first.");
+        assertEquals(urgente, heap.remove(), "Remaining code A patient should go next.");
+        assertEquals(leve, heap.remove(), "Lower priority code should go last.");
+    }
+
+    /**
+     * Prueba el constructor con una aridad no válida.
+     * Verifica que se lance una excepción {@link IllegalArgumentException}.
+     */
+    @Test
+    public void testInvalidArity() {
+        assertThrows(IllegalArgumentException.class, () -> new DHeap<Integer>(1));
+    }
+
+    /**
+     * Prueba los métodos {@link DHeap#agregarLote(java.util.Collection)} y {@link DHeap#atenderLote(int)}.
+     * Verifica que la extracción en lote respete la aridad del heap.
+     */
+    @Test
+    public void testLotes() {
+        Random random = new Random(11);
+        DHeap<Integer> heap = new DHeap<>(8);
+        List<Integer> lote = new ArrayList<>();
+        for (int i = 0; i < 5000; i++) {
+            lote.add(random.nextInt(100000));
+        }
+        heap.agregarLote(lote);
+        List<Integer> ordenados = new ArrayList<>(lote);
+        ordenados.sort(null);
+
+        assertEquals(ordenados.subList(0, 2000), heap.atenderLote(2000), "Batch should match the sorted prefix.");
+        assertEquals(ordenados.subList(2000, 2010), heap.atenderLote(10), "Small batch should continue in order.");
+        for (int i = 2010; i < ordenados.size(); i++) {
+            assertEquals(ordenados.get(i), heap.remove(), "Remaining elements should still be in heap order.");
+        }
+    }
+
+    /**
+     * Prueba el método {@link DHeap#verPrimeros(int)}.
+     * Verifica que el recorrido en orden respete la aridad del heap y no lo modifique.
+     */
+    @Test
+    public void testVerPrimeros() {
+        Random random = new Random(5);
+        DHeap<Integer> heap = new DHeap<>(4);
+        List<Integer> ordenados = new ArrayList<>();
+        for (int i = 0; i < 3000; i++) {
+            int valor = random.nextInt(100000);
+            heap.add(valor);
+            ordenados.add(valor);
+        }
+        ordenados.sort(null);
+
+        assertEquals(ordenados.subList(0, 50), heap.verPrimeros(50), "View should match the sorted prefix.");
+        assertEquals(3000, heap.size(), "Viewing should not remove elements.");
+        assertEquals(ordenados.get(0), heap.remove());
+    }
+}
@@ -0,0 +1,153 @@
+package heap;
+
+import model.Paciente;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Clase de pruebas unitarias para la clase {@link IndexedHeap}.
+ * Verifica el orden de atención, el cambio de prioridad, la cancelación y la búsqueda por nombre.
+ */
+public class IndexedHeapTest {
+
+    /**
+     * Prueba que el heap devuelva los pacientes en el mismo orden que un {@link VectorHeap}
+     * aunque se cambien prioridades y se cancelen pacientes al azar.
+     */
+    @Test
+    public void testMatchesVectorHeap() {
+        Random random = new Random(5);
+        LocalDateTime base = LocalDateTime.of(2025, 4, 10, 10, 0);
+        IndexedHeap heap = new IndexedHeap();
+        VectorHeap<Paciente> referencia = new VectorHeap<>();
+        List<Long> manejadores = new ArrayList<>();
+        for (int i = 0; i < 2000; i++) {
+            String codigo = String.valueOf((char) ('A' + random.nextInt(5)));
+            Paciente paciente = new Paciente("P" + i, "Sintoma", codigo, base.plusSeconds(random.nextInt(100)));
+            manejadores.add(heap.registrar(paciente));
+            referencia.add(paciente);
+            long manejador = manejadores.get(random.nextInt(manejadores.size()));
+            Paciente elegido = heap.obtener(manejador);
+            switch (random.nextInt(4)) {
+                case 0 -> {
+                    if (elegido != null) {
+                        String nuevoCodigo = String.valueOf((char) ('A' + random.nextInt(5)));
+                        Paciente actualizado = heap.cambiarPrioridad(manejador, nuevoCodigo);
+                        assertEquals(nuevoCodigo, actualizado.getCodigoDeEmergencia());
+                        assertSame(actualizado, heap.obtener(manejador), "El manejador debería seguir siendo válido.");
+                        assertTrue(referencia.remove(elegido));
+                        referencia.add(actualizado);
+                    }
+                }
+                case 1 -> {
+                    assertSame(elegido, heap.cancelar(manejador));
+                    if (elegido != null) {
+                        assertTrue(referencia.remove(elegido));
+                    }
+                }
+                case 2 -> assertEquals(0, referencia.remove().compareTo(heap.remove()), "El orden debería coincidir con VectorHeap.");
+                default -> {
+                }
+            }
+        }
+        assertEquals(referencia.size(), heap.size(), "Ambos heaps deberían tener el mismo tamaño.");
+        while (!referencia.isEmpty()) {
+            assertEquals(0, referencia.remove().compareTo(heap.remove()), "El orden debería coincidir con VectorHeap.");
+        }
+        assertNull(heap.remove(), "Un heap vacío debería devolver null.");
+    }
+
+    /**
+     * Prueba que un manejador deje de ser válido cuando su paciente sale de la cola,
+     * aunque otro paciente reutilice su registro.
+     */
+    @Test
+    public void testManejadorInvalido() {
+        IndexedHeap heap = new IndexedHeap();
+        LocalDateTime ahora = LocalDateTime.now();
+        long juan = heap.registrar(new Paciente("Juan", "Fractura", "C", ahora));
+        assertEquals("Juan", heap.remove().getNombreDelPaciente());
+        long maria = heap.registrar(new Paciente("Maria", "Fiebre", "D", ahora));
+
+        assertNull(heap.obtener(juan), "El manejador de un paciente atendido no debería ser válido.");
+        assertNull(heap.cambiarPrioridad(juan, "A"), "No se debería cambiar la prioridad con un manejador inválido.");
+        assertNull(heap.cancelar(juan), "No se debería cancelar con un manejador inválido.");
+        assertEquals(1, heap.size());
+        assertEquals("Maria", heap.obtener(maria).getNombreDelPaciente());
+        assertNull(heap.obtener(IndexedHeap.SIN_MANEJADOR));
+    }
+
+    /**
+     * Prueba la búsqueda de pacientes por nombre.
+     */
+    @Test
+    public void testBuscarPorNombre() {
+        IndexedHeap heap = new IndexedHeap();
+        LocalDateTime ahora = LocalDateTime.now();
+        long primero = heap.registrar(new Paciente("Juan", "Fractura", "E", ahora));
+        heap.registrar(new Paciente("Maria", "Fiebre", "B", ahora));
+        long segundo = heap.registrar(new Paciente("Juan", "Tos", "D", ahora.plusMinutes(1)));
+
+        assertEquals(primero, heap.buscar("Juan"), "Debería encontrar al primer Juan registrado.");
+        assertEquals(List.of(primero, segundo), heap.buscarTodos("Juan"));
+        assertEquals(IndexedHeap.SIN_MANEJADOR, heap.buscar("Pedro"));
+
+        heap.cambiarPrioridad(heap.buscar("Juan"), "A");
+        assertEquals("Fractura", heap.peek().getDescripcionDelSintoma(), "El paciente con código A debería atenderse primero.");
+        heap.cancelar(primero);
+        assertEquals(segundo, heap.buscar("Juan"), "Debería quedar solo el segundo Juan.");
+        heap.cancelar(segundo);
+        assertTrue(heap.buscarTodos("Juan").isEmpty());
+        assertEquals("Maria", heap.remove().getNombreDelPaciente());
+    }
+
+    /**
+     * Prueba que muchos pacientes con el mismo nombre se enlacen en orden de llegada y que al
+     * cancelar el último se pueda seguir agregando al final de la lista.
+     */
+    @Test
+    public void testMuchosPacientesConElMismoNombre() {
+        IndexedHeap heap = new IndexedHeap();
+        LocalDateTime ahora = LocalDateTime.of(2025, 4, 10, 10, 0);
+        List<Long> manejadores = new ArrayList<>();
+        for (int i = 0; i < 50_000; i++) {
+            manejadores.add(heap.registrar(new Paciente("N/N", "Sin datos", "C", ahora.plusSeconds(i))));
+        }
+        assertEquals(manejadores, heap.buscarTodos("N/N"));
+
+        heap.cancelar(manejadores.remove(manejadores.size() - 1));
+        heap.cancelar(manejadores.remove(0));
+        manejadores.add(heap.registrar(new Paciente("N/N", "Sin datos", "C", ahora)));
+        assertEquals(manejadores, heap.buscarTodos("N/N"), "El nuevo paciente debería quedar al final de la lista.");
+        assertEquals(manejadores.get(0), heap.buscar("N/N"));
+    }
+
+    /**
+     * Prueba la búsqueda y la cancelación por identificador.
+     */
+    @Test
+    public void testBuscarPorIdentificador() {
+        IndexedHeap heap = new IndexedHeap();
+        LocalDateTime ahora = LocalDateTime.now();
+        long juan = heap.registrar(new Paciente("Juan", "Fractura", "E", ahora));
+        long maria = heap.registrar(new Paciente("Maria", "Fiebre", "B", ahora));
+        long idDeJuan = heap.getIdentificador(juan);
+        long idDeMaria = heap.getIdentificador(maria);
+
+        assertNotEquals(idDeJuan, idDeMaria);
+        assertEquals(juan, heap.buscarPorIdentificador(idDeJuan));
+        assertEquals("Maria", heap.cancelarPorIdentificador(idDeMaria).getNombreDelPaciente());
+        assertEquals(IndexedHeap.SIN_MANEJADOR, heap.buscarPorIdentificador(idDeMaria));
+        assertNull(heap.cancelarPorIdentificador(idDeMaria));
+        assertEquals(IndexedHeap.SIN_MANEJADOR, heap.getIdentificador(maria));
+
+        long pedro = heap.registrar(new Paciente("Pedro", "Tos", "A", ahora));
+        assertNotEquals(idDeMaria, heap.getIdentificador(pedro), "Los identificadores no deberían reutilizarse.");
+        assertEquals(2, heap.size());
+    }
+}
@@ -0,0 +1,111 @@
+package heap;
+
+import model.Paciente;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.Random;
+
+/**
+ * Clase de pruebas unitarias para la clase {@link PairingHeap}.
+ * Verifica el orden de eliminación y la fusión de colas.
+ */
+public class PairingHeapTest {
+
+    /**
+     * Prueba que los elementos se eliminen de menor a mayor, intercalando altas y bajas.
+     */
+    @Test
+    public void testAddAndRemove() {
+        PairingHeap<Integer> heap = new PairingHeap<>();
+        PriorityQueue<Integer> referencia = new PriorityQueue<>();
+        Random random = new Random(42);
+        for (int i = 0; i < 5000; i++) {
+            if (random.nextInt(3) == 0) {
+                assertEquals(referencia.poll(), heap.poll(), "Debería eliminarse el mismo mínimo que en la referencia.");
+            } else {
+                int valor = random.nextInt(1000);
+                heap.add(valor);
+                referencia.add(valor);
+            }
+            assertEquals(referencia.size(), heap.size());
+        }
+        while (!referencia.isEmpty()) {
+            assertEquals(referencia.poll(), heap.remove());
+        }
+        assertNull(heap.remove(), "Eliminar de una cola vacía debería devolver null.");
+        assertNull(heap.peek());
+    }
+
+    /**
+     * Prueba que fusionar dos colas de pacientes conserve el orden de {@code Paciente.compareTo}
+     * y deje vacía la cola fusionada.
+     */
+    @Test
+    public void testFusionar() {
+        LocalDateTime base = LocalDateTime.of(2025, 4, 10, 10, 0);
+        PairingHeap<Paciente> sede1 = new PairingHeap<>();
+        PairingHeap<Paciente> sede2 = new PairingHeap<>();
+        List<Paciente> todos = new ArrayList<>();
+        Random random = new Random(7);
+        for (int i = 0; i < 2000; i++) {
+            Paciente paciente = new Paciente("Paciente" + i, "Fiebre",
+                    String.valueOf((char) ('A' + random.nextInt(5))), base.plusSeconds(random.nextInt(100_000)));
+            (i % 3 == 0 ? sede1 : sede2).add(paciente);
+            todos.add(paciente);
+        }
+        todos.sort(null);
+
+        sede1.fusionar(sede2);
+
+        assertEquals(2000, sede1.size());
+        assertTrue(sede2.isEmpty(), "La cola fusionada debería quedar vacía.");
+        for (Paciente esperado : todos) {
+            assertEquals(0, esperado.compareTo(sede1.poll()), "La fusión debería conservar el orden de prioridad.");
+        }
+        assertThrows(IllegalArgumentException.class, () -> sede1.fusionar(sede1));
+    }
+
+    /**
+     * Prueba que una cola con un millón de elementos agregados sin eliminar se vacíe en orden
+     * sin desbordar la pila.
+     */
+    @Test
+    public void testColaGrandeSinRecursion() {
+        PairingHeap<Integer> heap = new PairingHeap<>();
+        for (int i = 1_000_000; i > 0; i--) {
+            heap.add(i);
+        }
+        for (int i = 1; i <= 1_000_000; i++) {
+            assertEquals(i, heap.poll());
+        }
+    }
+
+    /**
+     * Prueba que el iterador recorra todos los elementos y detecte modificaciones.
+     */
+    @Test
+    public void testIterator() {
+        PairingHeap<Integer> heap = new PairingHeap<>();
+        for (int i = 0; i < 100; i++) {
+            heap.add(i * 7 % 100);
+        }
+        heap.poll();
+        int suma = 0;
+        for (Integer valor : heap) {
+            suma += valor;
+        }
+        assertEquals(4950, suma, "El iterador debería recorrer los 99 elementos restantes.");
+
+        Iterator<Integer> iterador = heap.iterator();
+        iterador.next();
+        heap.add(5);
+        assertThrows(ConcurrentModificationException.class, iterador::next);
+    }
+}
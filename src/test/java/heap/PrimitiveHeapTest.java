@@ -0,0 +1,85 @@
+package heap;
+
+import model.Paciente;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Clase de pruebas unitarias para la clase {@link PrimitiveHeap}.
+ * Verifica que el heap de claves primitivas respete el orden de {@link Paciente}.
+ */
+public class PrimitiveHeapTest {
+
+    /**
+     * Prueba que el heap devuelva los pacientes en el mismo orden que un {@link VectorHeap},
+     * incluso intercalando inserciones y eliminaciones que reutilizan posiciones libres.
+     */
+    @Test
+    public void testMatchesVectorHeap() {
+        Random random = new Random(3);
+        LocalDateTime base = LocalDateTime.of(2025, 4, 10, 10, 0);
+        PrimitiveHeap heap = new PrimitiveHeap();
+        VectorHeap<Paciente> referencia = new VectorHeap<>();
+        for (int i = 0; i < 1000; i++) {
+            String codigo = String.valueOf((char) ('A' + random.nextInt(5)));
+            Paciente paciente = new Paciente("P" + i, "Sintoma", codigo, base.plusNanos(random.nextInt(5000)));
+            heap.add(paciente);
+            referencia.add(paciente);
+            if (random.nextInt(3) == 0) {
+                assertEquals(0, referencia.remove().compareTo(heap.remove()), "El orden debería coincidir con VectorHeap.");
+            }
+        }
+        assertEquals(referencia.size(), heap.size(), "Ambos heaps deberían tener el mismo tamaño.");
+        while (!referencia.isEmpty()) {
+            assertEquals(0, referencia.remove().compareTo(heap.remove()), "El orden debería coincidir con VectorHeap.");
+        }
+        assertNull(heap.remove(), "Un heap vacío debería devolver null.");
+    }
+
+    /**
+     * Prueba que el método peek no modifique el heap.
+     */
+    @Test
+    public void testPeek() {
+        PrimitiveHeap heap = new PrimitiveHeap();
+        assertNull(heap.peek(), "Peek en un heap vacío debería devolver null.");
+        Paciente paciente1 = new Paciente("Juan", "Dolor de cabeza", "A", LocalDateTime.now());
+        Paciente paciente2 = new Paciente("Maria", "Fiebre", "B", LocalDateTime.now());
+        heap.add(paciente2);
+        heap.add(paciente1);
+
+        assertEquals(paciente1, heap.peek(), "Peek debería devolver el paciente con mayor prioridad.");
+        assertEquals(2, heap.size(), "Peek no debería eliminar pacientes.");
+    }
+
+    /**
+     * Prueba que los pacientes sin clave de prioridad se acepten y se atiendan en el orden de
+     * {@link Paciente#compareTo(Paciente)} junto con los demás.
+     */
+    @Test
+    public void testPacienteSinClave() {
+        LocalDateTime base = LocalDateTime.of(2025, 4, 10, 10, 0);
+        PrimitiveHeap heap = new PrimitiveHeap();
+        Paciente otroCodigo = new Paciente("Juan", "Dolor", "Z", base);
+        Paciente lejano = new Paciente("Ana", "Tos", "A", LocalDateTime.of(30_000, 1, 1, 0, 0));
+        Paciente urgente = new Paciente("Luis", "Fractura", "A", base);
+        Paciente leve = new Paciente("Maria", "Fiebre", "E", base);
+        assertEquals(Paciente.SIN_CLAVE, otroCodigo.getClaveDePrioridad());
+        assertEquals(Paciente.SIN_CLAVE, lejano.getClaveDePrioridad());
+        heap.addAll(List.of(otroCodigo, leve, lejano, urgente));
+
+        assertEquals(4, heap.size());
+        assertEquals(4, new ArrayList<>(heap).size(), "El iterador debería recorrer también los pacientes sin clave.");
+        assertEquals(urgente, heap.remove());
+        assertEquals(lejano, heap.peek(), "Un paciente A con fecha lejana debería ir después de los A actuales.");
+        assertEquals(lejano, heap.remove());
+        assertEquals(leve, heap.remove());
+        assertTrue(heap.remove(otroCodigo), "Debería poder eliminarse un paciente sin clave.");
+        assertNull(heap.remove(), "El heap debería quedar vacío.");
+    }
+}
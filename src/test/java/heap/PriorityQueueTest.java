@@ -1,3 +1,7 @@
+package heap;
+
+import model.Paciente;
+
 import org.junit.jupiter.api.Test;
 import static org.junit.jupiter.api.Assertions.*;
 import java.time.LocalDateTime;
@@ -72,4 +76,22 @@ public class PriorityQueueTest {
         PriorityQueue<Paciente> queue = new PriorityQueue<>();
         assertNull(queue.peek(), "Debería devolver null si la cola está vacía.");
     }
-}
\ No newline at end of file
+
+    /**
+     * Prueba el método {@link PriorityQueue#getContadores()}.
+     * Verifica que se cuenten las operaciones y las comparaciones.
+     */
+    @Test
+    public void testContadores() {
+        PriorityQueue<Paciente> queue = new PriorityQueue<>();
+        queue.add(new Paciente("Juan", "Dolor de cabeza", "B", LocalDateTime.now()));
+        queue.add(new Paciente("Maria", "Fiebre", "A", LocalDateTime.now()));
+        queue.peek();
+        queue.remove();
+
+        assertEquals(2, queue.getContadores().getAgregados(), "Debería contar los pacientes agregados.");
+        assertEquals(1, queue.getContadores().getEliminados(), "Debería contar los pacientes eliminados.");
+        assertEquals(1, queue.getContadores().getConsultas(), "Debería contar las consultas.");
+        assertTrue(queue.getContadores().getComparaciones() > 0, "Debería contar las comparaciones.");
+    }
+}
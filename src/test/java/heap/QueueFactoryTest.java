@@ -0,0 +1,183 @@
+package heap;
+
+import model.Paciente;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.Random;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+import java.util.Queue;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Clase de pruebas unitarias para la clase {@link QueueFactory}.
+ * Verifica que se creen correctamente las instancias de colas de prioridad según el tipo especificado.
+ */
+public class QueueFactoryTest {
+
+    /**
+     * Prueba el método {@link QueueFactory#getQueue(String)} con el tipo "priorityqueue".
+     * Verifica que se devuelva una instancia de {@link PriorityQueue}.
+     */
+    @Test
+    public void testGetPriorityQueue() {
+        Queue<String> queue = QueueFactory.getQueue("priorityqueue");
+        assertNotNull(queue, "La cola no debería ser nula.");
+        assertTrue(queue instanceof PriorityQueue, "La cola debería ser una instancia de PriorityQueue.");
+    }
+
+    /**
+     * Prueba el método {@link QueueFactory#getQueue(String)} con el tipo "vectorheap".
+     * Verifica que se devuelva una instancia de {@link VectorHeap}.
+     */
+    @Test
+    public void testGetVectorHeap() {
+        Queue<String> queue = QueueFactory.getQueue("vectorheap");
+        assertNotNull(queue, "La cola no debería ser nula.");
+        assertTrue(queue instanceof VectorHeap, "La cola debería ser una instancia de VectorHeap.");
+    }
+
+    /**
+     * Prueba el método {@link QueueFactory#getQueue(String)} con el tipo "dheap:d".
+     * Verifica que se devuelva un {@link DHeap} con la aridad indicada.
+     */
+    @Test
+    public void testGetDHeap() {
+        Queue<String> queue = QueueFactory.getQueue("dheap:8");
+        assertTrue(queue instanceof DHeap, "La cola debería ser una instancia de DHeap.");
+        assertEquals(8, ((DHeap<?>) queue).getAridad(), "La aridad debería ser 8.");
+        assertEquals(DHeap.ARIDAD_POR_DEFECTO, ((DHeap<?>) QueueFactory.getQueue("dheap")).getAridad(),
+                "La aridad por defecto debería ser 4.");
+        assertThrows(IllegalArgumentException.class, () -> QueueFactory.getQueue("dheap:1"));
+        assertThrows(IllegalArgumentException.class, () -> QueueFactory.getQueue("dheap:x"));
+    }
+
+    /**
+     * Prueba el método {@link QueueFactory#getQueue(String)} con el tipo "bucket".
+     * Verifica que se devuelva una instancia de {@link BucketQueue}.
+     */
+    @Test
+    public void testGetBucketQueue() {
+        Queue<Paciente> queue = QueueFactory.getQueue("bucket");
+        assertTrue(queue instanceof BucketQueue, "La cola debería ser una instancia de BucketQueue.");
+    }
+
+    /**
+     * Prueba el método {@link QueueFactory#getQueue(String)} con el tipo "primitiveheap".
+     * Verifica que se devuelva una instancia de {@link PrimitiveHeap}.
+     */
+    @Test
+    public void testGetPrimitiveHeap() {
+        Queue<Paciente> queue = QueueFactory.getQueue("primitiveheap");
+        assertTrue(queue instanceof PrimitiveHeap, "La cola debería ser una instancia de PrimitiveHeap.");
+    }
+
+    /**
+     * Prueba el método {@link QueueFactory#getQueue(String)} con el tipo "indexedheap".
+     * Verifica que se devuelva una instancia de {@link IndexedHeap}.
+     */
+    @Test
+    public void testGetIndexedHeap() {
+        Queue<Paciente> queue = QueueFactory.getQueue("indexedheap");
+        assertTrue(queue instanceof IndexedHeap, "La cola debería ser una instancia de IndexedHeap.");
+    }
+
+    /**
+     * Prueba el método {@link QueueFactory#getQueue(String)} con el tipo "aging".
+     * Verifica que se devuelva una instancia de {@link AgingQueue}.
+     */
+    @Test
+    public void testGetAgingQueue() {
+        Queue<Paciente> queue = QueueFactory.getQueue("aging");
+        assertTrue(queue instanceof AgingQueue, "La cola debería ser una instancia de AgingQueue.");
+    }
+
+    /**
+     * Prueba el método {@link QueueFactory#getQueue(String)} con el tipo "pairingheap".
+     * Verifica que se devuelva una instancia de {@link PairingHeap}.
+     */
+    @Test
+    public void testGetPairingHeap() {
+        Queue<String> queue = QueueFactory.getQueue("pairingheap");
+        assertTrue(queue instanceof PairingHeap, "La cola debería ser una instancia de PairingHeap.");
+    }
+
+    /**
+     * Prueba el método {@link QueueFactory#getQueue(String)} con el tipo "sharded:n".
+     * Verifica que se devuelva un {@link ShardedQueue} con la cantidad de fragmentos indicada.
+     */
+    @Test
+    public void testGetShardedQueue() {
+        Queue<String> queue = QueueFactory.getQueue("sharded:3");
+        assertTrue(queue instanceof ShardedQueue, "La cola debería ser una instancia de ShardedQueue.");
+        assertEquals(3, ((ShardedQueue<?>) queue).getCantidadDeFragmentos());
+        assertTrue(QueueFactory.getQueue("sharded") instanceof ShardedQueue);
+        assertThrows(IllegalArgumentException.class, () -> QueueFactory.getQueue("sharded:0"));
+    }
+
+    /**
+     * Prueba el método {@link QueueFactory#getQueue(String)} con el tipo "concurrent".
+     * Verifica que se devuelva una instancia de {@link ConcurrentPriorityQueue}.
+     */
+    @Test
+    public void testGetConcurrentQueue() {
+        Queue<String> queue = QueueFactory.getQueue("concurrent");
+        assertTrue(queue instanceof ConcurrentPriorityQueue, "La cola debería ser una instancia de ConcurrentPriorityQueue.");
+    }
+
+    /**
+     * Prueba el método {@link QueueFactory#getQueue(String)} con un tipo no válido.
+     * Verifica que se lance una excepción {@link IllegalArgumentException} con el mensaje correcto.
+     */
+    @Test
+    public void testInvalidQueueType() {
+        Exception exception = assertThrows(IllegalArgumentException.class, () -> {
+            QueueFactory.getQueue("invalidtype");
+        });
+        assertEquals("Tipo de cola no soportado", exception.getMessage(), "El mensaje de excepción debería ser correcto.");
+    }
+
+    /**
+     * Prueba que {@code remove(Object)} elimine exactamente el paciente indicado en todas las colas
+     * de pacientes, incluidos pacientes que empatan y pacientes que llegaron fuera de orden.
+     */
+    @Test
+    public void testEliminarPacienteEnTodasLasColas() {
+        LocalDateTime base = LocalDateTime.of(2025, 4, 10, 10, 0);
+        List<Paciente> pacientes = new ArrayList<>();
+        for (int i = 0; i < 60; i++) {
+            pacientes.add(new Paciente("P" + i, "Sintoma", String.valueOf((char) ('A' + i % 5)), base.plusMinutes(i % 7)));
+        }
+        Collections.shuffle(pacientes, new Random(3));
+        String[] tipos = {"priorityqueue", "vectorheap", "dheap", "bucket", "primitiveheap", "indexedheap",
+                "aging", "pairingheap", "concurrent", "sharded:3"};
+        for (String tipo : tipos) {
+            Queue<Paciente> cola = QueueFactory.getQueue(tipo);
+            cola.addAll(pacientes);
+            Set<Paciente> eliminados = Collections.newSetFromMap(new IdentityHashMap<>());
+            for (int i = 0; i < pacientes.size(); i += 3) {
+                assertTrue(cola.remove(pacientes.get(i)), tipo);
+                eliminados.add(pacientes.get(i));
+            }
+            assertFalse(cola.remove(pacientes.get(0)), tipo + ": un paciente eliminado no debería encontrarse.");
+            assertEquals(40, cola.size(), tipo);
+            Paciente anterior = null;
+            int atendidos = 0;
+            for (Paciente paciente = cola.poll(); paciente != null; paciente = cola.poll()) {
+                assertFalse(eliminados.contains(paciente), tipo);
+                if (!tipo.equals("aging")) {
+                    assertTrue(anterior == null || anterior.compareTo(paciente) <= 0, tipo + ": debería conservarse el orden.");
+                }
+                anterior = paciente;
+                atendidos++;
+            }
+            assertEquals(40, atendidos, tipo);
+        }
+    }
+}
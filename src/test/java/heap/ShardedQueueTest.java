@@ -0,0 +1,161 @@
+package heap;
+
+import model.Paciente;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Clase de pruebas unitarias para la clase {@link ShardedQueue}.
+ * Verifica el orden de atención por torneo, el enrutamiento y el uso concurrente desde varios hilos.
+ */
+public class ShardedQueueTest {
+
+    /**
+     * Prueba que, con un solo hilo, el torneo atienda en el orden global aunque los elementos
+     * estén repartidos en varios fragmentos.
+     */
+    @Test
+    public void testTorneoConOrdenGlobal() {
+        ShardedQueue<Integer> cola = new ShardedQueue<>(4);
+        List<Integer> esperados = new ArrayList<>();
+        Random random = new Random(3);
+        for (int i = 0; i < 1000; i++) {
+            int valor = random.nextInt(10_000);
+            cola.add(valor);
+            esperados.add(valor);
+        }
+        esperados.sort(null);
+
+        assertEquals(1000, cola.size());
+        assertEquals(esperados.get(0), cola.peek(), "Peek debería devolver el menor elemento.");
+        for (Integer esperado : esperados) {
+            assertEquals(esperado, cola.remove());
+        }
+        assertNull(cola.remove(), "Una cola vacía debería devolver null.");
+    }
+
+    /**
+     * Prueba que el enrutador reparta los pacientes por código de emergencia y que la cola
+     * atienda igual en orden de prioridad.
+     */
+    @Test
+    public void testEnrutarPorArea() {
+        LocalDateTime base = LocalDateTime.of(2025, 4, 10, 10, 0);
+        ShardedQueue<Paciente> cola = new ShardedQueue<>(5, p -> p.getCodigo().ordinal(), ShardedQueue.Eleccion.TORNEO);
+        cola.add(new Paciente("Juan", "Tos", "C", base));
+        cola.add(new Paciente("Maria", "Infarto", "A", base.plusMinutes(5)));
+        cola.add(new Paciente("Ana", "Fiebre", "B", base.plusMinutes(1)));
+        cola.add(new Paciente("Luis", "Fractura", "A", base.plusMinutes(2)));
+
+        assertEquals("Luis", cola.poll().getNombreDelPaciente());
+        assertEquals("Maria", cola.poll().getNombreDelPaciente());
+        assertEquals("Ana", cola.poll().getNombreDelPaciente());
+        assertEquals("Juan", cola.poll().getNombreDelPaciente());
+    }
+
+    /**
+     * Prueba que la elección entre dos fragmentos atienda todos los elementos, y que el iterador
+     * y {@code clear} recorran todos los fragmentos.
+     */
+    @Test
+    public void testDosOpcionesIteradorYClear() {
+        ShardedQueue<Integer> cola = new ShardedQueue<>(8, Integer::intValue, ShardedQueue.Eleccion.DOS_OPCIONES);
+        for (int i = 0; i < 200; i++) {
+            cola.add(i);
+        }
+        int suma = 0;
+        for (Integer valor : cola) {
+            suma += valor;
+        }
+        assertEquals(19_900, suma, "El iterador debería recorrer todos los fragmentos.");
+
+        Set<Integer> atendidos = new HashSet<>();
+        for (int i = 0; i < 100; i++) {
+            assertTrue(atendidos.add(cola.poll()));
+        }
+        assertEquals(100, cola.size());
+        cola.clear();
+        assertTrue(cola.isEmpty());
+        assertNull(cola.poll());
+    }
+
+    /**
+     * Prueba que varios hilos agregando y atendiendo a la vez no pierdan ni dupliquen elementos.
+     *
+     * @throws Exception Si alguno de los hilos falla.
+     */
+    @Test
+    public void testConcurrentAddAndRemove() throws Exception {
+        ShardedQueue<Integer> cola = new ShardedQueue<>(4);
+        int hilos = 4;
+        int porHilo = 5000;
+        ExecutorService ejecutor = Executors.newFixedThreadPool(hilos * 2);
+        try {
+            List<Future<List<Integer>>> resultados = new ArrayList<>();
+            for (int h = 0; h < hilos; h++) {
+                int inicio = h * porHilo;
+                ejecutor.submit(() -> {
+                    for (int i = inicio; i < inicio + porHilo; i++) {
+                        cola.add(i);
+                    }
+                });
+                resultados.add(ejecutor.submit(() -> {
+                    List<Integer> atendidos = new ArrayList<>();
+                    while (atendidos.size() < porHilo) {
+                        Integer elemento = cola.poll();
+                        if (elemento != null) {
+                            atendidos.add(elemento);
+                        }
+                    }
+                    return atendidos;
+                }));
+            }
+            Set<Integer> vistos = new HashSet<>();
+            for (Future<List<Integer>> resultado : resultados) {
+                for (Integer elemento : resultado.get()) {
+                    assertTrue(vistos.add(elemento), "Ningún elemento debería atenderse dos veces.");
+                }
+            }
+            assertEquals(hilos * porHilo, vistos.size(), "Todos los elementos deberían atenderse.");
+            assertTrue(cola.isEmpty(), "La cola debería quedar vacía.");
+        } finally {
+            ejecutor.shutdownNow();
+        }
+    }
+
+    /**
+     * Prueba que {@code remove(Object)} elimine el elemento de su fragmento y que el iterador,
+     * que recorre una copia, no permita eliminar elementos.
+     */
+    @Test
+    public void testEliminarElemento() {
+        ShardedQueue<Integer> cola = new ShardedQueue<>(4);
+        for (int i = 0; i < 20; i++) {
+            cola.add(i);
+        }
+        assertTrue(cola.remove((Object) 0));
+        assertTrue(cola.remove((Object) 13));
+        assertFalse(cola.remove((Object) 13), "Un elemento ya eliminado no debería encontrarse.");
+        assertEquals(18, cola.size());
+        assertEquals(1, cola.peek());
+        assertThrows(UnsupportedOperationException.class, () -> cola.removeAll(List.of(5, 6)),
+                "removeAll no debería modificar solo la copia del iterador.");
+        assertEquals(18, cola.size());
+        List<Integer> atendidos = new ArrayList<>();
+        while (!cola.isEmpty()) {
+            atendidos.add(cola.poll());
+        }
+        assertFalse(atendidos.contains(13));
+        assertEquals(18, atendidos.size());
+    }
+}
@@ -0,0 +1,290 @@
+package heap;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * Clase de pruebas unitarias para la clase {@link VectorHeap}.
+ * Verifica el correcto funcionamiento de las operaciones de un heap mínimo.
+ */
+public class VectorHeapTest {
+
+    /**
+     * Prueba la inicialización de un {@link VectorHeap}.
+     * Verifica que el heap se inicialice vacío.
+     */
+    @Test
+    public void testHeapInitialization() {
+        VectorHeap<Integer> heap = new VectorHeap<>();
+        assertTrue(heap.obtenerPacientes().isEmpty(), "Heap should initialize as empty.");
+    }
+
+    /**
+     * Prueba el método {@link VectorHeap#add(Object)}.
+     * Verifica que los elementos se agreguen correctamente y que se mantenga la propiedad de heap mínimo.
+     */
+    @Test
+    public void testAddElements() {
+        VectorHeap<Integer> heap = new VectorHeap<>();
+        heap.add(10);
+        heap.add(5);
+        heap.add(20);
+        heap.add(1);
+
+        ArrayList<Integer> expectedOrder = new ArrayList<>();
+        expectedOrder.add(1); // Smallest element at the root
+        expectedOrder.add(5);
+        expectedOrder.add(20);
+        expectedOrder.add(10);
+
+        assertEquals(expectedOrder, heap.obtenerPacientes(), "Heap should maintain min-heap property after adding elements.");
+    }
+
+    /**
+     * Prueba el método {@link VectorHeap#remove()}.
+     * Verifica que los elementos se eliminen en el orden correcto (de menor a mayor).
+     */
+    @Test
+    public void testRemoveElements() {
+        VectorHeap<Integer> heap = new VectorHeap<>();
+        heap.add(10);
+        heap.add(5);
+        heap.add(20);
+        heap.add(1);
+
+        assertEquals(1, heap.remove(), "Removing should return the smallest element.");
+        assertEquals(5, heap.remove(), "Next smallest element should be returned.");
+        assertEquals(10, heap.remove(), "Heap should continue returning elements in order.");
+        assertEquals(20, heap.remove(), "Last element should be the largest.");
+        assertNull(heap.remove(), "Removing from an empty heap should return null.");
+    }
+
+    /**
+     * Prueba el método {@link VectorHeap#peek()}.
+     * Verifica que el método devuelva el elemento más pequeño sin eliminarlo.
+     */
+    @Test
+    public void testPeek() {
+        VectorHeap<Integer> heap = new VectorHeap<>();
+        heap.add(10);
+        heap.add(5);
+        heap.add(20);
+        heap.add(1);
+
+        assertEquals(1, heap.peek(), "Peek should return the smallest element without removing it.");
+        assertEquals(1, heap.peek(), "Peek should not modify the heap.");
+    }
+
+    /**
+     * Prueba las operaciones {@link VectorHeap#peek()} y {@link VectorHeap#remove()} en un heap vacío.
+     * Verifica que ambos métodos devuelvan {@code null}.
+     */
+    @Test
+    public void testEmptyHeap() {
+        VectorHeap<Integer> heap = new VectorHeap<>();
+        assertNull(heap.peek(), "Peek on an empty heap should return null.");
+        assertNull(heap.remove(), "Remove on an empty heap should return null.");
+    }
+
+    /**
+     * Prueba el constructor {@link VectorHeap#VectorHeap(java.util.Collection)}.
+     * Verifica que el heap construido en bloque devuelva los elementos en orden.
+     */
+    @Test
+    public void testBulkConstructor() {
+        List<Integer> elementos = Arrays.asList(10, 5, 20, 1, 7, 3, 15, 8, 2);
+        VectorHeap<Integer> heap = new VectorHeap<>(elementos);
+
+        List<Integer> ordenados = new ArrayList<>(elementos);
+        ordenados.sort(null);
+        for (Integer esperado : ordenados) {
+            assertEquals(esperado, heap.remove(), "Bulk-built heap should return elements in order.");
+        }
+        assertNull(heap.remove(), "Heap should be empty after removing every element.");
+    }
+
+    /**
+     * Prueba el método {@link VectorHeap#addAll(java.util.Collection)}.
+     * Verifica que la carga en bloque y la carga posterior mantengan la propiedad de heap mínimo.
+     */
+    @Test
+    public void testAddAll() {
+        VectorHeap<Integer> heap = new VectorHeap<>();
+        heap.addAll(Arrays.asList(9, 4, 6, 1));
+        heap.addAll(Arrays.asList(3, 0));
+
+        int[] esperados = {0, 1, 3, 4, 6, 9};
+        for (int esperado : esperados) {
+            assertEquals(esperado, heap.remove(), "Heap should return elements in order after addAll.");
+        }
+    }
+
+    /**
+     * Prueba los métodos de {@link java.util.Queue} heredados por {@link VectorHeap}.
+     * Verifica que {@code size}, {@code isEmpty}, {@code offer} y {@code poll} trabajen sobre los elementos del heap.
+     */
+    @Test
+    public void testQueueOperations() {
+        VectorHeap<Integer> heap = new VectorHeap<>();
+        assertTrue(heap.isEmpty(), "Heap should start empty.");
+        assertTrue(heap.offer(4), "Offer should accept the element.");
+        heap.offer(2);
+        heap.offer(8);
+
+        assertEquals(3, heap.size(), "Size should count the stored elements.");
+        assertEquals(2, heap.poll(), "Poll should return the smallest element.");
+        assertTrue(heap.remove(Integer.valueOf(8)), "Remove(Object) should find the element.");
+        assertEquals(1, heap.size(), "Size should decrease after removals.");
+        assertEquals(4, heap.poll(), "Remaining element should be returned.");
+        assertNull(heap.poll(), "Poll on an empty heap should return null.");
+    }
+
+    /**
+     * Prueba el método {@link VectorHeap#iterator()}.
+     * Verifica que recorra todos los elementos y falle si el heap se modifica durante el recorrido.
+     */
+    @Test
+    public void testIterator() {
+        VectorHeap<Integer> heap = new VectorHeap<>(Arrays.asList(3, 1, 2));
+        int suma = 0;
+        for (int elemento : heap) {
+            suma += elemento;
+        }
+        assertEquals(6, suma, "Iterator should visit every element.");
+
+        Iterator<Integer> iterador = heap.iterator();
+        iterador.next();
+        heap.add(0);
+        assertThrows(ConcurrentModificationException.class, iterador::next,
+                "Iterator should fail fast after a modification.");
+    }
+
+    /**
+     * Prueba el método {@link VectorHeap#agregarLote(java.util.Collection)}.
+     * Verifica que un lote pequeño (insertado uno a uno) y uno grande (reordenado en bloque)
+     * mantengan la propiedad de heap mínimo.
+     */
+    @Test
+    public void testAgregarLote() {
+        VectorHeap<Integer> heap = new VectorHeap<>();
+        List<Integer> grande = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            grande.add((i * 7919) % 1000);
+        }
+        assertEquals(1000, heap.agregarLote(grande), "All elements of the batch should be added.");
+        assertEquals(2, heap.agregarLote(Arrays.asList(-1, 500)), "Small batch should be added.");
+        assertEquals(0, heap.agregarLote(new ArrayList<>()), "Empty batch should add nothing.");
+
+        assertEquals(-1, heap.remove(), "Smallest element should come first.");
+        int anterior = heap.remove();
+        while (!heap.isEmpty()) {
+            int actual = heap.remove();
+            assertTrue(anterior <= actual, "Heap should return elements in order after agregarLote.");
+            anterior = actual;
+        }
+    }
+
+    /**
+     * Prueba el método {@link VectorHeap#atenderLote(int)} con lotes pequeños, grandes y con todo el heap.
+     * Verifica que se devuelvan los menores elementos en orden y que el resto siga siendo un heap válido.
+     */
+    @Test
+    public void testAtenderLote() {
+        for (int k : new int[] {0, 3, 400, 1000, 1500}) {
+            VectorHeap<Integer> heap = new VectorHeap<>();
+            for (int i = 0; i < 1000; i++) {
+                heap.add((i * 7919) % 1000);
+            }
+            List<Integer> atendidos = heap.atenderLote(k);
+            int esperados = Math.min(k, 1000);
+            assertEquals(esperados, atendidos.size(), "Should remove min(k, size) elements.");
+            for (int i = 0; i < esperados; i++) {
+                assertEquals(i, atendidos.get(i), "Batch should contain the smallest elements in order.");
+            }
+            assertEquals(1000 - esperados, heap.size(), "Remaining size should be updated.");
+            for (int i = esperados; i < 1000; i++) {
+                assertEquals(i, heap.remove(), "Remaining elements should still be in heap order.");
+            }
+        }
+        assertThrows(IllegalArgumentException.class, () -> new VectorHeap<Integer>().atenderLote(-1));
+    }
+
+    /**
+     * Prueba el método {@link VectorHeap#getContadores()}.
+     * Verifica que se cuenten las operaciones, las comparaciones y los niveles recorridos.
+     */
+    @Test
+    public void testContadores() {
+        VectorHeap<Integer> heap = new VectorHeap<>();
+        for (int i = 7; i >= 1; i--) {
+            heap.add(i);
+        }
+        heap.peek();
+        heap.remove();
+        ContadoresDeHeap contadores = heap.getContadores();
+
+        assertEquals(7, contadores.getAgregados(), "Should count added elements.");
+        assertEquals(1, contadores.getEliminados(), "Should count removed elements.");
+        assertEquals(1, contadores.getConsultas(), "Should count peeks.");
+        assertEquals(2, contadores.getProfundidadMaxima(), "Descending inserts should climb to the root of a 7-node heap.");
+        assertTrue(contadores.getComparaciones() >= contadores.getNiveles(), "Each level moved needs a comparison.");
+        assertTrue(contadores.getComparacionesPorOperacion() > 0);
+    }
+
+    /**
+     * Prueba que construir el heap de una vez cuente un solo reordenamiento, con la profundidad
+     * del elemento que más bajó, en lugar de uno por cada nodo interno.
+     */
+    @Test
+    public void testContadoresAlHeapificar() {
+        List<Integer> elementos = new ArrayList<>();
+        for (int i = 1000; i >= 1; i--) {
+            elementos.add(i);
+        }
+        VectorHeap<Integer> construido = new VectorHeap<>(elementos);
+        VectorHeap<Integer> agregados = new VectorHeap<>();
+        agregados.addAll(elementos);
+
+        for (VectorHeap<Integer> heap : List.of(construido, agregados)) {
+            ContadoresDeHeap contadores = heap.getContadores();
+            assertEquals(1, contadores.getReordenamientos(), "Heapify should count as a single reordering.");
+            assertTrue(contadores.getProfundidadMaxima() > 0 && contadores.getProfundidadMaxima() <= 9,
+                    "The depth should be that of the deepest sift in a 1000-node heap.");
+            assertTrue(contadores.getComparaciones() >= 500, "Every sift's comparisons should still be counted.");
+            assertEquals(1, heap.peek());
+        }
+    }
+
+    /**
+     * Prueba los métodos {@link VectorHeap#iteradorEnOrden()} y {@link VectorHeap#verPrimeros(int)}.
+     * Verifica que los elementos se recorran en orden sin modificar el heap.
+     */
+    @Test
+    public void testVerPrimerosSinModificar() {
+        VectorHeap<Integer> heap = new VectorHeap<>();
+        for (int i = 0; i < 1000; i++) {
+            heap.add((i * 7919) % 1000);
+        }
+        ArrayList<Integer> antes = heap.obtenerPacientes();
+
+        assertEquals(List.of(0, 1, 2, 3, 4), heap.verPrimeros(5), "Should return the smallest elements in order.");
+        assertEquals(1000, heap.verPrimeros(5000).size(), "Should return every element when k exceeds the size.");
+        Iterator<Integer> enOrden = heap.iteradorEnOrden();
+        for (int i = 0; i < 1000; i++) {
+            assertEquals(i, enOrden.next(), "Iterator should follow priority order.");
+        }
+        assertFalse(enOrden.hasNext());
+        assertEquals(antes, heap.obtenerPacientes(), "Viewing should not touch the heap.");
+
+        Iterator<Integer> interrumpido = heap.iteradorEnOrden();
+        interrumpido.next();
+        heap.add(-1);
+        assertThrows(ConcurrentModificationException.class, interrumpido::next);
+        assertThrows(IllegalArgumentException.class, () -> heap.verPrimeros(-1));
+    }
+}
@@ -0,0 +1,111 @@
+package io;
+
+import model.CodigoDeEmergencia;
+import model.Paciente;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Clase de pruebas unitarias para la clase {@link CargadorDeFichas}.
+ * Verifica que las líneas se interpreten igual que con la lectura línea por línea.
+ */
+public class CargadorDeFichasTest {
+
+    /**
+     * Prueba la carga de líneas válidas con distintas variantes de formato.
+     *
+     * @param carpeta Carpeta temporal para el archivo de prueba.
+     * @throws IOException Si ocurre un error al escribir o leer el archivo.
+     */
+    @Test
+    public void testCargarLineasValidas(@TempDir Path carpeta) throws IOException {
+        Path archivo = carpeta.resolve("pacientes.txt");
+        Files.writeString(archivo,
+                "Juan, Dolor de cabeza ,A,2025-04-10T10:00:00\n"
+                + "María,Fiebre,B,2025-02-29T11:00:00.123456\r\n"
+                + "Ana,Tos,C,2024-02-29T12:30,\n"
+                + "Luis,Fractura,A,2025-04-10T09:00:00.5", StandardCharsets.UTF_8);
+
+        List<Paciente> pacientes = CargadorDeFichas.cargar(archivo);
+
+        assertEquals(3, pacientes.size(), "La línea con fecha inválida debería omitirse.");
+        assertEquals("Juan", pacientes.get(0).getNombreDelPaciente());
+        assertEquals("Dolor de cabeza", pacientes.get(0).getDescripcionDelSintoma());
+        assertEquals(LocalDateTime.of(2025, 4, 10, 10, 0), pacientes.get(0).getCurrentDateTime());
+        assertEquals("Ana", pacientes.get(1).getNombreDelPaciente());
+        assertEquals(LocalDateTime.of(2024, 2, 29, 12, 30), pacientes.get(1).getCurrentDateTime());
+        assertEquals(LocalDateTime.of(2025, 4, 10, 9, 0, 0, 500_000_000), pacientes.get(2).getCurrentDateTime());
+    }
+
+    /**
+     * Prueba que las líneas con una cantidad incorrecta de campos se omitan.
+     *
+     * @param carpeta Carpeta temporal para el archivo de prueba.
+     * @throws IOException Si ocurre un error al escribir o leer el archivo.
+     */
+    @Test
+    public void testOmitirLineasConFormatoIncorrecto(@TempDir Path carpeta) throws IOException {
+        Path archivo = carpeta.resolve("pacientes.txt");
+        Files.writeString(archivo,
+                "\n"
+                + "Juan,Dolor,A\n"
+                + "Juan,Dolor,A,2025-04-10T10:00:00,extra\n"
+                + "Maria,Fiebre,B,2025-04-10T11:00:00\n", StandardCharsets.UTF_8);
+
+        List<Paciente> pacientes = CargadorDeFichas.cargar(archivo);
+
+        assertEquals(1, pacientes.size(), "Solo la última línea es válida.");
+        assertEquals("Maria", pacientes.get(0).getNombreDelPaciente());
+    }
+
+    /**
+     * Prueba la carga de un archivo vacío.
+     *
+     * @param carpeta Carpeta temporal para el archivo de prueba.
+     * @throws IOException Si ocurre un error al escribir o leer el archivo.
+     */
+    @Test
+    public void testCargarArchivoVacio(@TempDir Path carpeta) throws IOException {
+        Path archivo = Files.createFile(carpeta.resolve("pacientes.txt"));
+        assertTrue(CargadorDeFichas.cargar(archivo).isEmpty(), "Un archivo vacío no tiene pacientes.");
+    }
+
+    /**
+     * Prueba un archivo de varios bloques para verificar que los límites entre bloques
+     * no pierdan ni dupliquen líneas y que se conserve el orden del archivo.
+     *
+     * @param carpeta Carpeta temporal para el archivo de prueba.
+     * @throws IOException Si ocurre un error al escribir o leer el archivo.
+     */
+    @Test
+    public void testCargarArchivoDeVariosBloques(@TempDir Path carpeta) throws IOException {
+        Path archivo = carpeta.resolve("pacientes.txt");
+        StringBuilder contenido = new StringBuilder();
+        int lineas = 80_000;
+        for (int i = 0; i < lineas; i++) {
+            contenido.append("Paciente").append(i).append(",Sintoma de prueba,")
+                     .append((char) ('A' + i % 5)).append(",2025-04-10T10:00:00\n");
+        }
+        Files.writeString(archivo, contenido.toString(), StandardCharsets.UTF_8);
+
+        List<Paciente> pacientes = CargadorDeFichas.cargar(archivo);
+
+        assertEquals(lineas, pacientes.size(), "Deberían leerse todas las líneas.");
+        for (int i = 0; i < lineas; i++) {
+            assertEquals("Paciente" + i, pacientes.get(i).getNombreDelPaciente(), "Debería conservarse el orden del archivo.");
+        }
+        assertSame(pacientes.get(0).getDescripcionDelSintoma(), pacientes.get(lineas - 1).getDescripcionDelSintoma(),
+                "Las descripciones repetidas deberían compartir una sola instancia, aun entre bloques.");
+        assertEquals(CodigoDeEmergencia.E, pacientes.get(4).getCodigo());
+    }
+}
\ No newline at end of file
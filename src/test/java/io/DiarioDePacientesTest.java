@@ -0,0 +1,181 @@
+package io;
+
+import heap.AgingQueue;
+import heap.VectorHeap;
+import model.Paciente;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Clase de pruebas unitarias para la clase {@link DiarioDePacientes}.
+ * Verifica que la cola se reconstruya a partir del diario.
+ */
+public class DiarioDePacientesTest {
+    private final LocalDateTime base = LocalDateTime.of(2025, 4, 10, 10, 0, 0, 123_456_789);
+
+    /**
+     * Prueba que las altas y atenciones registradas se reproduzcan sobre una cola nueva.
+     *
+     * @param carpeta Carpeta temporal para el diario.
+     * @throws IOException Si ocurre un error con el archivo del diario.
+     */
+    @Test
+    public void testReproducirOperaciones(@TempDir Path carpeta) throws IOException {
+        Path archivo = carpeta.resolve("pacientes.log");
+        try (DiarioDePacientes diario = new DiarioDePacientes(archivo, 10)) {
+            diario.registrarAlta(new Paciente("Juan", "Dolor de cabeza", "B", base));
+            diario.registrarAlta(new Paciente("Maria", "Fiebre", "A", base.plusMinutes(1)));
+            diario.registrarAtencion(new Paciente("Maria", "Fiebre", "A", base.plusMinutes(1)));
+            diario.registrarAlta(new Paciente("Ana", "Tos", "C", base.plusMinutes(2)));
+        }
+
+        VectorHeap<Paciente> cola = new VectorHeap<>();
+        try (DiarioDePacientes diario = new DiarioDePacientes(archivo, 10)) {
+            assertFalse(diario.esAutocontenido(), "Un diario sin compactar no es autocontenido.");
+            assertEquals(4, diario.reproducir(cola), "Deberían aplicarse las 4 operaciones.");
+        }
+
+        assertEquals(2, cola.size(), "Deberían quedar 2 pacientes.");
+        Paciente juan = cola.remove();
+        assertEquals("Juan", juan.getNombreDelPaciente());
+        assertEquals(base, juan.getCurrentDateTime(), "La fecha/hora debería conservarse exactamente.");
+        assertEquals("Ana", cola.remove().getNombreDelPaciente());
+    }
+
+    /**
+     * Prueba que un registro incompleto al final del diario se descarte y se recorte.
+     *
+     * @param carpeta Carpeta temporal para el diario.
+     * @throws IOException Si ocurre un error con el archivo del diario.
+     */
+    @Test
+    public void testDescartarRegistroIncompleto(@TempDir Path carpeta) throws IOException {
+        Path archivo = carpeta.resolve("pacientes.log");
+        try (DiarioDePacientes diario = new DiarioDePacientes(archivo, 10)) {
+            diario.registrarAlta(new Paciente("Juan", "Dolor de cabeza", "B", base));
+        }
+        long tamanoValido = Files.size(archivo);
+        Files.write(archivo, new byte[] {0, 0, 0, 40, 1, 2}, StandardOpenOption.APPEND);
+
+        VectorHeap<Paciente> cola = new VectorHeap<>();
+        try (DiarioDePacientes diario = new DiarioDePacientes(archivo, 10)) {
+            assertEquals(1, diario.reproducir(cola), "Solo el registro completo debería aplicarse.");
+            diario.registrarAlta(new Paciente("Maria", "Fiebre", "A", base));
+        }
+        assertTrue(Files.size(archivo) > tamanoValido, "El nuevo registro debería escribirse tras el último válido.");
+
+        VectorHeap<Paciente> reconstruida = new VectorHeap<>();
+        try (DiarioDePacientes diario = new DiarioDePacientes(archivo, 10)) {
+            assertEquals(2, diario.reproducir(reconstruida), "Ambos registros deberían aplicarse.");
+        }
+    }
+
+    /**
+     * Prueba que la compactación produzca un diario autocontenido con los pacientes en cola.
+     *
+     * @param carpeta Carpeta temporal para el diario.
+     * @throws IOException Si ocurre un error con el archivo del diario.
+     */
+    @Test
+    public void testCompactar(@TempDir Path carpeta) throws IOException {
+        Path archivo = carpeta.resolve("pacientes.log");
+        List<Paciente> enCola = List.of(
+                new Paciente("Juan", "Dolor de cabeza", "B", base),
+                new Paciente("Ana", "Tos", "C", base));
+        try (DiarioDePacientes diario = new DiarioDePacientes(archivo, 10)) {
+            for (int i = 0; i < 100; i++) {
+                diario.registrarAlta(new Paciente("P" + i, "Sintoma", "E", base));
+            }
+            diario.compactar(enCola);
+            diario.registrarAtencion(enCola.get(0));
+        }
+
+        VectorHeap<Paciente> cola = new VectorHeap<>();
+        try (DiarioDePacientes diario = new DiarioDePacientes(archivo, 10)) {
+            assertTrue(diario.esAutocontenido(), "Un diario compactado debería ser autocontenido.");
+            diario.reproducir(cola);
+        }
+        assertEquals(1, cola.size(), "Debería quedar solo Ana.");
+        assertEquals("Ana", cola.peek().getNombreDelPaciente());
+    }
+
+    /**
+     * Prueba que una atención elimine exactamente el paciente registrado aunque empate con otro
+     * o no sea el primero de una cola que envejece con el reloj.
+     *
+     * @param carpeta Carpeta temporal para el diario.
+     * @throws IOException Si ocurre un error con el archivo del diario.
+     */
+    @Test
+    public void testReproducirAtencionDelPacienteRegistrado(@TempDir Path carpeta) throws IOException {
+        Path archivo = carpeta.resolve("pacientes.log");
+        try (DiarioDePacientes diario = new DiarioDePacientes(archivo, 10)) {
+            diario.registrarAlta(new Paciente("Juan", "Dolor", "B", base));
+            diario.registrarAlta(new Paciente("Maria", "Fiebre", "B", base));
+            diario.registrarAlta(new Paciente("Ana", "Tos", "E", base.minusHours(3)));
+            diario.registrarAlta(new Paciente("Luis", "Fractura", "A", base));
+            diario.registrarAtencion(new Paciente("Maria", "Fiebre", "B", base));
+            diario.registrarAtencion(new Paciente("Ana", "Tos", "E", base.minusHours(3)));
+        }
+
+        VectorHeap<Paciente> cola = new VectorHeap<>();
+        AgingQueue envejecimiento = new AgingQueue(Duration.ofHours(1),
+                Clock.fixed(base.toInstant(ZoneOffset.UTC), ZoneOffset.UTC));
+        try (DiarioDePacientes diario = new DiarioDePacientes(archivo, 10)) {
+            diario.reproducir(cola);
+            diario.reproducir(envejecimiento);
+        }
+        for (Queue<Paciente> reproducida : List.<Queue<Paciente>>of(cola, envejecimiento)) {
+            assertEquals(2, reproducida.size());
+            List<String> nombres = new ArrayList<>();
+            for (Paciente paciente : reproducida) {
+                nombres.add(paciente.getNombreDelPaciente());
+            }
+            nombres.sort(null);
+            assertEquals(List.of("Juan", "Luis"), nombres, "Deberían eliminarse Maria y Ana, no quien esté primero.");
+        }
+    }
+
+    /**
+     * Prueba que reproducir atenciones en una {@link AgingQueue} no registre esperas: las atenciones
+     * ya ocurrieron y medirlas con el reloj actual daría esperas falsas.
+     *
+     * @param carpeta Carpeta temporal para el diario.
+     * @throws IOException Si ocurre un error con el archivo del diario.
+     */
+    @Test
+    public void testReproducirSinRegistrarEsperas(@TempDir Path carpeta) throws IOException {
+        Path archivo = carpeta.resolve("pacientes.log");
+        try (DiarioDePacientes diario = new DiarioDePacientes(archivo, 10)) {
+            diario.registrarAlta(new Paciente("Juan", "Dolor", "A", base.minusDays(2)));
+            diario.registrarAlta(new Paciente("Maria", "Fiebre", "B", base.minusDays(2)));
+            diario.registrarAtencion(new Paciente("Juan", "Dolor", "A", base.minusDays(2)));
+            diario.registrarAtencion(new Paciente("Maria", "Fiebre", "B", base.minusDays(2)));
+        }
+
+        AgingQueue cola = new AgingQueue(Duration.ofHours(1), Clock.fixed(base.toInstant(ZoneOffset.UTC), ZoneOffset.UTC));
+        try (DiarioDePacientes diario = new DiarioDePacientes(archivo, 10)) {
+            diario.reproducir(cola);
+        }
+        assertTrue(cola.isEmpty());
+        for (String codigo : new String[]{"A", "B", "C", "D", "E"}) {
+            assertEquals(0, cola.getEsperas().getEsperas(codigo).getCantidad(), "No debería registrarse la espera de " + codigo);
+            assertEquals(0, cola.getEsperas().getIncumplimientos(codigo));
+        }
+    }
+}
@@ -0,0 +1,73 @@
+package io;
+
+import model.Paciente;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Clase de pruebas unitarias para la clase {@link EscritorDeFichas}.
+ * Verifica el formato del archivo, la codificación y el reemplazo del archivo anterior.
+ */
+public class EscritorDeFichasTest {
+    private final LocalDateTime base = LocalDateTime.of(2025, 4, 10, 10, 0, 0, 123_000_000);
+
+    /**
+     * Prueba que el archivo tenga una línea por paciente en el formato de siempre, con los textos
+     * no ASCII codificados igual que {@code String.getBytes}.
+     *
+     * @param carpeta Carpeta temporal para el archivo.
+     * @throws IOException Si ocurre un error al escribir o leer el archivo.
+     */
+    @Test
+    public void testFormatoYCodificacion(@TempDir Path carpeta) throws IOException {
+        Path archivo = carpeta.resolve("pacientes.txt");
+        List<Paciente> pacientes = List.of(
+                new Paciente("María Núñez", "Dolor de cabeza", "A", base),
+                new Paciente("Zoë 🚑", "Fiebre", "B", base.plusSeconds(90)));
+
+        long escritos = new EscritorDeFichas().guardar(archivo, pacientes);
+
+        String esperado = "María Núñez,Dolor de cabeza,A,2025-04-10T10:00:00.123\n"
+                + "Zoë 🚑,Fiebre,B,2025-04-10T10:01:30.123\n";
+        assertArrayEquals(esperado.getBytes(StandardCharsets.UTF_8), Files.readAllBytes(archivo));
+        assertEquals(Files.size(archivo), escritos);
+        assertFalse(Files.exists(carpeta.resolve("pacientes.txt.tmp")), "El temporal debería reemplazar al archivo.");
+        assertEquals(2, CargadorDeFichas.cargar(archivo).size(), "El archivo debería poder cargarse de nuevo.");
+    }
+
+    /**
+     * Prueba un guardado más grande que el búfer, reutilizando el escritor, y que cada guardado
+     * reemplace por completo al anterior.
+     *
+     * @param carpeta Carpeta temporal para el archivo.
+     * @throws IOException Si ocurre un error al escribir o leer el archivo.
+     */
+    @Test
+    public void testVariosBuferesYReemplazo(@TempDir Path carpeta) throws IOException {
+        Path archivo = carpeta.resolve("pacientes.txt");
+        EscritorDeFichas escritor = new EscritorDeFichas();
+        List<Paciente> pacientes = new ArrayList<>();
+        for (int i = 0; i < 20_000; i++) {
+            pacientes.add(new Paciente("Paciente" + i, "Síntoma", String.valueOf((char) ('A' + i % 5)), base.plusSeconds(i)));
+        }
+
+        escritor.guardar(archivo, pacientes);
+        List<Paciente> cargados = CargadorDeFichas.cargar(archivo);
+        assertEquals(20_000, cargados.size());
+        assertEquals("Paciente19999", cargados.get(19_999).getNombreDelPaciente());
+
+        escritor.guardar(archivo, pacientes.subList(0, 1));
+        assertEquals(1, Files.readAllLines(archivo).size(), "El archivo anterior debería reemplazarse por completo.");
+    }
+}
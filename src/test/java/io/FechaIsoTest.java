@@ -0,0 +1,93 @@
+package io;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.DateTimeException;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Clase de pruebas unitarias para la clase {@link FechaIso}.
+ * Verifica que la lectura y la escritura coincidan con {@code ISO_LOCAL_DATE_TIME}.
+ */
+public class FechaIsoTest {
+    private static final DateTimeFormatter FORMATO = DateTimeFormatter.ISO_LOCAL_DATE_TIME;
+
+    /**
+     * Prueba con fechas al azar que escribir y leer den lo mismo que el formateador de la JDK,
+     * incluidas fracciones con ceros finales.
+     */
+    @Test
+    public void testIgualQueLaJdk() {
+        Random random = new Random(17);
+        ByteBuffer bufer = ByteBuffer.allocate(FechaIso.LONGITUD_MAXIMA);
+        for (int i = 0; i < 10_000; i++) {
+            int[] fracciones = {0, 500_000_000, 123_000_000, 123_456_000, 123_456_789, 1};
+            LocalDateTime fecha = LocalDateTime.of(random.nextInt(10_000), 1 + random.nextInt(12), 1 + random.nextInt(28),
+                    random.nextInt(24), random.nextInt(60), random.nextInt(60), fracciones[random.nextInt(fracciones.length)]);
+            String esperado = fecha.format(FORMATO);
+
+            bufer.clear();
+            FechaIso.escribir(fecha, bufer);
+            assertEquals(esperado, new String(bufer.array(), 0, bufer.position(), StandardCharsets.US_ASCII));
+            assertEquals(esperado, FechaIso.escribir(fecha, new StringBuilder()).toString());
+            assertEquals(fecha, FechaIso.leer(esperado));
+            byte[] bytes = (" " + esperado + " ").getBytes(StandardCharsets.US_ASCII);
+            assertEquals(fecha, FechaIso.leer(bytes, 0, bytes.length));
+        }
+    }
+
+    /**
+     * Prueba que las formas poco habituales se deleguen al formateador de la JDK.
+     */
+    @Test
+    public void testFormasPocoHabituales() {
+        assertEquals(LocalDateTime.of(2024, 2, 29, 12, 30), FechaIso.leer("2024-02-29T12:30"), "Sin segundos.");
+        assertEquals(LocalDateTime.parse("2025-04-10T10:00:00.", FORMATO), FechaIso.leer("2025-04-10T10:00:00."),
+                "Un punto sin fracción debería leerse igual que con la JDK.");
+        LocalDateTime lejana = LocalDateTime.of(12_345, 1, 2, 3, 4, 5);
+        String texto = FechaIso.escribir(lejana, new StringBuilder()).toString();
+        assertEquals(lejana.format(FORMATO), texto, "Un año de cinco cifras debería escribirse con signo.");
+        assertEquals(lejana, FechaIso.leer(texto));
+    }
+
+    /**
+     * Prueba que las fechas inválidas fallen igual que con el formateador de la JDK.
+     */
+    @Test
+    public void testFechasInvalidas() {
+        assertThrows(DateTimeException.class, () -> FechaIso.leer("2025-02-29T11:00:00"), "2025 no es bisiesto.");
+        assertThrows(DateTimeException.class, () -> FechaIso.leer("2025-04-10T24:00:00"));
+        assertThrows(DateTimeException.class, () -> FechaIso.leer("hoy"));
+        byte[] bytes = "2025-4-10T10:00:00".getBytes(StandardCharsets.US_ASCII);
+        assertThrows(DateTimeException.class, () -> FechaIso.leer(bytes, 0, bytes.length));
+    }
+
+    /**
+     * Prueba que {@code intentarLeer} devuelva lo mismo que el formateador de la JDK, o {@code null}
+     * donde la JDK lanza una excepción.
+     */
+    @Test
+    public void testIntentarLeerIgualQueLaJdk() {
+        String[] textos = {"2025-04-10T10:00:00", "2025-04-10t10:00:00.25", "2024-02-29T12:30", "2025-04-10T10:00:00.",
+                "2025-02-29T11:00:00", "2025-04-10T24:00:00", "2025-04-10T10:00:6", "2025-04-10T10:00:00.1234567890",
+                "2025-4-10T10:00:00", "2025-04-10 10:00:00", "20a5-04-10T10:00:00", "+12345-01-02T03:04:05",
+                "-0001-01-01T00:00", "+2025-04-10T10:00", "hoy", "", " "};
+        for (String texto : textos) {
+            LocalDateTime esperado;
+            try {
+                esperado = LocalDateTime.parse(texto.trim(), FORMATO);
+            } catch (DateTimeException e) {
+                esperado = null;
+            }
+            assertEquals(esperado, FechaIso.intentarLeer(texto), texto);
+            byte[] bytes = (" " + texto + "\t").getBytes(StandardCharsets.US_ASCII);
+            assertEquals(esperado, FechaIso.intentarLeer(ByteBuffer.wrap(bytes), 0, bytes.length), texto);
+        }
+    }
+}
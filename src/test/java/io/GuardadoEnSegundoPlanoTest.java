@@ -0,0 +1,113 @@
+package io;
+
+import model.Paciente;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Clase de pruebas unitarias para la clase {@link GuardadoEnSegundoPlano}.
+ * Verifica que los cambios se agrupen, se escriban fuera del hilo que los anota y se vacíen al cerrar.
+ */
+public class GuardadoEnSegundoPlanoTest {
+    private final LocalDateTime base = LocalDateTime.of(2025, 4, 10, 10, 0);
+
+    /**
+     * Prueba que muchos cambios anotados seguidos se escriban en una sola escritura al cerrar,
+     * con la copia igual al estado final de la cola.
+     *
+     * @throws IOException Si ocurre un error al escribir.
+     */
+    @Test
+    public void testAgruparCambios() throws IOException {
+        List<List<String>> escrituras = new CopyOnWriteArrayList<>();
+        Paciente inicial = new Paciente("Inicial", "Tos", "C", base);
+        GuardadoEnSegundoPlano guardado = new GuardadoEnSegundoPlano(List.of(inicial),
+                pacientes -> escrituras.add(nombres(pacientes)), 60_000);
+
+        List<Paciente> agregados = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            Paciente paciente = new Paciente("Paciente" + i, "Fiebre", "B", base.plusSeconds(i));
+            agregados.add(paciente);
+            guardado.registrarAlta(paciente);
+        }
+        for (int i = 0; i < 999; i++) {
+            guardado.registrarAtencion(agregados.get(i));
+        }
+        guardado.registrarAtencion(inicial);
+        assertTrue(escrituras.isEmpty(), "Anotar un cambio no debería escribir.");
+
+        guardado.close();
+
+        assertEquals(1, escrituras.size(), "Todos los cambios deberían agruparse en una escritura.");
+        assertEquals(List.of("Paciente999"), escrituras.get(0));
+        assertEquals(2000, guardado.getCambiosEscritos());
+    }
+
+    /**
+     * Prueba que los cambios se escriban en el hilo de guardado dentro del intervalo, sin llamar a vaciar.
+     *
+     * @throws Exception Si la escritura no ocurre a tiempo o falla.
+     */
+    @Test
+    public void testEscribirDentroDelIntervalo() throws Exception {
+        CountDownLatch escrito = new CountDownLatch(1);
+        List<String> hilos = new CopyOnWriteArrayList<>();
+        try (GuardadoEnSegundoPlano guardado = new GuardadoEnSegundoPlano(List.of(), pacientes -> {
+            hilos.add(Thread.currentThread().getName());
+            escrito.countDown();
+        }, 20)) {
+            guardado.registrarAlta(new Paciente("Juan", "Dolor de cabeza", "A", base));
+            assertTrue(escrito.await(5, TimeUnit.SECONDS), "El cambio debería escribirse en segundo plano.");
+        }
+        assertNotEquals(Thread.currentThread().getName(), hilos.get(0));
+    }
+
+    /**
+     * Prueba que, si una escritura falla, los cambios se vuelvan a escribir en la siguiente.
+     *
+     * @throws IOException Si falla la segunda escritura.
+     */
+    @Test
+    public void testReintentarTrasUnError() throws IOException {
+        List<List<String>> escrituras = new ArrayList<>();
+        boolean[] fallar = {true};
+        GuardadoEnSegundoPlano guardado = new GuardadoEnSegundoPlano(List.of(), pacientes -> {
+            if (fallar[0]) {
+                throw new IOException("Disco lleno");
+            }
+            escrituras.add(nombres(pacientes));
+        }, 60_000);
+        guardado.registrarAlta(new Paciente("Juan", "Dolor de cabeza", "A", base));
+
+        assertThrows(IOException.class, guardado::vaciar);
+        fallar[0] = false;
+        guardado.close();
+
+        assertEquals(List.of(List.of("Juan")), escrituras);
+        assertEquals(1, guardado.getEscrituras());
+    }
+
+    /**
+     * Obtiene los nombres de los pacientes, en el orden de la colección.
+     *
+     * @param pacientes Los pacientes.
+     * @return Los nombres.
+     */
+    private static List<String> nombres(Iterable<Paciente> pacientes) {
+        List<String> nombres = new ArrayList<>();
+        for (Paciente paciente : pacientes) {
+            nombres.add(paciente.getNombreDelPaciente());
+        }
+        return nombres;
+    }
+}
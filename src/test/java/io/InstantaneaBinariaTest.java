@@ -0,0 +1,115 @@
+package io;
+
+import heap.VectorHeap;
+import model.Paciente;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Clase de pruebas unitarias para la clase {@link InstantaneaBinaria}.
+ * Verifica que los pacientes se guarden y carguen sin perder información.
+ */
+public class InstantaneaBinariaTest {
+
+    /**
+     * Prueba que guardar y cargar devuelva los mismos pacientes en el mismo orden.
+     *
+     * @param carpeta Carpeta temporal para la instantánea.
+     * @throws IOException Si ocurre un error con el archivo.
+     */
+    @Test
+    public void testGuardarYCargar(@TempDir Path carpeta) throws IOException {
+        Path archivo = carpeta.resolve("pacientes.bin");
+        LocalDateTime base = LocalDateTime.of(2025, 4, 10, 10, 0, 0, 123_456_789);
+        List<Paciente> pacientes = new ArrayList<>();
+        for (int i = 0; i < 20_000; i++) {
+            pacientes.add(new Paciente("Paciente " + (i % 500), i % 2 == 0 ? "Fractura de pierna" : "Fiebre ñ",
+                    String.valueOf((char) ('A' + i % 5)), base.plusSeconds(i)));
+        }
+
+        long escritos = InstantaneaBinaria.guardar(archivo, pacientes);
+        assertEquals(Files.size(archivo), escritos, "Debería informar los bytes escritos.");
+
+        List<Paciente> cargados = InstantaneaBinaria.cargar(archivo);
+        assertEquals(pacientes.size(), cargados.size(), "Deberían cargarse todos los pacientes.");
+        for (int i = 0; i < pacientes.size(); i++) {
+            Paciente esperado = pacientes.get(i);
+            Paciente cargado = cargados.get(i);
+            assertEquals(esperado.getNombreDelPaciente(), cargado.getNombreDelPaciente());
+            assertEquals(esperado.getDescripcionDelSintoma(), cargado.getDescripcionDelSintoma());
+            assertEquals(esperado.getCodigoDeEmergencia(), cargado.getCodigoDeEmergencia());
+            assertEquals(esperado.getCurrentDateTime(), cargado.getCurrentDateTime());
+        }
+    }
+
+    /**
+     * Prueba que un archivo dañado sea rechazado por el CRC.
+     *
+     * @param carpeta Carpeta temporal para la instantánea.
+     * @throws IOException Si ocurre un error con el archivo.
+     */
+    @Test
+    public void testDetectarArchivoDanado(@TempDir Path carpeta) throws IOException {
+        Path archivo = carpeta.resolve("pacientes.bin");
+        InstantaneaBinaria.guardar(archivo, List.of(new Paciente("Juan", "Dolor", "A", LocalDateTime.now())));
+        byte[] bytes = Files.readAllBytes(archivo);
+        bytes[bytes.length - 1] ^= 0x01;
+        Files.write(archivo, bytes);
+
+        assertThrows(IOException.class, () -> InstantaneaBinaria.cargar(archivo));
+    }
+
+    /**
+     * Prueba guardar y cargar una cola vacía.
+     *
+     * @param carpeta Carpeta temporal para la instantánea.
+     * @throws IOException Si ocurre un error con el archivo.
+     */
+    @Test
+    public void testColaVacia(@TempDir Path carpeta) throws IOException {
+        Path archivo = carpeta.resolve("pacientes.bin");
+        InstantaneaBinaria.guardar(archivo, new VectorHeap<>());
+        assertTrue(InstantaneaBinaria.cargar(archivo).isEmpty(), "Una instantánea vacía no tiene pacientes.");
+    }
+
+    /**
+     * Prueba que los pacientes con un código que no es un solo carácter ASCII o con una fecha/hora
+     * fuera del rango de los nanosegundos se guarden en registros amplios en lugar de impedir el guardado.
+     *
+     * @param carpeta Carpeta temporal para la instantánea.
+     * @throws IOException Si ocurre un error con el archivo.
+     */
+    @Test
+    public void testRegistrosAmplios(@TempDir Path carpeta) throws IOException {
+        Path archivo = carpeta.resolve("pacientes.bin");
+        LocalDateTime base = LocalDateTime.of(2025, 4, 10, 10, 0, 0, 5);
+        List<Paciente> pacientes = List.of(
+                new Paciente("Juan", "Dolor", "A", base),
+                new Paciente("Maria", "Fiebre", "", base),
+                new Paciente("Ana", "Tos", "AB", base),
+                new Paciente("Luis", "Fractura", "Ñ", base),
+                new Paciente("Rosa", "Mareo", "C", LocalDateTime.of(1500, 1, 1, 0, 0)),
+                new Paciente("Pedro", "Golpe", "D", LocalDateTime.of(9999, 12, 31, 23, 59, 59, 999_999_999)),
+                new Paciente("Eva", "Tos", "Z", base));
+
+        InstantaneaBinaria.guardar(archivo, pacientes);
+        List<Paciente> cargados = InstantaneaBinaria.cargar(archivo);
+
+        assertEquals(pacientes.size(), cargados.size());
+        for (int i = 0; i < pacientes.size(); i++) {
+            assertEquals(pacientes.get(i).getNombreDelPaciente(), cargados.get(i).getNombreDelPaciente());
+            assertEquals(pacientes.get(i).getCodigoDeEmergencia(), cargados.get(i).getCodigoDeEmergencia());
+            assertEquals(pacientes.get(i).getCurrentDateTime(), cargados.get(i).getCurrentDateTime());
+        }
+    }
+}
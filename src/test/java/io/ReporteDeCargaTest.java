@@ -0,0 +1,119 @@
+package io;
+
+import model.Paciente;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Clase de pruebas unitarias para la clase {@link ReporteDeCarga}.
+ * Verifica los contadores, las muestras de errores y la cuarentena de las líneas rechazadas.
+ */
+public class ReporteDeCargaTest {
+
+    /**
+     * Prueba que las líneas rechazadas se cuenten por motivo y se copien a la cuarentena en orden.
+     *
+     * @param carpeta Carpeta temporal para los archivos de prueba.
+     * @throws IOException Si ocurre un error al escribir o leer los archivos.
+     */
+    @Test
+    public void testContadoresYCuarentena(@TempDir Path carpeta) throws IOException {
+        Path archivo = carpeta.resolve("pacientes.txt");
+        Files.writeString(archivo,
+                "Juan,Dolor,A,2025-04-10T10:00:00\n"
+                + "Juan,Dolor,A\n"
+                + "María,Fiebre,B,2025-02-29T11:00:00\r\n"
+                + "Ana,Tos,C,2024-02-29T12:30\n"
+                + "Luis,Fractura,A,ayer", StandardCharsets.UTF_8);
+        Path cuarentena = carpeta.resolve("pacientes.rechazadas");
+        ReporteDeCarga reporte = new ReporteDeCarga(cuarentena, ReporteDeCarga.MUESTRAS_POR_DEFECTO);
+
+        List<Paciente> pacientes = CargadorDeFichas.cargar(archivo, reporte);
+
+        assertEquals(2, pacientes.size());
+        assertEquals(2, reporte.getAceptadas());
+        assertEquals(1, reporte.getRechazadasPorFormato());
+        assertEquals(2, reporte.getRechazadasPorFecha());
+        assertEquals(3, reporte.getRechazadas());
+        assertEquals(List.of("Línea con formato incorrecto: Juan,Dolor,A",
+                "Fecha/hora no válida en la línea: María,Fiebre,B,2025-02-29T11:00:00",
+                "Fecha/hora no válida en la línea: Luis,Fractura,A,ayer"), reporte.getMuestras());
+        assertEquals("Juan,Dolor,A\nMaría,Fiebre,B,2025-02-29T11:00:00\nLuis,Fractura,A,ayer\n",
+                Files.readString(cuarentena, StandardCharsets.UTF_8));
+
+        CargadorDeFichas.cargar(archivo, reporte);
+        assertEquals(6, reporte.getRechazadas(), "Los contadores deberían acumularse entre cargas.");
+        assertEquals(6, Files.readAllLines(cuarentena, StandardCharsets.UTF_8).size(),
+                "La cuarentena debería agregarse al final del archivo.");
+    }
+
+    /**
+     * Prueba que con muchas líneas dañadas se guarden solo las primeras muestras, se cuenten todas
+     * y la cuarentena las reciba completas aunque ocupen varios búferes y varios bloques.
+     *
+     * @param carpeta Carpeta temporal para los archivos de prueba.
+     * @throws IOException Si ocurre un error al escribir o leer los archivos.
+     */
+    @Test
+    public void testMuestrasAcotadas(@TempDir Path carpeta) throws IOException {
+        Path archivo = carpeta.resolve("pacientes.txt");
+        StringBuilder contenido = new StringBuilder();
+        StringBuilder rechazadas = new StringBuilder();
+        int lineas = 60_000;
+        for (int i = 0; i < lineas; i++) {
+            if (i % 3 == 0) {
+                String linea = "Paciente" + i + ",Sintoma,A,2025-13-01T10:00:00";
+                contenido.append(linea).append('\n');
+                rechazadas.append(linea).append('\n');
+            } else {
+                contenido.append("Paciente").append(i).append(",Sintoma,B,2025-04-10T10:00:00\n");
+            }
+        }
+        String larga = "x".repeat(100_000);
+        contenido.append(larga).append('\n');
+        rechazadas.append(larga).append('\n');
+        Files.writeString(archivo, contenido.toString(), StandardCharsets.UTF_8);
+
+        Path cuarentena = carpeta.resolve("pacientes.rechazadas");
+        ReporteDeCarga reporte = new ReporteDeCarga(cuarentena, 3);
+        List<Paciente> pacientes = CargadorDeFichas.cargar(archivo, reporte);
+
+        assertEquals(lineas - lineas / 3, pacientes.size());
+        assertEquals(lineas / 3, reporte.getRechazadasPorFecha());
+        assertEquals(1, reporte.getRechazadasPorFormato());
+        assertEquals(3, reporte.getMuestras().size(), "Solo deberían guardarse las primeras muestras.");
+        assertTrue(reporte.getMuestras().get(0).endsWith("Paciente0,Sintoma,A,2025-13-01T10:00:00"));
+        assertEquals(rechazadas.toString(), Files.readString(cuarentena, StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Prueba que sin rechazos no se cree el archivo de cuarentena y que sin cuarentena igual se cuenten.
+     *
+     * @param carpeta Carpeta temporal para los archivos de prueba.
+     * @throws IOException Si ocurre un error al escribir o leer los archivos.
+     */
+    @Test
+    public void testSinCuarentena(@TempDir Path carpeta) throws IOException {
+        Path archivo = carpeta.resolve("pacientes.txt");
+        Files.writeString(archivo, "Juan,Dolor,A,2025-04-10T10:00:00\n", StandardCharsets.UTF_8);
+        Path cuarentena = carpeta.resolve("pacientes.rechazadas");
+        CargadorDeFichas.cargar(archivo, new ReporteDeCarga(cuarentena, 1));
+        assertFalse(Files.exists(cuarentena), "Sin rechazos no debería crearse la cuarentena.");
+
+        Files.writeString(archivo, "a\nb\nc\n", StandardCharsets.UTF_8);
+        ReporteDeCarga reporte = new ReporteDeCarga(null, 0);
+        assertTrue(CargadorDeFichas.cargar(archivo, reporte).isEmpty());
+        assertEquals(3, reporte.getRechazadasPorFormato());
+        assertTrue(reporte.getMuestras().isEmpty());
+        assertThrows(IllegalArgumentException.class, () -> new ReporteDeCarga(null, -1));
+    }
+}
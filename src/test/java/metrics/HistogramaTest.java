@@ -0,0 +1,50 @@
+package metrics;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Clase de pruebas unitarias para la clase {@link Histograma}.
+ * Verifica las cubetas logarítmicas y el cálculo de percentiles.
+ */
+public class HistogramaTest {
+
+    /**
+     * Prueba que cada valor caiga en una cubeta cuyo límite superior no lo supere en más de 12,5 %.
+     */
+    @Test
+    public void testCubetas() {
+        long[] valores = {0, 1, 7, 8, 15, 16, 17, 1000, 123_456_789, Long.MAX_VALUE};
+        for (long valor : valores) {
+            int indice = Histograma.indice(valor);
+            long limite = Histograma.limiteSuperior(indice);
+            assertTrue(limite >= valor, "El límite superior debería contener el valor " + valor);
+            assertTrue(limite - valor <= valor / 8, "El error relativo debería ser a lo sumo 12,5 % para " + valor);
+            if (indice > 0) {
+                assertTrue(Histograma.limiteSuperior(indice - 1) < valor, "La cubeta anterior no debería contener " + valor);
+            }
+        }
+    }
+
+    /**
+     * Prueba la cantidad, la media, el máximo y los percentiles.
+     */
+    @Test
+    public void testPercentiles() {
+        Histograma histograma = new Histograma();
+        assertEquals(0, histograma.percentil(99), "Un histograma vacío debería devolver 0.");
+        for (int i = 1; i <= 1000; i++) {
+            histograma.registrar(i);
+        }
+        assertEquals(1000, histograma.getCantidad());
+        assertEquals(500.5, histograma.getMedia(), 1e-9);
+        assertEquals(1000, histograma.getMaximo());
+        long p50 = histograma.percentil(50);
+        assertTrue(p50 >= 500 && p50 <= 500 * 9 / 8, "El percentil 50 debería estar cerca de 500: " + p50);
+        long p99 = histograma.percentil(99);
+        assertTrue(p99 >= 990 && p99 <= 1000, "El percentil 99 debería estar cerca de 990: " + p99);
+        assertEquals(1000, histograma.percentil(100), "El percentil 100 debería ser el máximo.");
+        assertThrows(IllegalArgumentException.class, () -> histograma.percentil(101));
+    }
+}
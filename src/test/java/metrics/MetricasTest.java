@@ -0,0 +1,53 @@
+package metrics;
+
+import org.junit.jupiter.api.Test;
+
+import java.lang.management.ManagementFactory;
+import java.util.concurrent.atomic.AtomicLong;
+import javax.management.ObjectName;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Clase de pruebas unitarias para la clase {@link Metricas}.
+ * Verifica el registro de métricas, el volcado de texto y la publicación por JMX.
+ */
+public class MetricasTest {
+
+    /**
+     * Prueba que los contadores, medidores e histogramas aparezcan en el volcado.
+     */
+    @Test
+    public void testVolcar() {
+        Metricas metricas = new Metricas();
+        metricas.contador("prueba.contador").add(3);
+        assertSame(metricas.contador("prueba.contador"), metricas.contador("prueba.contador"),
+                "El mismo nombre debería devolver el mismo contador.");
+        AtomicLong valor = new AtomicLong(7);
+        metricas.medidor("prueba.medidor", valor::get);
+        metricas.histograma("prueba.latencia").registrar(42);
+        valor.set(9);
+
+        String texto = metricas.volcar();
+        assertTrue(texto.contains("prueba.contador 3\n"), texto);
+        assertTrue(texto.contains("prueba.medidor 9\n"), "El medidor debería leerse al volcar: " + texto);
+        assertTrue(texto.contains("prueba.latencia cantidad=1"), texto);
+        assertEquals(3L, metricas.getContadores().get("prueba.contador"));
+    }
+
+    /**
+     * Prueba que el registro global se publique por JMX.
+     *
+     * @throws Exception Si ocurre un error al consultar el servidor JMX.
+     */
+    @Test
+    public void testJmx() throws Exception {
+        Metricas.publicarEnJmx();
+        Metricas.publicarEnJmx();
+        Metricas.global().contador("prueba.jmx").increment();
+        ObjectName nombre = new ObjectName(Metricas.NOMBRE_JMX);
+        assertTrue(ManagementFactory.getPlatformMBeanServer().isRegistered(nombre));
+        String volcado = (String) ManagementFactory.getPlatformMBeanServer().invoke(nombre, "volcar", null, null);
+        assertTrue(volcado.contains("prueba.jmx 1"), volcado);
+    }
+}
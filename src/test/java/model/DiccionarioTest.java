@@ -0,0 +1,52 @@
+package model;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Clase de pruebas unitarias para la clase {@link Diccionario}.
+ */
+public class DiccionarioTest {
+
+    /**
+     * Prueba que los textos iguales se resuelvan a una misma instancia.
+     */
+    @Test
+    public void testTextosIgualesCompartidos() {
+        Diccionario diccionario = new Diccionario(10);
+        String primero = diccionario.compartido(new String("Fiebre"));
+        String segundo = diccionario.compartido(new String("Fiebre"));
+
+        assertSame(primero, segundo);
+        assertEquals(1, diccionario.size());
+        assertNull(diccionario.compartido(null));
+    }
+
+    /**
+     * Prueba que, con el diccionario lleno, los textos nuevos se devuelvan sin agregarse
+     * y los existentes se sigan compartiendo.
+     */
+    @Test
+    public void testCapacidadMaxima() {
+        Diccionario diccionario = new Diccionario(2);
+        String fiebre = diccionario.compartido("Fiebre");
+        diccionario.compartido("Tos");
+        String nuevo = new String("Mareo");
+
+        assertSame(nuevo, diccionario.compartido(nuevo));
+        assertEquals(2, diccionario.size());
+        assertSame(fiebre, diccionario.compartido(new String("Fiebre")));
+    }
+
+    /**
+     * Prueba la búsqueda de códigos de emergencia a partir de su texto.
+     */
+    @Test
+    public void testBuscarCodigo() {
+        assertEquals(CodigoDeEmergencia.A, CodigoDeEmergencia.buscar("A"));
+        assertEquals(CodigoDeEmergencia.E, CodigoDeEmergencia.buscar('E'));
+        assertNull(CodigoDeEmergencia.buscar("F"));
+        assertNull(CodigoDeEmergencia.buscar("AB"));
+        assertNull(CodigoDeEmergencia.buscar((String) null));
+    }
+}
@@ -0,0 +1,142 @@
+package model;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+import java.time.LocalDateTime;
+import java.util.Random;
+
+/**
+ * Clase de pruebas unitarias para la clase {@link Paciente}.
+ * Verifica el correcto funcionamiento de los métodos y comportamientos de la clase.
+ */
+public class PacienteTest {
+
+    /**
+     * Prueba el constructor y los métodos getter de la clase {@link Paciente}.
+     * Verifica que los valores iniciales se asignen correctamente.
+     */
+    @Test
+    public void testConstructorAndGetters() {
+        LocalDateTime now = LocalDateTime.now();
+        Paciente paciente = new Paciente("Juan Perez", "Dolor de cabeza", "A", now);
+
+        assertEquals("Juan Perez", paciente.getNombreDelPaciente(), "Nombre del paciente incorrecto.");
+        assertEquals("Dolor de cabeza", paciente.getDescripcionDelSintoma(), "Descripción del síntoma incorrecta.");
+        assertEquals("A", paciente.getCodigoDeEmergencia(), "Código de emergencia incorrecto.");
+        assertEquals(now, paciente.getCurrentDateTime(), "Fecha y hora de registro incorrecta.");
+    }
+
+    /**
+     * Prueba el método {@link Paciente#compareTo(Paciente)} para comparar pacientes
+     * por el código de emergencia.
+     * Verifica que los pacientes con códigos de emergencia más altos tengan menor prioridad.
+     */
+    @Test
+    public void testCompareToByCodigoDeEmergencia() {
+        LocalDateTime now = LocalDateTime.now();
+        Paciente paciente1 = new Paciente("Juan Perez", "Dolor de cabeza", "A", now);
+        Paciente paciente2 = new Paciente("Maria Lopez", "Fiebre", "B", now);
+
+        assertTrue(paciente1.compareTo(paciente2) < 0, "Paciente1 debería tener mayor prioridad que Paciente2.");
+        assertTrue(paciente2.compareTo(paciente1) > 0, "Paciente2 debería tener menor prioridad que Paciente1.");
+    }
+
+    /**
+     * Prueba el método {@link Paciente#compareTo(Paciente)} para comparar pacientes
+     * con el mismo código de emergencia pero diferentes fechas/hora de registro.
+     * Verifica que los pacientes registrados antes tengan mayor prioridad.
+     */
+    @Test
+    public void testCompareToByCurrentDateTime() {
+        LocalDateTime earlier = LocalDateTime.now().minusHours(1);
+        LocalDateTime later = LocalDateTime.now();
+        Paciente paciente1 = new Paciente("Juan Perez", "Dolor de cabeza", "A", earlier);
+        Paciente paciente2 = new Paciente("Maria Lopez", "Fiebre", "A", later);
+
+        assertTrue(paciente1.compareTo(paciente2) < 0, "Paciente1 debería tener mayor prioridad por fecha/hora.");
+        assertTrue(paciente2.compareTo(paciente1) > 0, "Paciente2 debería tener menor prioridad por fecha/hora.");
+    }
+
+    /**
+     * Prueba el método {@link Paciente#toString()}.
+     * Verifica que la representación en cadena del paciente sea correcta.
+     */
+    @Test
+    public void testToString() {
+        LocalDateTime now = LocalDateTime.now();
+        Paciente paciente = new Paciente("Juan Perez", "Dolor de cabeza", "A", now);
+
+        String expected = "Juan Perez, Dolor de cabeza, A";
+        assertEquals(expected, paciente.toString(), "La representación en cadena del paciente es incorrecta.");
+    }
+
+    /**
+     * Prueba que la comparación por clave de prioridad coincida con la comparación original
+     * por código de emergencia y fecha/hora, incluyendo empates en microsegundos.
+     */
+    @Test
+    public void testCompareToMatchesCodeThenDateTime() {
+        Random random = new Random(11);
+        LocalDateTime base = LocalDateTime.of(2025, 4, 10, 10, 0);
+        Paciente[] pacientes = new Paciente[200];
+        for (int i = 0; i < pacientes.length; i++) {
+            String codigo = String.valueOf((char) ('A' + random.nextInt(5)));
+            LocalDateTime fecha = base.plusSeconds(random.nextInt(5)).plusNanos(random.nextInt(3) * 400L);
+            pacientes[i] = new Paciente("P" + i, "Sintoma", codigo, fecha);
+        }
+        for (Paciente p1 : pacientes) {
+            for (Paciente p2 : pacientes) {
+                int esperado = p1.getCodigoDeEmergencia().equals(p2.getCodigoDeEmergencia())
+                        ? p1.getCurrentDateTime().compareTo(p2.getCurrentDateTime())
+                        : p1.getCodigoDeEmergencia().compareTo(p2.getCodigoDeEmergencia());
+                assertEquals(Integer.signum(esperado), Integer.signum(p1.compareTo(p2)),
+                        "La comparación por clave debería coincidir con la original.");
+            }
+        }
+    }
+
+    /**
+     * Prueba que un paciente con un código fuera de A a E no tenga clave de prioridad
+     * y se siga comparando correctamente.
+     */
+    @Test
+    public void testCompareToWithoutKey() {
+        LocalDateTime now = LocalDateTime.now();
+        Paciente sinClave = new Paciente("Juan Perez", "Dolor de cabeza", "Z", now);
+        Paciente conClave = new Paciente("Maria Lopez", "Fiebre", "E", now);
+
+        assertEquals(Paciente.SIN_CLAVE, sinClave.getClaveDePrioridad(), "El código Z no debería tener clave.");
+        assertTrue(conClave.getClaveDePrioridad() >= 0, "El código E debería tener clave.");
+        assertTrue(conClave.compareTo(sinClave) < 0, "E debería tener mayor prioridad que Z.");
+    }
+
+    /**
+     * Prueba que el código de emergencia se guarde como constante y se siga devolviendo como texto,
+     * y que los códigos no soportados conserven su texto original.
+     */
+    @Test
+    public void testCodigoComoConstante() {
+        LocalDateTime now = LocalDateTime.now();
+        Paciente desdeTexto = new Paciente("Juan Perez", "Dolor de cabeza", "B", now);
+        Paciente desdeConstante = new Paciente("Maria Lopez", "Fiebre", CodigoDeEmergencia.B, now);
+        Paciente noSoportado = new Paciente("Luis Gomez", "Tos", "Z", now);
+
+        assertEquals(CodigoDeEmergencia.B, desdeTexto.getCodigo());
+        assertEquals("B", desdeConstante.getCodigoDeEmergencia());
+        assertEquals(desdeTexto.getClaveDePrioridad(), desdeConstante.getClaveDePrioridad());
+        assertNull(noSoportado.getCodigo());
+        assertEquals("Z", noSoportado.getCodigoDeEmergencia());
+    }
+
+    /**
+     * Prueba que los pacientes con la misma descripción del síntoma compartan una sola instancia del texto.
+     */
+    @Test
+    public void testSintomaCompartido() {
+        LocalDateTime now = LocalDateTime.now();
+        Paciente primero = new Paciente("Juan Perez", new String("Dolor de pecho"), "A", now);
+        Paciente segundo = new Paciente("Maria Lopez", new String("Dolor de pecho"), "C", now);
+
+        assertSame(primero.getDescripcionDelSintoma(), segundo.getDescripcionDelSintoma());
+    }
+}